@@ -0,0 +1,37 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.buddy.api.commons.transaction.TransactionHooks;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import java.util.Locale;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AccountStatusCache {
+
+    public static final String CACHE_NAME = "accountStatus";
+
+    private final CacheManager cacheManager;
+
+    public AccountStatusDto get(final String email, final Supplier<AccountStatusDto> loader) {
+        return ReadThroughCache.get(cacheManager.getCache(CACHE_NAME), key(email),
+            AccountStatusDto.class, loader);
+    }
+
+    public void evictAfterCommit(final String email) {
+        TransactionHooks.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.evict(key(email));
+            }
+        });
+    }
+
+    private static String key(final String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,148 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.buddy.api.domains.terms.dtos.ActiveTermsEntry;
+import com.buddy.api.domains.terms.dtos.TermsVersionDto;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveTermsCache {
+
+    public static final String CACHE_NAME = "terms";
+    public static final String KEY = "active";
+    public static final Duration TTL = Duration.ofHours(24);
+
+    private static final String LOCK_NAME = CACHE_NAME + ":" + KEY;
+    private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+    private static final long WAIT_STEP_MILLIS = 25;
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    private final CacheManager cacheManager;
+    private final CacheLoadLock cacheLoadLock;
+    private final ReentrantLock localLock = new ReentrantLock();
+
+    public TermsVersionDto get(final Supplier<TermsVersionDto> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        ActiveTermsEntry entry = read(cache);
+        if (entry == null) {
+            return loadOnMiss(cache, loader);
+        }
+        if (shouldRefreshEarly(entry, System.currentTimeMillis())) {
+            return refreshEarly(cache, entry, loader);
+        }
+        return entry.terms();
+    }
+
+    private TermsVersionDto loadOnMiss(final Cache cache,
+                                       final Supplier<TermsVersionDto> loader) {
+        localLock.lock();
+        try {
+            ActiveTermsEntry entry = read(cache);
+            if (entry != null) {
+                return entry.terms();
+            }
+
+            Optional<String> owner = cacheLoadLock.tryAcquire(LOCK_NAME, LOCK_TTL);
+            if (owner.isEmpty()) {
+                entry = awaitOtherNode(cache);
+                if (entry != null) {
+                    return entry.terms();
+                }
+            }
+
+            try {
+                return load(cache, loader);
+            } finally {
+                owner.ifPresent(value -> cacheLoadLock.release(LOCK_NAME, value));
+            }
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private TermsVersionDto refreshEarly(final Cache cache,
+                                         final ActiveTermsEntry stale,
+                                         final Supplier<TermsVersionDto> loader) {
+        if (!localLock.tryLock()) {
+            return stale.terms();
+        }
+        try {
+            Optional<String> owner = cacheLoadLock.tryAcquire(LOCK_NAME, LOCK_TTL);
+            if (owner.isEmpty()) {
+                return stale.terms();
+            }
+            try {
+                log.debug("Refreshing active terms ahead of expiry");
+                return load(cache, loader);
+            } finally {
+                cacheLoadLock.release(LOCK_NAME, owner.get());
+            }
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private ActiveTermsEntry awaitOtherNode(final Cache cache) {
+        long deadline = System.nanoTime() + LOCK_TTL.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(WAIT_STEP_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            ActiveTermsEntry entry = read(cache);
+            if (entry != null || !cacheLoadLock.isHeld(LOCK_NAME)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private TermsVersionDto load(final Cache cache, final Supplier<TermsVersionDto> loader) {
+        long start = System.currentTimeMillis();
+        TermsVersionDto terms = loader.get();
+        long now = System.currentTimeMillis();
+        try {
+            cache.put(KEY, new ActiveTermsEntry(terms, now + TTL.toMillis(), now - start));
+        } catch (DataAccessException e) {
+            log.warn("Could not store active terms in cache '{}': {}", CACHE_NAME, e.getMessage());
+        }
+        return terms;
+    }
+
+    private static ActiveTermsEntry read(final Cache cache) {
+        ActiveTermsEntry entry;
+        try {
+            entry = cache.get(KEY, ActiveTermsEntry.class);
+        } catch (DataAccessException e) {
+            log.warn("Cache '{}' unavailable, querying the database: {}",
+                CACHE_NAME, e.getMessage());
+            return null;
+        }
+        return entry != null && entry.terms() != null ? entry : null;
+    }
+
+    private static boolean shouldRefreshEarly(final ActiveTermsEntry entry, final long now) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = -entry.loadMillis() * EARLY_REFRESH_BETA * Math.log(random);
+        return now + gap >= entry.expiresAt();
+    }
+}
@@ -1,12 +1,19 @@
 package com.buddy.api.commons.configurations.cache;
 
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.authentication.dtos.UserDetailsSnapshot;
+import com.buddy.api.domains.pet.dtos.PetFacetsDto;
+import com.buddy.api.domains.pet.dtos.PetSearchPageDto;
+import com.buddy.api.domains.terms.dtos.ActiveTermsEntry;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.time.Duration;
 import java.util.HashMap;
@@ -14,10 +21,14 @@ import java.util.Map;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -26,8 +37,38 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @EnableCaching
 public class CacheConfig {
 
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+        "emailVerificationToken", Duration.ofMinutes(15),
+        "emailVerificationRateLimit", Duration.ofMinutes(1),
+        ActiveTermsCache.CACHE_NAME, ActiveTermsCache.TTL,
+        PetSearchCache.CACHE_NAME, Duration.ofMinutes(5),
+        PetSearchCache.FACETS_CACHE_NAME, Duration.ofMinutes(5),
+        AccountStatusCache.CACHE_NAME, Duration.ofSeconds(60),
+        UserDetailsCache.CACHE_NAME, Duration.ofMinutes(5)
+    );
+
+    private static final Duration DEFAULT_LOCAL_TTL = Duration.ofMinutes(10);
+    private static final long LOCAL_MAXIMUM_SIZE = 1_000;
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1_024;
+
     @Bean
-    public RedisCacheManager cacheManager(final RedisConnectionFactory redisConnectionFactory) {
+    @Primary
+    public TwoLevelCacheManager cacheManager(
+        final RedisCacheManager redisCacheManager,
+        final StringRedisTemplate stringRedisTemplate,
+        final RedisMessageListenerContainer redisMessageListenerContainer
+    ) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager,
+            stringRedisTemplate, CACHE_TTLS, DEFAULT_LOCAL_TTL, LOCAL_MAXIMUM_SIZE);
+        redisMessageListenerContainer.addMessageListener(cacheManager,
+            new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisCacheManager redisCacheManager(
+        final RedisConnectionFactory redisConnectionFactory
+    ) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -64,18 +105,44 @@ public class CacheConfig {
                 RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer));
 
         Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
-        cacheConfigs.put("emailVerificationToken", defaultConfig.entryTtl(Duration.ofMinutes(15)));
-        cacheConfigs.put("emailVerificationRateLimit",
-            defaultConfig.entryTtl(Duration.ofMinutes(1)));
+        CACHE_TTLS.forEach((name, ttl) -> cacheConfigs.put(name, defaultConfig.entryTtl(ttl)));
 
-        cacheConfigs.put("terms", defaultConfig.entryTtl(Duration.ofHours(24)));
+        ObjectMapper compactMapper = compactMapper();
+        cacheConfigs.computeIfPresent("emailVerificationToken",
+            (name, config) -> typed(config, compactMapper, String.class));
+        cacheConfigs.computeIfPresent(ActiveTermsCache.CACHE_NAME,
+            (name, config) -> typed(config, compactMapper, ActiveTermsEntry.class));
+        cacheConfigs.computeIfPresent(PetSearchCache.CACHE_NAME,
+            (name, config) -> typed(config, compactMapper, PetSearchPageDto.class));
+        cacheConfigs.computeIfPresent(PetSearchCache.FACETS_CACHE_NAME,
+            (name, config) -> typed(config, compactMapper, PetFacetsDto.class));
+        cacheConfigs.computeIfPresent(AccountStatusCache.CACHE_NAME,
+            (name, config) -> typed(config, compactMapper, AccountStatusDto.class));
+        cacheConfigs.computeIfPresent(UserDetailsCache.CACHE_NAME,
+            (name, config) -> typed(config, compactMapper, UserDetailsSnapshot.class));
 
         return RedisCacheManager.builder(redisConnectionFactory)
             .cacheDefaults(defaultConfig)
             .withInitialCacheConfigurations(cacheConfigs)
+            .enableStatistics()
             .build();
     }
 
+    private <T> RedisCacheConfiguration typed(final RedisCacheConfiguration config,
+                                              final ObjectMapper compactMapper,
+                                              final Class<T> type) {
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair
+            .fromSerializer(new CompactRedisSerializer<>(compactMapper, type,
+                COMPRESSION_THRESHOLD_BYTES)));
+    }
+
+    private ObjectMapper compactMapper() {
+        ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return objectMapper;
+    }
+
     @Bean
     public RedisTemplate<String, String> redisTemplate(
         final RedisConnectionFactory connectionFactory
@@ -86,4 +153,13 @@ public class CacheConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        final RedisConnectionFactory connectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
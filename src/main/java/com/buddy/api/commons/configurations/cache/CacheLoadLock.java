@@ -0,0 +1,54 @@
+package com.buddy.api.commons.configurations.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheLoadLock {
+
+    public static final String KEY_PREFIX = "cache-load-lock:";
+
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+        new ClassPathResource("scripts/cache/release-lock.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<String> tryAcquire(final String name, final Duration ttl) {
+        final String owner = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + name, owner, ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(owner) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Cache load lock unavailable, loading without it: {}", e.getMessage());
+            return Optional.of(owner);
+        }
+    }
+
+    public boolean isHeld(final String name) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + name));
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    public void release(final String name, final String owner) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(KEY_PREFIX + name), owner);
+        } catch (DataAccessException e) {
+            log.warn("Could not release cache load lock '{}': {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+@Slf4j
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    public static final byte MAGIC = (byte) 0xB7;
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+    private static final int HEADER_SIZE = 3;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ObjectMapper mapper;
+    private final JavaType type;
+    private final int compressionThreshold;
+
+    public CompactRedisSerializer(final ObjectMapper mapper,
+                                  final Class<T> type,
+                                  final int compressionThreshold) {
+        this.mapper = mapper;
+        this.type = mapper.constructType(type);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(final T value) {
+        if (value == null) {
+            return EMPTY;
+        }
+
+        try {
+            byte[] payload = mapper.writeValueAsBytes(value);
+            byte encoding = PLAIN;
+            if (payload.length >= compressionThreshold) {
+                byte[] deflated = deflate(payload);
+                if (deflated.length < payload.length) {
+                    payload = deflated;
+                    encoding = DEFLATED;
+                }
+            }
+
+            byte[] envelope = new byte[HEADER_SIZE + payload.length];
+            envelope[0] = MAGIC;
+            envelope[1] = FORMAT_VERSION;
+            envelope[2] = encoding;
+            System.arraycopy(payload, 0, envelope, HEADER_SIZE, payload.length);
+            return envelope;
+        } catch (IOException ex) {
+            throw new SerializationException("Could not encode " + type + " for Redis", ex);
+        }
+    }
+
+    @Override
+    public T deserialize(final byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC || bytes[1] != FORMAT_VERSION) {
+            log.debug("Discarding cached {} written with an unsupported format", type);
+            return null;
+        }
+
+        try {
+            if (bytes[2] == DEFLATED) {
+                return mapper.readValue(inflate(bytes), type);
+            }
+            return mapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, type);
+        } catch (IOException ex) {
+            throw new SerializationException("Could not decode " + type + " from Redis", ex);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type.getRawClass();
+    }
+
+    private static byte[] deflate(final byte[] payload) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+        try (DeflaterOutputStream stream = new DeflaterOutputStream(out, deflater)) {
+            stream.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(final byte[] envelope) throws IOException {
+        try (InflaterInputStream stream = new InflaterInputStream(new ByteArrayInputStream(
+            envelope, HEADER_SIZE, envelope.length - HEADER_SIZE))) {
+            return stream.readAllBytes();
+        }
+    }
+}
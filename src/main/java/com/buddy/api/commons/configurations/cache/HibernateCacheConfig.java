@@ -0,0 +1,66 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.buddy.api.commons.configurations.properties.HibernateCacheProperties;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class HibernateCacheConfig {
+
+    private static final String MISSING_CACHE_FAIL = "fail";
+
+    private final HibernateCacheProperties properties;
+
+    // Regions are per-node Caffeine caches with no cross-node invalidation: a READ_WRITE
+    // entity region only sees writes made through its own node and may serve a changed row
+    // until its TTL expires. Only entities that tolerate that are cached, and the query cache
+    // stays off. Data that must be consistent across nodes belongs in the Redis-backed caches.
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY,
+                JCacheRegionFactory.class.getName());
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, regionCacheManager());
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MISSING_CACHE_FAIL);
+        };
+    }
+
+    private CacheManager regionCacheManager() {
+        CacheManager cacheManager = Caching
+            .getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+        properties.regions().forEach((name, region) -> {
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration(region));
+            }
+        });
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(
+        final HibernateCacheProperties.Region region
+    ) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+        if (region.ttlSeconds() != null) {
+            configuration.setExpireAfterWrite(
+                OptionalLong.of(TimeUnit.SECONDS.toNanos(region.ttlSeconds())));
+        }
+        return configuration;
+    }
+}
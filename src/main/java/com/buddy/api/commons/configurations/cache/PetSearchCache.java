@@ -0,0 +1,100 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.buddy.api.commons.hashing.Hashes;
+import com.buddy.api.domains.pet.dtos.PetFacetsDto;
+import com.buddy.api.domains.pet.dtos.PetSearchPageDto;
+import com.buddy.api.domains.pet.specifications.PetSpecifications;
+import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PetSearchCache {
+
+    public static final String CACHE_NAME = "petSearch";
+    public static final String FACETS_CACHE_NAME = "petFacets";
+
+    private static final String KEY_SEPARATOR = ":";
+    private static final String FIELD_SEPARATOR = "|";
+
+    private final CacheManager cacheManager;
+    private final ResourceVersions resourceVersions;
+
+    public PetSearchPageDto get(final PetSearchCriteriaRequest criteria,
+                                final Pageable pageable,
+                                final Supplier<PetSearchPageDto> loader) {
+        return getOrLoad(CACHE_NAME, fingerprint(criteria, pageable),
+            PetSearchPageDto.class, loader);
+    }
+
+    public PetFacetsDto getFacets(final PetSearchCriteriaRequest criteria,
+                                  final Supplier<PetFacetsDto> loader) {
+        return getOrLoad(FACETS_CACHE_NAME, fingerprint(criteria, Pageable.unpaged()),
+            PetFacetsDto.class, loader);
+    }
+
+    public void invalidate() {
+        resourceVersions.bumpAfterCommit(ResourceVersions.PETS);
+    }
+
+    public static String fingerprint(final PetSearchCriteriaRequest criteria,
+                                     final Pageable pageable) {
+        String canonical = String.join(FIELD_SEPARATOR,
+            String.valueOf(criteria.id()),
+            String.valueOf(criteria.shelterId()),
+            normalize(criteria.name()),
+            String.valueOf(criteria.species()),
+            String.valueOf(criteria.gender()),
+            String.valueOf(criteria.ageRange()),
+            String.valueOf(criteria.birthDate()),
+            normalize(criteria.location()),
+            String.valueOf(criteria.weightRange()),
+            normalize(criteria.description()),
+            normalizeQuery(criteria.query()),
+            pageable.isPaged()
+                ? pageable.getPageNumber() + FIELD_SEPARATOR + pageable.getPageSize()
+                : "unpaged",
+            pageable.getSort().toString()
+        );
+        return Hashes.sha256Hex(canonical);
+    }
+
+    private <T> T getOrLoad(final String cacheName,
+                            final String fingerprint,
+                            final Class<T> type,
+                            final Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        Optional<String> generation = resourceVersions.generation(ResourceVersions.PETS);
+        if (generation.isEmpty()) {
+            return loader.get();
+        }
+
+        return ReadThroughCache.get(cache, generation.get() + KEY_SEPARATOR + fingerprint,
+            type, loader);
+    }
+
+    private static String normalize(final String value) {
+        return value == null ? "null" : PetSpecifications.normalizeSearchTerm(value);
+    }
+
+    private static String normalizeQuery(final String query) {
+        if (query == null) {
+            return "null";
+        }
+        return Arrays.stream(query.trim().split("\\s+"))
+            .map(PetSpecifications::normalizeSearchTerm)
+            .collect(Collectors.joining(" "));
+    }
+}
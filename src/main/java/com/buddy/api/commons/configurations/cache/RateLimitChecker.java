@@ -1,32 +1,34 @@
 package com.buddy.api.commons.configurations.cache;
 
 import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.RateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
 import com.buddy.api.commons.exceptions.TooManyRequestsException;
 import java.time.Duration;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class RateLimitChecker {
-    private static final String RATE_LIMIT_COUNT_KEY_PREFIX = "rate-limit:count:";
+    private static final String EMAIL_VERIFICATION_LIMIT = "email-verification";
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiter rateLimiter;
     private final RateLimitProperties rateLimitProperties;
 
     public void checkRateLimit(final String email, final UUID accountId) {
-        String countKey = RATE_LIMIT_COUNT_KEY_PREFIX + email;
-        Long count = redisTemplate.opsForValue().increment(countKey, 1);
+        final var rule = RateLimitProperties.Rule.builder()
+            .algorithm(RateLimitAlgorithm.SLIDING_WINDOW)
+            .keyType(RateLimitKeyType.EMAIL)
+            .capacity(rateLimitProperties.maxAttempts())
+            .windowSeconds(Duration.ofMinutes(rateLimitProperties.windowMinutes()).toSeconds())
+            .build();
 
-        if (count != null && count == 1) {
-            redisTemplate.expire(countKey, Duration.ofMinutes(rateLimitProperties.windowMinutes()));
-        }
-
-        if (count != null && count > rateLimitProperties.maxAttempts()) {
+        if (!rateLimiter.tryAcquire(EMAIL_VERIFICATION_LIMIT, rule, email)) {
             log.warn("Rate limit exceeded for email verification request for account={}",
                 accountId
             );
@@ -0,0 +1,43 @@
+package com.buddy.api.commons.configurations.cache;
+
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+
+@Slf4j
+public final class ReadThroughCache {
+
+    private ReadThroughCache() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static <T> T get(final Cache cache,
+                            final Object key,
+                            final Class<T> type,
+                            final Supplier<T> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+
+        T cached;
+        try {
+            cached = cache.get(key, type);
+        } catch (DataAccessException e) {
+            log.warn("Cache '{}' unavailable, querying the database: {}",
+                cache.getName(), e.getMessage());
+            return loader.get();
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        T result = loader.get();
+        try {
+            cache.put(key, result);
+        } catch (DataAccessException e) {
+            log.warn("Could not store result in cache '{}': {}", cache.getName(), e.getMessage());
+        }
+        return result;
+    }
+}
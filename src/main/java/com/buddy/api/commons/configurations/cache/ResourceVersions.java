@@ -0,0 +1,89 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.buddy.api.commons.transaction.TransactionHooks;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceVersions {
+
+    public static final String PETS = "pets";
+
+    private static final String KEY_PREFIX = "resource-version:";
+    private static final String GENERATION_SUFFIX = ":generation";
+    private static final String STAMP_SUFFIX = ":stamp";
+    private static final String SEPARATOR = "|";
+    private static final String INITIAL_GENERATION = "0";
+    private static final Duration STAMP_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<String> generation(final String resource) {
+        try {
+            return Optional.of(Objects.requireNonNullElse(
+                redisTemplate.opsForValue().get(generationKey(resource)), INITIAL_GENERATION
+            ));
+        } catch (DataAccessException e) {
+            log.warn("Generation of '{}' unavailable: {}", resource, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void bumpAfterCommit(final String resource) {
+        TransactionHooks.afterCommit(() -> {
+            try {
+                Long generation = redisTemplate.opsForValue().increment(generationKey(resource));
+                log.debug("Resource '{}' moved to generation {}", resource, generation);
+            } catch (DataAccessException e) {
+                log.error("Could not bump generation of '{}', cached entries stay until they "
+                    + "expire: {}", resource, e.getMessage());
+            }
+        });
+    }
+
+    public VersionStamp stamp(final String resource, final Supplier<VersionStamp> loader) {
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue()
+                .multiGet(List.of(generationKey(resource), stampKey(resource)));
+        } catch (DataAccessException e) {
+            log.warn("Version stamp of '{}' unavailable, loading it: {}",
+                resource, e.getMessage());
+            return loader.get();
+        }
+        String generation = values != null && values.get(0) != null
+            ? values.get(0) : INITIAL_GENERATION;
+        String stored = values != null ? values.get(1) : null;
+
+        if (stored != null && stored.startsWith(generation + SEPARATOR)) {
+            return VersionStamp.decode(stored.substring(generation.length() + 1));
+        }
+
+        VersionStamp stamp = loader.get();
+        try {
+            redisTemplate.opsForValue()
+                .set(stampKey(resource), generation + SEPARATOR + stamp.encode(), STAMP_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Could not store version stamp of '{}': {}", resource, e.getMessage());
+        }
+        return stamp;
+    }
+
+    private static String generationKey(final String resource) {
+        return KEY_PREFIX + resource + GENERATION_SUFFIX;
+    }
+
+    private static String stampKey(final String resource) {
+        return KEY_PREFIX + resource + STAMP_SUFFIX;
+    }
+}
@@ -1,5 +1,10 @@
 package com.buddy.api.commons.configurations.cache;
 
+import com.buddy.api.commons.configurations.properties.VerificationTokenProperties;
+import com.buddy.api.commons.configurations.security.verification.ConsumedTokenSet;
+import com.buddy.api.commons.configurations.security.verification.SignedVerificationTokenCodec;
+import com.buddy.api.commons.configurations.security.verification.VerificationTokenClaims;
+import com.buddy.api.commons.configurations.security.verification.enums.VerificationTokenMode;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import jakarta.annotation.PostConstruct;
 import java.util.UUID;
@@ -13,21 +18,31 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TokenManager {
     private final CacheInitializer cacheInitializer;
+    private final VerificationTokenProperties verificationTokenProperties;
+    private final SignedVerificationTokenCodec signedTokenCodec;
+    private final ConsumedTokenSet consumedTokens;
     private Cache verificationTokenCache;
+    private boolean signed;
 
     @PostConstruct
     public void init() {
+        this.signed = verificationTokenProperties.mode() == VerificationTokenMode.SIGNED;
         this.verificationTokenCache = cacheInitializer.initializeVerificationTokenCache();
     }
 
-    public String generateAndStoreToken(final String userEmail) {
+    public String generateAndStoreToken(final UUID accountId, final String userEmail) {
+        if (signed) {
+            return signedTokenCodec.issue(accountId, userEmail);
+        }
         String token = UUID.randomUUID().toString();
         verificationTokenCache.put(token, userEmail);
         return token;
     }
 
     public String validateAndGetTokenEmail(final String token, final UUID accountId) {
-        String email = verificationTokenCache.get(token, String.class);
+        String email = signed
+            ? consumeSignedToken(token, accountId)
+            : verificationTokenCache.get(token, String.class);
         if (email == null) {
             log.warn("Invalid or expired token for account={}. Token: {}",
                 accountId, token.substring(0, Math.min(token.length(), 8)) + "...");
@@ -37,6 +52,16 @@ public class TokenManager {
     }
 
     public void evictToken(final String token) {
-        verificationTokenCache.evict(token);
+        if (!signed) {
+            verificationTokenCache.evict(token);
+        }
+    }
+
+    private String consumeSignedToken(final String token, final UUID accountId) {
+        return signedTokenCodec.decode(token)
+            .filter(claims -> claims.accountId().equals(accountId))
+            .filter(claims -> consumedTokens.consume(claims.tokenId(), claims.expiresAt()))
+            .map(VerificationTokenClaims::email)
+            .orElse(null);
     }
 }
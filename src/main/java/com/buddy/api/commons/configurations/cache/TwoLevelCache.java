@@ -0,0 +1,134 @@
+package com.buddy.api.commons.configurations.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final TwoLevelCacheManager manager;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    TwoLevelCache(final String name,
+                  final Cache remote,
+                  final com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                  final TwoLevelCacheManager manager) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        long observed = invalidations.get();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            remember(localKey, wrapper.get(), observed);
+        }
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(final Object key, final Class<T> type) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value == null) {
+            long observed = invalidations.get();
+            value = remote.get(key, type);
+            remember(localKey, value, observed);
+        }
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        @SuppressWarnings("unchecked")
+        T result = (T) value;
+        return result;
+    }
+
+    @Override
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value == null) {
+            long observed = invalidations.get();
+            value = remote.get(key, valueLoader);
+            remember(localKey, value, observed);
+        }
+
+        @SuppressWarnings("unchecked")
+        T result = (T) value;
+        return result;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        remote.put(key, value);
+        invalidateLocal(localKey(key));
+        manager.publishEviction(name, localKey(key));
+        if (value != null) {
+            local.put(localKey(key), value);
+        }
+    }
+
+    @Override
+    public void evict(final Object key) {
+        remote.evict(key);
+        invalidateLocal(localKey(key));
+        manager.publishEviction(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        manager.publishClear(name);
+    }
+
+    void invalidateLocal(final String key) {
+        invalidations.incrementAndGet();
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    private void remember(final String key, final Object value, final long observed) {
+        if (value == null) {
+            return;
+        }
+        local.put(key, value);
+        if (invalidations.get() != observed) {
+            local.invalidate(key);
+        }
+    }
+
+    private static String localKey(final Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,105 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidations";
+
+    private static final String SEPARATOR = "|";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+    private static final int MESSAGE_PARTS = 4;
+
+    private final CacheManager remote;
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, Duration> localTtls;
+    private final Duration defaultLocalTtl;
+    private final long localMaximumSize;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(final CacheManager remote,
+                                final StringRedisTemplate redisTemplate,
+                                final Map<String, Duration> localTtls,
+                                final Duration defaultLocalTtl,
+                                final long localMaximumSize) {
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.localTtls = Map.copyOf(localTtls);
+        this.defaultLocalTtl = defaultLocalTtl;
+        this.localMaximumSize = localMaximumSize;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new TwoLevelCache(key, remoteCache,
+            Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtls.getOrDefault(key, defaultLocalTtl))
+                .build(),
+            this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8)
+            .split("\\" + SEPARATOR, MESSAGE_PARTS);
+        if (parts.length != MESSAGE_PARTS || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.invalidateLocal(parts[3]);
+        }
+        log.debug("Dropped local copy of '{}' in cache '{}'", parts[3], parts[2]);
+    }
+
+    void publishEviction(final String cacheName, final String key) {
+        publish(EVICT, cacheName, key);
+    }
+
+    void publishClear(final String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    private void publish(final String operation, final String cacheName, final String key) {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+            String.join(SEPARATOR, nodeId, operation, cacheName, key));
+    }
+}
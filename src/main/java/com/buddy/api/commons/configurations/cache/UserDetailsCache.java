@@ -0,0 +1,40 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.buddy.api.commons.transaction.TransactionHooks;
+import com.buddy.api.domains.authentication.dtos.UserDetailsSnapshot;
+import java.util.Locale;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache {
+
+    public static final String CACHE_NAME = "userDetails";
+
+    private final CacheManager cacheManager;
+
+    public UserDetailsSnapshot get(final String email,
+                                   final Supplier<UserDetailsSnapshot> loader) {
+        return ReadThroughCache.get(cacheManager.getCache(CACHE_NAME), key(email),
+            UserDetailsSnapshot.class, loader);
+    }
+
+    public void evictAfterCommit(final String email) {
+        TransactionHooks.afterCommit(() -> evict(email));
+    }
+
+    public void evict(final String email) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(key(email));
+        }
+    }
+
+    private static String key(final String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
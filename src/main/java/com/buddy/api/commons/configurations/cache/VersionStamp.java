@@ -0,0 +1,28 @@
+package com.buddy.api.commons.configurations.cache;
+
+import com.buddy.api.commons.hashing.Hashes;
+
+public record VersionStamp(long lastModified, String fingerprint) {
+
+    public static final long UNKNOWN_LAST_MODIFIED = -1L;
+
+    private static final String SEPARATOR = "|";
+    private static final int ETAG_LENGTH = 32;
+
+    public String etag(final String variant) {
+        return "\"" + Hashes.sha256Hex(fingerprint + SEPARATOR + variant)
+            .substring(0, ETAG_LENGTH) + "\"";
+    }
+
+    public String encode() {
+        return lastModified + SEPARATOR + fingerprint;
+    }
+
+    public static VersionStamp decode(final String value) {
+        int separatorIndex = value.indexOf(SEPARATOR);
+        return new VersionStamp(
+            Long.parseLong(value.substring(0, separatorIndex)),
+            value.substring(separatorIndex + 1)
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.buddy.api.commons.configurations.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "buddy.email-outbox")
+@Builder
+public record EmailOutboxProperties(
+    @NotNull(message = "batchSize is required")
+    @Positive(message = "batchSize must be positive") Integer batchSize,
+    @NotNull(message = "maxRecipientsPerRequest is required")
+    @Positive(message = "maxRecipientsPerRequest must be positive")
+    Integer maxRecipientsPerRequest,
+    @NotNull(message = "pollIntervalMillis is required")
+    @Positive(message = "pollIntervalMillis must be positive") Long pollIntervalMillis,
+    @NotNull(message = "maxAttempts is required")
+    @Positive(message = "maxAttempts must be positive") Integer maxAttempts,
+    @NotNull(message = "leaseSeconds is required")
+    @Positive(message = "leaseSeconds must be positive") Long leaseSeconds,
+    @NotNull(message = "initialBackoffSeconds is required")
+    @Positive(message = "initialBackoffSeconds must be positive") Long initialBackoffSeconds,
+    @NotNull(message = "maxBackoffSeconds is required")
+    @Positive(message = "maxBackoffSeconds must be positive") Long maxBackoffSeconds,
+    @NotNull(message = "retentionDays is required")
+    @Positive(message = "retentionDays must be positive") Integer retentionDays
+) { }
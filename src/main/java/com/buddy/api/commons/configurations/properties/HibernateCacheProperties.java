@@ -0,0 +1,25 @@
+package com.buddy.api.commons.configurations.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.Map;
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "buddy.hibernate-cache")
+@Builder
+public record HibernateCacheProperties(
+    @NotEmpty(message = "regions are required") Map<String, @Valid Region> regions
+) {
+
+    @Builder
+    public record Region(
+        @NotNull(message = "maximumSize is required")
+        @Positive(message = "maximumSize must be positive") Long maximumSize,
+        @Positive(message = "ttlSeconds must be positive") Long ttlSeconds
+    ) { }
+}
@@ -1,6 +1,8 @@
 package com.buddy.api.commons.configurations.properties;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -14,5 +16,9 @@ public record ManagerApiProperties(
     @NotBlank(message = "ipAddress is required") String ipAddress,
     @NotBlank(message = "username is required") String username,
     @NotBlank(message = "password is required") String password,
-    @NotBlank(message = "appId is required") String appId
+    @NotBlank(message = "appId is required") String appId,
+    @NotNull(message = "connectTimeoutMillis is required")
+    @Positive(message = "connectTimeoutMillis must be positive") Long connectTimeoutMillis,
+    @NotNull(message = "readTimeoutMillis is required")
+    @Positive(message = "readTimeoutMillis must be positive") Long readTimeoutMillis
 ) {}
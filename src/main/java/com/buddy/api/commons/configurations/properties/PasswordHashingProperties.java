@@ -0,0 +1,17 @@
+package com.buddy.api.commons.configurations.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "buddy.password-hashing")
+@Builder
+public record PasswordHashingProperties(
+    @NotNull(message = "poolSize is required")
+    @Positive(message = "poolSize must be positive") Integer poolSize,
+    @NotNull(message = "queueCapacity is required")
+    @Positive(message = "queueCapacity must be positive") Integer queueCapacity
+) { }
@@ -1,6 +1,11 @@
 package com.buddy.api.commons.configurations.properties;
 
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.Map;
 import lombok.Builder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -10,5 +15,29 @@ import org.springframework.validation.annotation.Validated;
 @Builder
 public record RateLimitProperties(
     @NotNull(message = "maxAttempts is required") Integer maxAttempts,
-    @NotNull(message = "windowMinutes is required") Integer windowMinutes
-) { }
+    @NotNull(message = "windowMinutes is required") Integer windowMinutes,
+    @NotNull(message = "local is required") @Valid Local local,
+    @NotNull(message = "rules is required") Map<String, @Valid Rule> rules
+) {
+
+    @Builder
+    public record Local(
+        @NotNull(message = "enabled is required") Boolean enabled,
+        @NotNull(message = "maxKeys is required")
+        @Positive(message = "maxKeys must be positive") Long maxKeys,
+        @NotNull(message = "idleSeconds is required")
+        @Positive(message = "idleSeconds must be positive") Long idleSeconds
+    ) { }
+
+    @Builder
+    public record Rule(
+        String path,
+        String method,
+        @NotNull(message = "algorithm is required") RateLimitAlgorithm algorithm,
+        @NotNull(message = "keyType is required") RateLimitKeyType keyType,
+        @NotNull(message = "capacity is required")
+        @Positive(message = "capacity must be positive") Integer capacity,
+        @NotNull(message = "windowSeconds is required")
+        @Positive(message = "windowSeconds must be positive") Long windowSeconds
+    ) { }
+}
@@ -0,0 +1,21 @@
+package com.buddy.api.commons.configurations.properties;
+
+import com.buddy.api.commons.configurations.security.verification.enums.VerificationTokenMode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "buddy.verification-token")
+@Builder
+public record VerificationTokenProperties(
+    @NotNull(message = "mode is required") VerificationTokenMode mode,
+    @NotBlank(message = "secretKey is required")
+    @Size(min = 32, message = "secretKey must have at least 32 characters") String secretKey,
+    @NotNull(message = "ttlMinutes is required")
+    @Positive(message = "ttlMinutes must be positive") Long ttlMinutes
+) { }
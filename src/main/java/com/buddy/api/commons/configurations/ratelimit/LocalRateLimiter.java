@@ -0,0 +1,78 @@
+package com.buddy.api.commons.configurations.ratelimit;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LocalRateLimiter {
+
+    private final boolean enabled;
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalRateLimiter(final RateLimitProperties properties) {
+        this.enabled = properties.local().enabled();
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.local().maxKeys())
+            .expireAfterAccess(Duration.ofSeconds(properties.local().idleSeconds()))
+            .build();
+    }
+
+    public boolean tryAcquire(final String key, final RateLimitProperties.Rule rule) {
+        if (!appliesTo(rule)) {
+            return true;
+        }
+        final long now = System.nanoTime();
+        return buckets.get(key, ignored -> new TokenBucket(rule.capacity(), now))
+            .tryConsume(rule, now);
+    }
+
+    public void refund(final String key, final RateLimitProperties.Rule rule) {
+        if (!appliesTo(rule)) {
+            return;
+        }
+        final TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket != null) {
+            bucket.refund(rule.capacity());
+        }
+    }
+
+    // Only token buckets are mirrored: with refunds for requests Redis rejects, a node's bucket
+    // never holds fewer tokens than the shared one. A token bucket can still be stricter than
+    // a sliding window with the same settings, so sliding-window rules are left to Redis.
+    private boolean appliesTo(final RateLimitProperties.Rule rule) {
+        return enabled && rule.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET;
+    }
+
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(final double tokens, final long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private synchronized boolean tryConsume(final RateLimitProperties.Rule rule,
+                                                final long now) {
+            final double capacity = rule.capacity();
+            final double window = TimeUnit.SECONDS.toNanos(rule.windowSeconds());
+            tokens = Math.min(capacity, tokens + Math.max(0, now - refilledAt) * capacity / window);
+            refilledAt = Math.max(refilledAt, now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        private synchronized void refund(final double capacity) {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.buddy.api.commons.configurations.ratelimit;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
+import com.buddy.api.commons.exceptions.TooManyRequestsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTION_MESSAGE = "Too many requests. Please try again later.";
+
+    private final RateLimiter rateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final List<RouteLimit> routeLimits;
+
+    public RateLimitFilter(
+        final RateLimiter rateLimiter,
+        final RateLimitProperties rateLimitProperties,
+        @Qualifier("handlerExceptionResolver")
+        final HandlerExceptionResolver handlerExceptionResolver
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.routeLimits = rateLimitProperties.rules().entrySet().stream()
+            .filter(entry -> entry.getValue().path() != null)
+            .map(entry -> RouteLimit.of(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        for (RouteLimit routeLimit : routeLimits) {
+            if (routeLimit.matches(request) && !acquire(routeLimit, request)) {
+                log.warn("Rate limit '{}' exceeded for {}", routeLimit.name(),
+                    request.getRequestURI());
+                handlerExceptionResolver.resolveException(request, response, null,
+                    new TooManyRequestsException(REJECTION_MESSAGE));
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean acquire(final RouteLimit routeLimit, final HttpServletRequest request) {
+        final String key = resolveKey(routeLimit.rule().keyType(), request);
+        return key == null || rateLimiter.tryAcquire(routeLimit.name(), routeLimit.rule(), key);
+    }
+
+    private String resolveKey(final RateLimitKeyType keyType, final HttpServletRequest request) {
+        return switch (keyType) {
+            case IP -> request.getRemoteAddr();
+            case ACCOUNT -> authenticatedName();
+            case EMAIL -> null;
+        };
+    }
+
+    private String authenticatedName() {
+        final Authentication authentication =
+            SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private record RouteLimit(String name,
+                              RateLimitProperties.Rule rule,
+                              PathPattern pattern) {
+
+        private static RouteLimit of(final String name, final RateLimitProperties.Rule rule) {
+            if (rule.keyType() == RateLimitKeyType.EMAIL) {
+                throw new IllegalStateException(
+                    "Rate limit '" + name + "' is keyed by email and cannot be bound to a path");
+            }
+            return new RouteLimit(name, rule, PathPatternParser.defaultInstance.parse(rule.path()));
+        }
+
+        private boolean matches(final HttpServletRequest request) {
+            return (rule.method() == null || rule.method().equalsIgnoreCase(request.getMethod()))
+                && pattern.matches(PathContainer.parsePath(request.getRequestURI()));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.buddy.api.commons.configurations.ratelimit;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.exceptions.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private final LocalRateLimiter localRateLimiter;
+    private final RedisRateLimiter redisRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+
+    public boolean tryAcquire(final String name,
+                              final RateLimitProperties.Rule rule,
+                              final String key) {
+        final String bucketKey = name + ":" + key;
+        if (!localRateLimiter.tryAcquire(bucketKey, rule)) {
+            log.debug("Rate limit '{}' rejected locally", name);
+            return false;
+        }
+        if (!redisRateLimiter.tryAcquire(bucketKey, rule)) {
+            localRateLimiter.refund(bucketKey, rule);
+            return false;
+        }
+        return true;
+    }
+
+    public void check(final String name, final String key, final String message) {
+        final RateLimitProperties.Rule rule = rateLimitProperties.rules().get(name);
+        if (rule == null) {
+            return;
+        }
+        if (!tryAcquire(name, rule, key)) {
+            log.warn("Rate limit '{}' exceeded", name);
+            throw new TooManyRequestsException(message);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.buddy.api.commons.configurations.ratelimit;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter {
+
+    public static final String KEY_PREFIX = "rate-limit:";
+
+    private static final Long ALLOWED = 1L;
+    private static final RedisScript<Long> TOKEN_BUCKET = RedisScript.of(
+        new ClassPathResource("scripts/rate-limit/token-bucket.lua"), Long.class);
+    private static final RedisScript<Long> SLIDING_WINDOW = RedisScript.of(
+        new ClassPathResource("scripts/rate-limit/sliding-window.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean tryAcquire(final String key, final RateLimitProperties.Rule rule) {
+        final List<String> keys = List.of(KEY_PREFIX + key);
+        final String capacity = String.valueOf(rule.capacity());
+        final String window = String.valueOf(Duration.ofSeconds(rule.windowSeconds()).toMillis());
+        final String now = String.valueOf(System.currentTimeMillis());
+        try {
+            final Long result = switch (rule.algorithm()) {
+                case TOKEN_BUCKET -> redisTemplate.execute(
+                    TOKEN_BUCKET, keys, capacity, window, now);
+                case SLIDING_WINDOW -> redisTemplate.execute(
+                    SLIDING_WINDOW, keys, capacity, window, now, now + ":" + UUID.randomUUID());
+            };
+            return ALLOWED.equals(result);
+        } catch (DataAccessException e) {
+            log.warn("Rate limit check unavailable, allowing request: {}", e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.buddy.api.commons.configurations.ratelimit.enums;
+
+public enum RateLimitKeyType {
+    IP, ACCOUNT, EMAIL
+}
@@ -1,5 +1,7 @@
 package com.buddy.api.commons.configurations.security;
 
+import com.buddy.api.commons.configurations.properties.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,7 +10,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class AccountPasswordEncoderProvider {
     @Bean
-    public PasswordEncoder accountPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder accountPasswordEncoder(final PasswordHashingProperties properties,
+                                                  final MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), properties, meterRegistry);
     }
 }
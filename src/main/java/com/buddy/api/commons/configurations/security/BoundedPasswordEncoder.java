@@ -0,0 +1,109 @@
+package com.buddy.api.commons.configurations.security;
+
+import com.buddy.api.commons.configurations.properties.PasswordHashingProperties;
+import com.buddy.api.commons.exceptions.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    static final String HASHING_METRIC = "buddy.password.hashing";
+    static final String QUEUE_WAIT_METRIC = HASHING_METRIC + ".queue.wait";
+    static final String QUEUE_SIZE_METRIC = HASHING_METRIC + ".queue.size";
+    static final String REJECTED_METRIC = HASHING_METRIC + ".rejected";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(final PasswordEncoder delegate,
+                                  final PasswordHashingProperties properties,
+                                  final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+            properties.poolSize(),
+            properties.poolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = Timer.builder(HASHING_METRIC)
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASHING_METRIC)
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(QUEUE_WAIT_METRIC).register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC).register(meterRegistry);
+        Gauge.builder(QUEUE_SIZE_METRIC, executor, pool -> pool.getQueue().size())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T hash(final Supplier<T> hashing, final Timer timer) {
+        final long queuedAt = System.nanoTime();
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing pool is saturated, rejecting request");
+            throw new PasswordHashingUnavailableException(e);
+        }
+        return await(future);
+    }
+
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.buddy.api.commons.configurations.security;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
+import com.buddy.api.commons.configurations.ratelimit.RateLimitFilter;
 import com.buddy.api.commons.configurations.security.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +23,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(final HttpSecurity http) throws Exception {
@@ -42,6 +44,7 @@ public class SecurityConfig {
                     "/v1/auth/**",
                     "/v1/accounts/register",
                     "/v1/pets/**",
+                    "/v2/pets",
                     "/v1/shelters/**",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
@@ -57,7 +60,8 @@ public class SecurityConfig {
                     "/v1/terms/active")
                 .permitAll()
                 .anyRequest().authenticated())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
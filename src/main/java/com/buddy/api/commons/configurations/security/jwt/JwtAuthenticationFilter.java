@@ -1,5 +1,6 @@
 package com.buddy.api.commons.configurations.security.jwt;
 
+import com.buddy.api.domains.authentication.services.ClaimsUserDetailsService;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,7 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -23,7 +23,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final ClaimsUserDetailsService claimsUserDetailsService;
     private final TokenBlocklistService tokenBlocklistService;
 
     @Override
@@ -44,21 +44,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private void processTokenAuthentication(final HttpServletRequest request, final String token) {
         try {
-            if (tokenBlocklistService.isBlocked(token)) {
+            final VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+            if (tokenBlocklistService.isBlocked(verifiedToken.tokenId())) {
                 log.warn("Attempt to use blocked token");
                 return;
             }
 
-            final String email = jwtUtil.getEmailFromToken(token);
+            final String email = verifiedToken.subject();
 
             if (shouldSkipAuthentication(email)) {
                 return;
             }
 
-            final UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            final UserDetails userDetails = claimsUserDetailsService.loadUserFromClaims(
+                email,
+                verifiedToken.profiles(),
+                verifiedToken.epoch()
+            );
+
+            if (!userDetails.isAccountNonLocked() || !userDetails.isEnabled()) {
+                log.warn("Account from token is not available: {}", email);
+                return;
+            }
 
-            if (!jwtUtil.validateToken(token, userDetails.getUsername())) {
-                log.warn("Invalid JWT token for user: {}", email);
+            if (!userDetails.isCredentialsNonExpired()) {
+                log.warn("Token issued before the last revocation for user: {}", email);
                 return;
             }
 
@@ -1,54 +1,78 @@
 package com.buddy.api.commons.configurations.security.jwt;
 
 import com.buddy.api.commons.configurations.properties.AuthProperties;
+import com.buddy.api.commons.hashing.Hashes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
-    private final AuthProperties properties;
-
     private static final String ACCESS_TOKEN_COOKIE_NAME = "access_token";
     private static final String REFRESH_TOKEN_COOKIE_NAME = "refresh_token";
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final long MAX_VERIFIED_TOKENS = 10_000;
+
+    private final AuthProperties properties;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(final AuthProperties properties) {
+        this.properties = properties;
+        this.key = Keys.hmacShaKeyFor(properties.secretKey().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(new UntilTokenExpiration())
+            .build();
+    }
 
-    public String generateAccessToken(final String email, final List<String> profiles) {
+    public String generateAccessToken(final String email,
+                                      final List<String> profiles,
+                                      final long epoch) {
         Instant now = Instant.now();
         return Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .subject(email)
-            .claim("profiles", profiles)
+            .claim(VerifiedToken.PROFILES_CLAIM, profiles)
+            .claim(VerifiedToken.EPOCH_CLAIM, epoch)
             .issuedAt(Date.from(now))
             .expiration(Date.from(now.plusMillis(properties.accessTokenExpiration())))
-            .signWith(key())
+            .signWith(key)
             .compact();
     }
 
-    public String generateRefreshToken(final String email) {
+    public String generateRefreshToken(final String email, final long epoch) {
         Instant now = Instant.now();
         return Jwts.builder()
+            .id(UUID.randomUUID().toString())
             .subject(email)
+            .claim(VerifiedToken.EPOCH_CLAIM, epoch)
             .issuedAt(Date.from(now))
             .expiration(Date.from(now.plusMillis(properties.refreshTokenExpiration())))
-            .signWith(key())
+            .signWith(key)
             .compact();
     }
 
@@ -62,24 +86,36 @@ public class JwtUtil {
             .or(() -> extractTokenFromHeader(request));
     }
 
+    public VerifiedToken verify(final String token) throws JwtException {
+        String tokenHash = Hashes.sha256Hex(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(parseClaims(token), tokenHash);
+        if (verified.expiresAt() != null) {
+            verifiedTokens.put(tokenHash, verified);
+        }
+        return verified;
+    }
+
     public String getEmailFromToken(final String token) throws JwtException {
-        return parseClaims(token).getSubject();
+        return verify(token).subject();
     }
 
     @SuppressWarnings("PMD.ReplaceJavaUtilDate")
     public Date getExpirationFromToken(final String token) throws JwtException {
-        Date expiration = parseClaims(token).getExpiration();
+        Instant expiration = verify(token).expiresAt();
         if (expiration == null) {
             throw new JwtException("Token with no expiration claim exp");
         }
-        return expiration;
+        return Date.from(expiration);
     }
 
     public boolean validateToken(final String token, final String username) {
         try {
-            Claims claims = parseClaims(token);
-
-            return claims.getSubject().equals(username);
+            return username.equals(verify(token).subject());
         } catch (JwtException e) {
             log.warn("Token validation failed: {}", e.getMessage());
             return false;
@@ -107,16 +143,32 @@ public class JwtUtil {
     }
 
     private Claims parseClaims(final String token) throws JwtException {
-        Jws<Claims> jws = Jwts.parser()
-            .verifyWith(key())
-            .build()
-            .parseSignedClaims(token);
-        return jws.getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private SecretKey key() {
-        byte[] keyBytes = properties.secretKey()
-            .getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static final class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String tokenHash,
+                                      final VerifiedToken token,
+                                      final long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String tokenHash,
+                                      final VerifiedToken token,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(tokenHash, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String tokenHash,
+                                    final VerifiedToken token,
+                                    final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,48 +1,115 @@
 package com.buddy.api.commons.configurations.security.jwt;
 
+import com.buddy.api.commons.hashing.BloomFilter;
+import com.buddy.api.commons.hashing.Hashes;
+import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class TokenBlocklistService {
+public class TokenBlocklistService implements MessageListener, SubscriptionListener {
+
+    public static final String REVOCATION_CHANNEL = "jwt:blocklist:revoked";
+    public static final long EXPECTED_REVOCATIONS = 100_000;
+    public static final double FALSE_POSITIVE_RATE = 0.001;
 
-    private final StringRedisTemplate redisTemplate;
     private static final String KEY_PREFIX = "jwt:blocklist:";
-    private static final int HEX_SINGLE_DIGIT_LENGTH = 1;
+    private static final long SCAN_BATCH_SIZE = 1_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
 
-    public void blockToken(final String token, final long expirationInSeconds) {
+    private final AtomicReference<BloomFilter> revokedTokens = new AtomicReference<>();
+    private volatile BloomFilter rebuildingTokens;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    public void blockToken(final String tokenId, final long expirationInSeconds) {
         if (expirationInSeconds <= 0) {
             return;
         }
-        final String key = KEY_PREFIX + tokenHash(token);
-        redisTemplate.opsForValue().set(key, "blocked", Duration.ofSeconds(expirationInSeconds));
+        redisTemplate.opsForValue()
+            .set(KEY_PREFIX + tokenId, "blocked", Duration.ofSeconds(expirationInSeconds));
+        remember(tokenId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
         log.debug("Token blocked for {} seconds", expirationInSeconds);
     }
 
-    public boolean isBlocked(final String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenHash(token)));
+    public boolean isBlocked(final String tokenId) {
+        final BloomFilter filter = revokedTokens.get();
+        if (filter != null && !filter.mightContain(Hashes.sha256(tokenId))) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        remember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onChannelSubscribed(final byte[] channel, final long count) {
+        // Revocations published while the subscription was down never reach onMessage
+        CompletableFuture.runAsync(this::rebuild);
     }
 
-    @SneakyThrows
-    private String tokenHash(final String token) {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hashBytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-        StringBuilder hexString = new StringBuilder(2 * hashBytes.length);
-        for (byte b : hashBytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == HEX_SINGLE_DIGIT_LENGTH) {
-                hexString.append('0');
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 5, fixedDelay = 5, timeUnit = TimeUnit.MINUTES)
+    public void rebuild() {
+        final BloomFilter next = BloomFilter.create(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+        rebuildingTokens = next;
+        long loaded = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions()
+            .match(KEY_PREFIX + "*")
+            .count(SCAN_BATCH_SIZE)
+            .build())) {
+            while (keys.hasNext()) {
+                next.put(Hashes.sha256(keys.next().substring(KEY_PREFIX.length())));
+                loaded++;
             }
-            hexString.append(hex);
+            revokedTokens.set(next);
+            log.info("Token blocklist filter rebuilt with {} revoked tokens", loaded);
+        } catch (DataAccessException e) {
+            log.warn("Token blocklist filter rebuild failed, checking Redis directly: {}",
+                e.getMessage());
+        } finally {
+            rebuildingTokens = null;
+        }
+    }
+
+    private void remember(final String tokenId) {
+        final byte[] digest = Hashes.sha256(tokenId);
+        final BloomFilter rebuilding = rebuildingTokens;
+        if (rebuilding != null) {
+            rebuilding.put(digest);
+        }
+        final BloomFilter current = revokedTokens.get();
+        if (current != null) {
+            current.put(digest);
         }
-        return hexString.toString();
     }
 }
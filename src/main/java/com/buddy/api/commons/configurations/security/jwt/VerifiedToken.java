@@ -0,0 +1,35 @@
+package com.buddy.api.commons.configurations.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+public record VerifiedToken(String tokenId,
+                            String subject,
+                            List<String> profiles,
+                            long epoch,
+                            Instant issuedAt,
+                            Instant expiresAt) {
+
+    static final String PROFILES_CLAIM = "profiles";
+    static final String EPOCH_CLAIM = "epoch";
+
+    public static VerifiedToken from(final Claims claims, final String fallbackTokenId) {
+        List<?> profiles = claims.get(PROFILES_CLAIM, List.class);
+        Number epoch = claims.get(EPOCH_CLAIM, Number.class);
+        return new VerifiedToken(
+            claims.getId() == null ? fallbackTokenId : claims.getId(),
+            claims.getSubject(),
+            profiles == null ? List.of() : profiles.stream().map(String::valueOf).toList(),
+            epoch == null ? 0 : epoch.longValue(),
+            toInstant(claims.getIssuedAt()),
+            toInstant(claims.getExpiration())
+        );
+    }
+
+    @SuppressWarnings("PMD.ReplaceJavaUtilDate")
+    private static Instant toInstant(final Date date) {
+        return date == null ? null : date.toInstant();
+    }
+}
@@ -0,0 +1,24 @@
+package com.buddy.api.commons.configurations.security.verification;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ConsumedTokenSet {
+
+    private static final String KEY_PREFIX = "verification:consumed:";
+    private static final Duration MINIMUM_TTL = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean consume(final String tokenId, final Instant expiresAt) {
+        final Duration remaining = Duration.between(Instant.now(), expiresAt);
+        final Duration ttl = remaining.compareTo(MINIMUM_TTL) < 0 ? MINIMUM_TTL : remaining;
+        return Boolean.TRUE.equals(
+            redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + tokenId, "1", ttl));
+    }
+}
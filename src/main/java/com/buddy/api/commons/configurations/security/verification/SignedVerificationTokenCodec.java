@@ -0,0 +1,94 @@
+package com.buddy.api.commons.configurations.security.verification;
+
+import com.buddy.api.commons.configurations.properties.VerificationTokenProperties;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SignedVerificationTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = ".";
+    private static final int HEADER_BYTES = Long.BYTES * 3;
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    public SignedVerificationTokenCodec(final VerificationTokenProperties properties) {
+        this.key = new SecretKeySpec(
+            properties.secretKey().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttl = Duration.ofMinutes(properties.ttlMinutes());
+    }
+
+    public String issue(final UUID accountId, final String email) {
+        return issue(accountId, email, Instant.now());
+    }
+
+    public String issue(final UUID accountId, final String email, final Instant issuedAt) {
+        final byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        final byte[] payload = ByteBuffer.allocate(HEADER_BYTES + emailBytes.length)
+            .putLong(accountId.getMostSignificantBits())
+            .putLong(accountId.getLeastSignificantBits())
+            .putLong(issuedAt.getEpochSecond())
+            .put(emailBytes)
+            .array();
+        return ENCODER.encodeToString(payload) + SEPARATOR + ENCODER.encodeToString(sign(payload));
+    }
+
+    public Optional<VerificationTokenClaims> decode(final String token) {
+        final int separator = token.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+
+        final byte[] payload;
+        final byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(0, separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (payload.length <= HEADER_BYTES || !MessageDigest.isEqual(sign(payload), signature)) {
+            return Optional.empty();
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(payload);
+        final UUID accountId = new UUID(buffer.getLong(), buffer.getLong());
+        final Instant expiresAt = Instant.ofEpochSecond(buffer.getLong()).plus(ttl);
+        if (!expiresAt.isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+
+        final String email = new String(payload, HEADER_BYTES, payload.length - HEADER_BYTES,
+            StandardCharsets.UTF_8);
+        final String tokenId =
+            ENCODER.encodeToString(Arrays.copyOf(signature, TOKEN_ID_BYTES));
+        return Optional.of(new VerificationTokenClaims(tokenId, accountId, email, expiresAt));
+    }
+
+    private byte[] sign(final byte[] payload) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC is not available", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.buddy.api.commons.configurations.security.verification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record VerificationTokenClaims(String tokenId,
+                                      UUID accountId,
+                                      String email,
+                                      Instant expiresAt) {
+}
@@ -0,0 +1,5 @@
+package com.buddy.api.commons.configurations.security.verification.enums;
+
+public enum VerificationTokenMode {
+    CACHE, SIGNED
+}
@@ -0,0 +1,15 @@
+package com.buddy.api.commons.exceptions;
+
+import java.io.Serial;
+import org.springframework.http.HttpStatus;
+
+public class PasswordHashingUnavailableException extends DomainException {
+
+    @Serial
+    private static final long serialVersionUID = -2385609148702260215L;
+
+    public PasswordHashingUnavailableException(final Throwable cause) {
+        super("service busy, try again later", "credentials", HttpStatus.SERVICE_UNAVAILABLE,
+            cause);
+    }
+}
@@ -0,0 +1,75 @@
+package com.buddy.api.commons.hashing;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class BloomFilter {
+
+    private static final int MIN_DIGEST_LENGTH = 2 * Long.BYTES;
+    private static final int BITS_PER_WORD_SHIFT = 6;
+    private static final double LN_2 = Math.log(2);
+    private static final double MAX_FALSE_POSITIVE_RATE = 1.0;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(final long bitCount, final int hashCount) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + Long.SIZE - 1) / Long.SIZE));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    public static BloomFilter create(final long expectedInsertions,
+                                     final double falsePositiveRate) {
+        if (expectedInsertions <= 0
+            || falsePositiveRate <= 0
+            || falsePositiveRate >= MAX_FALSE_POSITIVE_RATE) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing");
+        }
+        long bits = (long) Math.ceil(
+            -expectedInsertions * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN_2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(final byte[] digest) {
+        ByteBuffer buffer = wrap(digest);
+        long first = buffer.getLong();
+        long second = buffer.getLong();
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            int word = (int) (bit >>> BITS_PER_WORD_SHIFT);
+            long mask = 1L << bit;
+            words.getAndUpdate(word, current -> current | mask);
+        }
+    }
+
+    public boolean mightContain(final byte[] digest) {
+        ByteBuffer buffer = wrap(digest);
+        long first = buffer.getLong();
+        long second = buffer.getLong();
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            if ((words.get((int) (bit >>> BITS_PER_WORD_SHIFT)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static ByteBuffer wrap(final byte[] digest) {
+        if (digest.length < MIN_DIGEST_LENGTH) {
+            throw new IllegalArgumentException("Digest must have at least 16 bytes");
+        }
+        return ByteBuffer.wrap(digest);
+    }
+}
@@ -0,0 +1,23 @@
+package com.buddy.api.commons.hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import lombok.SneakyThrows;
+
+public final class Hashes {
+
+    private Hashes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String sha256Hex(final String value) {
+        return HexFormat.of().formatHex(sha256(value));
+    }
+
+    @SneakyThrows
+    public static byte[] sha256(final String value) {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return digest.digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,35 @@
+package com.buddy.api.commons.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record PageCursor(LocalDateTime createDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createDate + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(final String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            return new PageCursor(
+                LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, ex);
+        }
+    }
+}
@@ -8,6 +8,9 @@ public final class PageableBuilder {
 
     public static final String DEFAULT_SORT_PROPERTY = "createDate";
     public static final Sort.Direction DEFAULT_SORT_DIRECTION = Sort.Direction.DESC;
+    public static final String KEYSET_TIEBREAKER_PROPERTY = "id";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private PageableBuilder() {
         throw new UnsupportedOperationException("Utility class");
@@ -20,6 +23,10 @@ public final class PageableBuilder {
         return pageable;
     }
 
+    public static Sort keysetSort() {
+        return defaultSort().and(Sort.by(Sort.Direction.ASC, KEYSET_TIEBREAKER_PROPERTY));
+    }
+
     private static Sort defaultSort() {
         return Sort.by(DEFAULT_SORT_DIRECTION, DEFAULT_SORT_PROPERTY);
     }
@@ -5,7 +5,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record AccountDto(UUID accountId,
                          EmailAddress email,
                          String phoneNumber,
@@ -14,5 +14,6 @@ public record AccountDto(UUID accountId,
                          Boolean isDeleted,
                          Boolean isBlocked,
                          Boolean isVerified,
-                         LocalDateTime lastLogin) {
+                         LocalDateTime lastLogin,
+                         Long tokenEpoch) {
 }
@@ -0,0 +1,10 @@
+package com.buddy.api.domains.account.dtos;
+
+import java.util.UUID;
+
+public record AccountStatusDto(UUID accountId,
+                               Boolean isBlocked,
+                               Boolean isDeleted,
+                               Boolean isVerified,
+                               Long tokenEpoch) {
+}
@@ -0,0 +1,7 @@
+package com.buddy.api.domains.account.dtos;
+
+import com.buddy.api.domains.profile.dtos.ProfileDto;
+import java.util.List;
+
+public record AccountWithProfilesDto(AccountDto account, List<ProfileDto> profiles) {
+}
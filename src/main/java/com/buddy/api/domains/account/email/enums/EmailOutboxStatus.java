@@ -0,0 +1,7 @@
+package com.buddy.api.domains.account.email.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
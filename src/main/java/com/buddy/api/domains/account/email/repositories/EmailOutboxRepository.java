@@ -0,0 +1,30 @@
+package com.buddy.api.domains.account.email.repositories;
+
+import com.buddy.api.domains.account.email.entities.EmailOutboxEntity;
+import com.buddy.api.domains.account.email.enums.EmailOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntity, UUID> {
+
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING'"
+        + " AND next_attempt_at <= :now ORDER BY next_attempt_at LIMIT :limit"
+        + " FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutboxEntity> claimDue(LocalDateTime now, int limit);
+
+    @Query("SELECT MIN(e.creationDate) FROM EmailOutboxEntity e WHERE e.status = :status")
+    Optional<LocalDateTime> findOldestCreationDateByStatus(EmailOutboxStatus status);
+
+    long countByStatus(EmailOutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxEntity e WHERE e.status = :status AND e.sentDate < :before")
+    int deleteSentBefore(EmailOutboxStatus status, LocalDateTime before);
+}
@@ -0,0 +1,284 @@
+package com.buddy.api.domains.account.email.services.impl;
+
+import com.buddy.api.commons.configurations.properties.EmailOutboxProperties;
+import com.buddy.api.commons.configurations.properties.ManagerApiProperties;
+import com.buddy.api.domains.account.email.entities.EmailOutboxEntity;
+import com.buddy.api.domains.account.email.enums.EmailOutboxStatus;
+import com.buddy.api.domains.account.email.repositories.EmailOutboxRepository;
+import com.buddy.api.integrations.clients.manager.ManagerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final String METRIC_PREFIX = "buddy.email.outbox";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final int MAX_ERROR_LENGTH = 2_000;
+    private static final int MAX_BACKOFF_DOUBLINGS = 20;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ManagerService managerService;
+    private final EmailOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration requestTimeout;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final Timer deliveryLag;
+    private final DistributionSummary recipientsPerRequest;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public EmailOutboxDispatcher(final EmailOutboxRepository emailOutboxRepository,
+                                 final ManagerService managerService,
+                                 final EmailOutboxProperties properties,
+                                 final ManagerApiProperties managerApiProperties,
+                                 final PlatformTransactionManager transactionManager,
+                                 final MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.managerService = managerService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requestTimeout = Duration.ofMillis(managerApiProperties.connectTimeoutMillis()
+            + managerApiProperties.readTimeoutMillis());
+        if (requestTimeout.compareTo(Duration.ofSeconds(properties.leaseSeconds())) >= 0) {
+            throw new IllegalArgumentException(
+                "Email outbox lease must be longer than the Manager API request timeout");
+        }
+        this.sentCounter = meterRegistry.counter(METRIC_PREFIX + ".dispatched",
+            OUTCOME_TAG, "sent");
+        this.retriedCounter = meterRegistry.counter(METRIC_PREFIX + ".dispatched",
+            OUTCOME_TAG, "retry");
+        this.deadCounter = meterRegistry.counter(METRIC_PREFIX + ".dispatched",
+            OUTCOME_TAG, "dead");
+        this.deliveryLag = Timer.builder(METRIC_PREFIX + ".delivery.lag")
+            .description("Time between enqueueing an email and delivering it")
+            .register(meterRegistry);
+        this.recipientsPerRequest = DistributionSummary
+            .builder(METRIC_PREFIX + ".request.recipients")
+            .description("Recipients grouped into a single Manager API request")
+            .register(meterRegistry);
+        meterRegistry.gauge(METRIC_PREFIX + ".pending", pending);
+        meterRegistry.gauge(METRIC_PREFIX + ".oldest.pending.age.seconds",
+            oldestPendingAgeSeconds);
+    }
+
+    @Scheduled(initialDelayString = "${buddy.email-outbox.poll-interval-millis}",
+        fixedDelayString = "${buddy.email-outbox.poll-interval-millis}")
+    public void dispatch() {
+        try {
+            List<EmailOutboxEntity> claimed;
+            do {
+                claimed = Objects.requireNonNullElse(
+                    transactionTemplate.execute(status -> claimBatch()), List.of());
+                if (!claimed.isEmpty()) {
+                    List<Delivery> deliveries = send(claimed);
+                    transactionTemplate.executeWithoutResult(status -> record(deliveries));
+                }
+            } while (claimed.size() == properties.batchSize());
+            refreshBacklog();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Email outbox dispatch failed, retrying on next poll: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minusDays(properties.retentionDays());
+        Integer purged = transactionTemplate.execute(status ->
+            emailOutboxRepository.deleteSentBefore(EmailOutboxStatus.SENT, before));
+        log.debug("Purged {} delivered emails from the outbox", purged);
+    }
+
+    private List<EmailOutboxEntity> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxEntity> batch =
+            emailOutboxRepository.claimDue(now, properties.batchSize());
+        LocalDateTime leaseExpiry = now.plusSeconds(properties.leaseSeconds());
+        batch.forEach(email -> {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(leaseExpiry);
+        });
+        return batch;
+    }
+
+    private List<Delivery> send(final List<EmailOutboxEntity> claimed) {
+        Map<Envelope, List<EmailOutboxEntity>> byEnvelope = new LinkedHashMap<>();
+        claimed.forEach(email -> byEnvelope
+            .computeIfAbsent(Envelope.of(email), envelope -> new ArrayList<>())
+            .add(email));
+
+        List<Delivery> deliveries = new ArrayList<>(claimed.size());
+        int maxRecipients = properties.maxRecipientsPerRequest();
+        byEnvelope.forEach((envelope, emails) -> {
+            for (int from = 0; from < emails.size(); from += maxRecipients) {
+                List<EmailOutboxEntity> group =
+                    emails.subList(from, Math.min(from + maxRecipients, emails.size()));
+                if (!canSendBeforeLeaseExpires(group)) {
+                    group.forEach(email -> deliveries.add(Delivery.released(email)));
+                    continue;
+                }
+                RuntimeException error = deliver(envelope, group);
+                if (error == null || group.size() == 1) {
+                    group.forEach(email -> deliveries.add(Delivery.of(email, error)));
+                } else {
+                    log.warn("Grouped email request for {} recipients failed, retrying them "
+                        + "one by one: {}", group.size(), error.getMessage());
+                    group.forEach(email -> deliveries.add(canSendBeforeLeaseExpires(List.of(email))
+                        ? Delivery.of(email, deliver(envelope, List.of(email)))
+                        : Delivery.released(email)));
+                }
+            }
+        });
+        return deliveries;
+    }
+
+    private boolean canSendBeforeLeaseExpires(final List<EmailOutboxEntity> group) {
+        LocalDateTime worstCaseEnd = LocalDateTime.now().plus(requestTimeout);
+        return group.stream().allMatch(email -> worstCaseEnd.isBefore(email.getNextAttemptAt()));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private RuntimeException deliver(final Envelope envelope,
+                                     final List<EmailOutboxEntity> emails) {
+        try {
+            managerService.sendEmailNotification(
+                emails.stream().map(EmailOutboxEntity::getRecipient).toList(),
+                envelope.sender(),
+                envelope.subject(),
+                envelope.body()
+            );
+            recipientsPerRequest.record(emails.size());
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void record(final List<Delivery> deliveries) {
+        Map<UUID, EmailOutboxEntity> current = new HashMap<>();
+        emailOutboxRepository.findAllById(deliveries.stream()
+                .map(delivery -> delivery.email().getEmailOutboxId())
+                .toList())
+            .forEach(email -> current.put(email.getEmailOutboxId(), email));
+
+        deliveries.forEach(delivery -> {
+            EmailOutboxEntity email = current.get(delivery.email().getEmailOutboxId());
+            if (email == null || !isLeaseHeld(email, delivery.email())) {
+                log.warn("Outbox email {} was reclaimed before its outcome was recorded",
+                    delivery.email().getEmailOutboxId());
+                return;
+            }
+            if (delivery.released()) {
+                release(email);
+            } else if (delivery.error() == null) {
+                markSent(email);
+            } else {
+                markFailed(email, delivery.error());
+            }
+        });
+    }
+
+    private static boolean isLeaseHeld(final EmailOutboxEntity current,
+                                       final EmailOutboxEntity claimed) {
+        return current.getStatus() == EmailOutboxStatus.PENDING
+            && current.getAttempts().equals(claimed.getAttempts());
+    }
+
+    private void markSent(final EmailOutboxEntity email) {
+        LocalDateTime now = LocalDateTime.now();
+        email.setStatus(EmailOutboxStatus.SENT);
+        email.setSentDate(now);
+        email.setLastError(null);
+        sentCounter.increment();
+        deliveryLag.record(Duration.between(email.getCreationDate(), now));
+        log.info("Outbox email {} delivered for account={}",
+            email.getEmailOutboxId(), email.getAccountId());
+    }
+
+    private void release(final EmailOutboxEntity email) {
+        email.setAttempts(email.getAttempts() - 1);
+        email.setNextAttemptAt(LocalDateTime.now());
+        log.debug("Outbox email {} released before its lease expired", email.getEmailOutboxId());
+    }
+
+    private void markFailed(final EmailOutboxEntity email, final RuntimeException error) {
+        email.setLastError(truncate(error.getMessage()));
+        if (email.getAttempts() >= properties.maxAttempts()) {
+            email.setStatus(EmailOutboxStatus.DEAD);
+            deadCounter.increment();
+            log.error("Outbox email {} for account={} moved to dead letter after {} attempts",
+                email.getEmailOutboxId(), email.getAccountId(), email.getAttempts(), error);
+            return;
+        }
+
+        Duration backoff = backoff(email.getAttempts());
+        email.setNextAttemptAt(LocalDateTime.now().plus(backoff));
+        retriedCounter.increment();
+        log.warn("Outbox email {} for account={} failed on attempt {}, retrying in {}s: {}",
+            email.getEmailOutboxId(), email.getAccountId(), email.getAttempts(),
+            backoff.toSeconds(), error.getMessage());
+    }
+
+    private Duration backoff(final int attempts) {
+        long seconds = properties.initialBackoffSeconds()
+            << Math.min(attempts - 1, MAX_BACKOFF_DOUBLINGS);
+        return Duration.ofSeconds(Math.min(seconds, properties.maxBackoffSeconds()));
+    }
+
+    private void refreshBacklog() {
+        pending.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        oldestPendingAgeSeconds.set(emailOutboxRepository
+            .findOldestCreationDateByStatus(EmailOutboxStatus.PENDING)
+            .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toSeconds())
+            .orElse(0L));
+    }
+
+    private static String truncate(final String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record Delivery(EmailOutboxEntity email, RuntimeException error, boolean released) {
+
+        static Delivery of(final EmailOutboxEntity email, final RuntimeException error) {
+            return new Delivery(email, error, false);
+        }
+
+        static Delivery released(final EmailOutboxEntity email) {
+            return new Delivery(email, null, true);
+        }
+    }
+
+    private record Envelope(String template, String sender, String subject, String body) {
+
+        static Envelope of(final EmailOutboxEntity email) {
+            return new Envelope(email.getTemplate(), email.getSender(), email.getSubject(),
+                email.getBody());
+        }
+    }
+}
@@ -1,51 +1,53 @@
 package com.buddy.api.domains.account.email.services.impl;
 
 import com.buddy.api.commons.configurations.properties.EmailProperties;
+import com.buddy.api.domains.account.email.entities.EmailOutboxEntity;
+import com.buddy.api.domains.account.email.enums.EmailOutboxStatus;
+import com.buddy.api.domains.account.email.repositories.EmailOutboxRepository;
 import com.buddy.api.domains.account.email.services.EmailSender;
 import com.buddy.api.domains.account.email.services.EmailTemplateLoaderService;
-import com.buddy.api.integrations.clients.manager.ManagerService;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class EmailSenderImpl implements EmailSender {
-    private final ManagerService managerService;
+    private final EmailOutboxRepository emailOutboxRepository;
     private final EmailProperties emailProperties;
     private final EmailTemplateLoaderService emailTemplateLoader;
 
-    @Async
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    public void dispatchVerificationEmail(final UUID accountId,
-                                          final String userEmail,
-                                          final String token
+    @Transactional
+    public void enqueueVerificationEmail(final UUID accountId,
+                                         final String userEmail,
+                                         final String token
     ) {
-        try {
-            String verificationUrl = emailProperties.templates().url() + token;
-            String htmlBody = buildConfirmationEmailBody(verificationUrl);
+        final var templates = emailProperties.templates();
+        String verificationUrl = templates.url() + token;
 
-            log.info("Sending verification email to account={}", accountId);
-            managerService.sendEmailNotification(
-                List.of(userEmail),
-                emailProperties.templates().from(),
-                emailProperties.templates().subject(),
-                htmlBody
-            );
-            log.info("Verification email successfully sent to account={}", accountId);
-        } catch (Exception e) {
-            log.error("Failed to send email verification for account={}", accountId, e);
-            throw e;
-        }
+        emailOutboxRepository.save(EmailOutboxEntity.builder()
+            .accountId(accountId)
+            .template(templates.templatePath())
+            .sender(templates.from())
+            .recipient(userEmail)
+            .subject(templates.subject())
+            .body(buildConfirmationEmailBody(templates.templatePath(), verificationUrl))
+            .status(EmailOutboxStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(LocalDateTime.now())
+            .build());
+
+        log.info("Verification email queued in the outbox for account={}", accountId);
     }
 
-    private String buildConfirmationEmailBody(final String verificationUrl) {
-        String template = emailTemplateLoader.load(emailProperties.templates().templatePath());
+    private String buildConfirmationEmailBody(final String templatePath,
+                                              final String verificationUrl) {
+        String template = emailTemplateLoader.load(templatePath);
         return template.replace("{{url}}", verificationUrl);
     }
 }
@@ -32,6 +32,7 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
     }
 
     @Override
+    @Transactional
     public void requestEmail(final AccountDto account) {
         String userEmail = account.email().value();
         UUID accountId = account.accountId();
@@ -40,11 +41,11 @@ public class EmailVerificationServiceImpl implements EmailVerificationService {
         accountValidator.validateAccountNotVerified(account);
         rateLimitChecker.checkRateLimit(userEmail, accountId);
 
-        String token = tokenManager.generateAndStoreToken(userEmail);
-        emailSender.dispatchVerificationEmail(accountId, userEmail, token);
+        String token = tokenManager.generateAndStoreToken(accountId, userEmail);
+        emailSender.enqueueVerificationEmail(accountId, userEmail, token);
 
         log.info("Verification email request for account={} "
-            + "accepted and dispatched for async processing.", accountId);
+            + "accepted and queued in the outbox.", accountId);
     }
 
     @Override
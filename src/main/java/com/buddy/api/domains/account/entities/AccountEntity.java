@@ -58,6 +58,9 @@ public class AccountEntity {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
+    @Column(name = "token_epoch", nullable = false, insertable = false, updatable = false)
+    private Long tokenEpoch;
+
     @Column(name = "creation_date", nullable = false, updatable = false)
     @CreationTimestamp
     private LocalDateTime creationDate;
@@ -15,6 +15,7 @@ public interface AccountMapper {
 
     @Mapping(target = "accountId", ignore = true)
     @Mapping(target = "lastLogin", ignore = true)
+    @Mapping(target = "tokenEpoch", ignore = true)
     @Mapping(target = "creationDate", ignore = true)
     @Mapping(target = "updatedDate", ignore = true)
     @Mapping(target = "isVerified", constant = "false")
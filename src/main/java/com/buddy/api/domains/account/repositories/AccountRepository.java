@@ -1,13 +1,19 @@
 package com.buddy.api.domains.account.repositories;
 
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
 import com.buddy.api.domains.account.entities.AccountEntity;
+import com.buddy.api.domains.profile.entities.ProfileEntity;
 import com.buddy.api.domains.valueobjects.EmailAddress;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +24,19 @@ public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
 
     Boolean existsByAccountIdAndIsDeleted(final UUID accountId, final Boolean isDeleted);
 
+    @Query("SELECT new com.buddy.api.domains.account.dtos.AccountStatusDto("
+        + "a.accountId, a.isBlocked, a.isDeleted, a.isVerified, a.tokenEpoch) "
+        + "FROM AccountEntity a WHERE a.email = :email")
+    Optional<AccountStatusDto> findStatusByEmail(EmailAddress email);
+
+    @Query("SELECT a.email FROM AccountEntity a WHERE a.accountId = :accountId")
+    Optional<EmailAddress> findEmailByAccountId(UUID accountId);
+
+    @Query("SELECT a AS account, p AS profile FROM AccountEntity a"
+        + " LEFT JOIN ProfileEntity p ON p.account = a AND p.isDeleted = false"
+        + " WHERE a.email = :email")
+    List<AccountProfileRow> findWithActiveProfilesByEmail(EmailAddress email);
+
     @Modifying
     @Query("UPDATE AccountEntity a SET a.lastLogin = :lastLogin WHERE a.accountId = :accountId"
         + " AND a.isBlocked = false AND a.isDeleted = false")
@@ -27,4 +46,16 @@ public interface AccountRepository extends JpaRepository<AccountEntity, UUID> {
     @Query("UPDATE AccountEntity a SET a.isVerified = :isVerified WHERE a.accountId = :accountId"
         + " AND a.isBlocked = false AND a.isDeleted = false")
     int updateIsVerified(UUID accountId, Boolean isVerified);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account"))
+    @Query(value = "UPDATE account SET token_epoch = token_epoch + 1, updated_date = now()"
+        + " WHERE account_id = :accountId", nativeQuery = true)
+    int incrementTokenEpoch(UUID accountId);
+
+    interface AccountProfileRow {
+        AccountEntity getAccount();
+
+        ProfileEntity getProfile();
+    }
 }
@@ -1,6 +1,8 @@
 package com.buddy.api.domains.account.services;
 
 import com.buddy.api.domains.account.dtos.AccountDto;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.account.dtos.AccountWithProfilesDto;
 import java.util.UUID;
 
 public interface FindAccount {
@@ -9,4 +11,10 @@ public interface FindAccount {
     AccountDto findByEmail(String email);
 
     AccountDto findAccountForAuthentication(String email);
+
+    AccountWithProfilesDto findAccountWithActiveProfiles(String email);
+
+    AccountStatusDto findAccountStatus(String email);
+
+    String findEmailById(UUID accountId);
 }
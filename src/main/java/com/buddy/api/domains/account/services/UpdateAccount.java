@@ -1,9 +1,12 @@
 package com.buddy.api.domains.account.services;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public interface UpdateAccount {
-    void updateLastLogin(String email, LocalDateTime lastLogin);
+    void recordLastLogin(UUID accountId, LocalDateTime lastLogin);
 
     void updateIsVerified(String email, Boolean isVerified);
+
+    void revokeTokens(String email);
 }
@@ -1,12 +1,18 @@
 package com.buddy.api.domains.account.services.impl;
 
+import com.buddy.api.commons.configurations.cache.AccountStatusCache;
 import com.buddy.api.commons.exceptions.AccountUnavailableException;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.domains.account.dtos.AccountDto;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.account.dtos.AccountWithProfilesDto;
 import com.buddy.api.domains.account.mappers.AccountMapper;
 import com.buddy.api.domains.account.repositories.AccountRepository;
+import com.buddy.api.domains.account.repositories.AccountRepository.AccountProfileRow;
 import com.buddy.api.domains.account.services.FindAccount;
+import com.buddy.api.domains.profile.mappers.ProfileMapper;
 import com.buddy.api.domains.valueobjects.EmailAddress;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +26,8 @@ public class FindAccountImpl implements FindAccount {
 
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
+    private final ProfileMapper profileMapper;
+    private final AccountStatusCache accountStatusCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -53,4 +61,39 @@ public class FindAccountImpl implements FindAccount {
 
         return accountMapper.toAccountDto(account);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AccountWithProfilesDto findAccountWithActiveProfiles(final String email) {
+        final var rows = accountRepository.findWithActiveProfilesByEmail(new EmailAddress(email));
+        if (rows.isEmpty()) {
+            throw new NotFoundException("email", "Account not found");
+        }
+
+        final var profiles = rows.stream()
+            .map(AccountProfileRow::getProfile)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return new AccountWithProfilesDto(
+            accountMapper.toAccountDto(rows.getFirst().getAccount()),
+            profileMapper.toProfilesDto(profiles)
+        );
+    }
+
+    @Override
+    public AccountStatusDto findAccountStatus(final String email) {
+        return accountStatusCache.get(email, () ->
+            accountRepository.findStatusByEmail(new EmailAddress(email))
+                .orElseThrow(() -> new NotFoundException("email", "Account not found"))
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findEmailById(final UUID accountId) {
+        return accountRepository.findEmailByAccountId(accountId)
+            .map(EmailAddress::value)
+            .orElseThrow(() -> new NotFoundException("accountId", "Account not found"));
+    }
 }
@@ -0,0 +1,62 @@
+package com.buddy.api.domains.account.services.impl;
+
+import com.buddy.api.domains.account.repositories.AccountRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginWriteBehind {
+
+    private final AccountRepository accountRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void record(final UUID accountId, final LocalDateTime lastLogin) {
+        pending.merge(accountId, lastLogin, LastLoginWriteBehind::latest);
+    }
+
+    @PreDestroy
+    @Scheduled(initialDelay = 5, fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, LocalDateTime> batch = new HashMap<>();
+        for (UUID accountId : pending.keySet()) {
+            LocalDateTime lastLogin = pending.remove(accountId);
+            if (lastLogin != null) {
+                batch.put(accountId, lastLogin);
+            }
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                batch.forEach(accountRepository::updateLastLogin));
+            log.debug("Persisted last login for {} accounts", batch.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Failed to persist last login for {} accounts, retrying on next flush: {}",
+                batch.size(), e.getMessage());
+            batch.forEach(this::record);
+        }
+    }
+
+    private static LocalDateTime latest(final LocalDateTime current, final LocalDateTime next) {
+        return next.isAfter(current) ? next : current;
+    }
+}
@@ -1,5 +1,7 @@
 package com.buddy.api.domains.account.services.impl;
 
+import com.buddy.api.commons.configurations.cache.AccountStatusCache;
+import com.buddy.api.commons.configurations.cache.UserDetailsCache;
 import com.buddy.api.commons.exceptions.AccountUnavailableException;
 import com.buddy.api.domains.account.dtos.AccountDto;
 import com.buddy.api.domains.account.entities.AccountEntity;
@@ -8,6 +10,7 @@ import com.buddy.api.domains.account.repositories.AccountRepository;
 import com.buddy.api.domains.account.services.FindAccount;
 import com.buddy.api.domains.account.services.UpdateAccount;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,18 +24,13 @@ public class UpdateAccountImpl implements UpdateAccount {
     private final AccountRepository accountRepository;
     private final FindAccount findAccount;
     private final AccountMapper accountMapper;
+    private final AccountStatusCache accountStatusCache;
+    private final UserDetailsCache userDetailsCache;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
 
     @Override
-    @Transactional
-    public void updateLastLogin(final String email, final LocalDateTime lastLogin) {
-        AccountDto accountDto = findAccount.findByEmail(email);
-        AccountEntity account = accountMapper.toAccountEntityForUpdate(accountDto);
-
-        int updated = accountRepository.updateLastLogin(account.getAccountId(), lastLogin);
-        if (updated == 0) {
-            logWarn(account);
-            throw new AccountUnavailableException("account", "Account is not available");
-        }
+    public void recordLastLogin(final UUID accountId, final LocalDateTime lastLogin) {
+        lastLoginWriteBehind.record(accountId, lastLogin);
     }
 
     @Override
@@ -45,6 +43,18 @@ public class UpdateAccountImpl implements UpdateAccount {
             logWarn(account);
             throw new AccountUnavailableException("account", "Account is not available");
         }
+        accountStatusCache.evictAfterCommit(email);
+        userDetailsCache.evictAfterCommit(email);
+    }
+
+    @Override
+    @Transactional
+    public void revokeTokens(final String email) {
+        AccountDto accountDto = findAccount.findAccountForAuthentication(email);
+        accountRepository.incrementTokenEpoch(accountDto.accountId());
+        accountStatusCache.evictAfterCommit(email);
+        userDetailsCache.evictAfterCommit(email);
+        log.info("All tokens revoked for account={}", accountDto.accountId());
     }
 
     private void logWarn(final AccountEntity account) {
@@ -1,8 +1,11 @@
 package com.buddy.api.domains.authentication.dtos;
 
 import com.buddy.api.domains.account.dtos.AccountDto;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.profile.dtos.ProfileDto;
 import java.io.Serial;
 import java.util.Collection;
+import java.util.List;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,20 +16,44 @@ public class AuthenticatedUser implements UserDetails {
     @Serial
     private static final long serialVersionUID = -6582441640280677406L;
 
+    public static final String VERIFIED_AUTHORITY = "SCOPE_VERIFIED";
+
     private final java.util.UUID accountId;
     private final String email;
     private final String password;
     private final boolean blocked;
     private final boolean deleted;
+    private final long tokenEpoch;
+    private final boolean credentialsExpired;
+    private final transient List<ProfileDto> profiles;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public AuthenticatedUser(final AccountDto account,
+                             final List<ProfileDto> profiles,
                              final Collection<? extends GrantedAuthority> authorities) {
         this.accountId = account.accountId();
         this.email = account.email().value();
         this.password = account.password();
         this.blocked = account.isBlocked();
         this.deleted = account.isDeleted();
+        this.tokenEpoch = epochOf(account.tokenEpoch());
+        this.credentialsExpired = false;
+        this.profiles = profiles;
+        this.authorities = authorities;
+    }
+
+    public AuthenticatedUser(final AccountStatusDto status,
+                             final String email,
+                             final long claimedTokenEpoch,
+                             final Collection<? extends GrantedAuthority> authorities) {
+        this.accountId = status.accountId();
+        this.email = email;
+        this.password = null;
+        this.blocked = Boolean.TRUE.equals(status.isBlocked());
+        this.deleted = Boolean.TRUE.equals(status.isDeleted());
+        this.tokenEpoch = epochOf(status.tokenEpoch());
+        this.credentialsExpired = claimedTokenEpoch < this.tokenEpoch;
+        this.profiles = List.of();
         this.authorities = authorities;
     }
 
@@ -49,4 +76,13 @@ public class AuthenticatedUser implements UserDetails {
     public boolean isEnabled() {
         return !this.deleted;
     }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return !this.credentialsExpired;
+    }
+
+    private static long epochOf(final Long tokenEpoch) {
+        return tokenEpoch == null ? 0 : tokenEpoch;
+    }
 }
@@ -0,0 +1,10 @@
+package com.buddy.api.domains.authentication.dtos;
+
+import com.buddy.api.domains.account.dtos.AccountDto;
+import com.buddy.api.domains.profile.dtos.ProfileDto;
+import java.util.List;
+
+public record UserDetailsSnapshot(AccountDto account,
+                                  List<ProfileDto> profiles,
+                                  List<String> authorities) {
+}
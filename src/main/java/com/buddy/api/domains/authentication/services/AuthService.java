@@ -11,4 +11,6 @@ public interface AuthService {
     void logout(String token);
 
     void logoutComplete(HttpServletRequest request);
+
+    void logoutEverywhere(String email);
 }
@@ -0,0 +1,13 @@
+package com.buddy.api.domains.authentication.services;
+
+import java.util.Collection;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+public interface ClaimsUserDetailsService {
+    UserDetails loadUserFromClaims(String username,
+                                   Collection<String> authorities,
+                                   long tokenEpoch) throws UsernameNotFoundException;
+
+    UserDetails loadUserWithoutCredentials(String username) throws UsernameNotFoundException;
+}
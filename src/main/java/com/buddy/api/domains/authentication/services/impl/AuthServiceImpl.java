@@ -2,16 +2,21 @@ package com.buddy.api.domains.authentication.services.impl;
 
 import static com.buddy.api.domains.profile.enums.ProfileTypeEnum.ADMIN;
 
+import com.buddy.api.commons.configurations.ratelimit.RateLimiter;
 import com.buddy.api.commons.configurations.security.jwt.JwtUtil;
 import com.buddy.api.commons.configurations.security.jwt.TokenBlocklistService;
+import com.buddy.api.commons.configurations.security.jwt.VerifiedToken;
 import com.buddy.api.commons.exceptions.AccountBlockedException;
 import com.buddy.api.commons.exceptions.AccountNotVerifiedException;
 import com.buddy.api.commons.exceptions.AuthenticationException;
+import com.buddy.api.commons.exceptions.PasswordHashingUnavailableException;
 import com.buddy.api.domains.account.services.UpdateAccount;
 import com.buddy.api.domains.authentication.dtos.AuthDto;
+import com.buddy.api.domains.authentication.dtos.AuthenticatedUser;
 import com.buddy.api.domains.authentication.services.AuthService;
+import com.buddy.api.domains.authentication.services.ClaimsUserDetailsService;
 import com.buddy.api.domains.profile.dtos.ProfileDto;
-import com.buddy.api.domains.profile.services.FindProfile;
+import com.buddy.api.domains.valueobjects.EmailAddress;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.Duration;
@@ -24,10 +29,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,25 +42,29 @@ public class AuthServiceImpl implements AuthService {
 
     private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
     private static final String REFRESH_TOKEN_FIELD = "refresh-token";
+    private static final String LOGIN_EMAIL_LIMIT = "login-email";
 
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
-    private final FindProfile findProfile;
+    private final ClaimsUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
     private final UpdateAccount updateAccount;
     private final TokenBlocklistService blocklistService;
+    private final RateLimiter rateLimiter;
 
     @Override
-    @Transactional
     public AuthDto authenticate(final AuthDto authDto) {
-        UserDetails userDetails = authenticateUser(authDto.email(), authDto.password());
-        List<String> profileAuthorities = extractAuthorities(userDetails);
-        List<ProfileDto> filteredProfiles = fetchAndFilterProfiles(userDetails.getUsername());
-
-        String accessToken = jwtUtil.generateAccessToken(authDto.email(), profileAuthorities);
-        String refreshToken = jwtUtil.generateRefreshToken(authDto.email());
-
-        updateAccount.updateLastLogin(userDetails.getUsername(), LocalDateTime.now());
+        rateLimiter.check(LOGIN_EMAIL_LIMIT, new EmailAddress(authDto.email()).value(),
+            "Too many login attempts. Please try again later.");
+        AuthenticatedUser user = authenticateUser(authDto.email(), authDto.password());
+        List<String> profileAuthorities = extractAuthorities(user);
+        List<ProfileDto> filteredProfiles = filterProfiles(user.getProfiles());
+
+        long tokenEpoch = user.getTokenEpoch();
+        String accessToken =
+            jwtUtil.generateAccessToken(authDto.email(), profileAuthorities, tokenEpoch);
+        String refreshToken = jwtUtil.generateRefreshToken(authDto.email(), tokenEpoch);
+
+        updateAccount.recordLastLogin(user.getAccountId(), LocalDateTime.now());
         log.info("Authentication successful for user: {}", authDto.email());
 
         return new AuthDto(
@@ -78,23 +87,25 @@ public class AuthServiceImpl implements AuthService {
                         REFRESH_TOKEN_FIELD);
                 });
 
-            if (blocklistService.isBlocked(refreshToken)) {
+            VerifiedToken verifiedToken = jwtUtil.verify(refreshToken);
+
+            if (blocklistService.isBlocked(verifiedToken.tokenId())) {
                 log.warn("Attempt to use blocked refresh token");
                 throw new AuthenticationException("Invalid refresh token or token expired",
                     REFRESH_TOKEN_FIELD);
             }
 
+            String email = verifiedToken.subject();
+            UserDetails userDetails = userDetailsService.loadUserWithoutCredentials(email);
+            long tokenEpoch = tokenEpochOf(userDetails);
 
-            String email = jwtUtil.getEmailFromToken(refreshToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-            if (!jwtUtil.validateToken(refreshToken, email)) {
-                log.warn("Invalid refresh token for email: {}", email);
+            if (verifiedToken.epoch() < tokenEpoch) {
+                log.warn("Refresh token revoked for email: {}", email);
                 throw new AuthenticationException("Invalid refresh token", REFRESH_TOKEN_FIELD);
             }
 
             List<String> authorities = extractAuthorities(userDetails);
-            String newAccessToken = jwtUtil.generateAccessToken(email, authorities);
+            String newAccessToken = jwtUtil.generateAccessToken(email, authorities, tokenEpoch);
 
             log.info("Refresh token successful for email: {}", email);
             return new AuthDto(email, null, null, newAccessToken, refreshToken);
@@ -108,33 +119,47 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    private UserDetails authenticateUser(final String email, final String password) {
+    private AuthenticatedUser authenticateUser(final String email, final String password) {
         try {
             final var authResult = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(email, password)
             );
 
-            return (UserDetails) authResult.getPrincipal();
+            return (AuthenticatedUser) authResult.getPrincipal();
 
         } catch (DisabledException ex) {
             log.warn("Attempt to login to deleted account: {}", email);
             throw new AccountNotVerifiedException("email", "account no longer active");
         } catch (LockedException ex) {
             throw new AccountBlockedException("email", "account blocked contact support");
+        } catch (PasswordHashingUnavailableException ex) {
+            throw ex;
+        } catch (InternalAuthenticationServiceException ex) {
+            if (ex.getCause() instanceof PasswordHashingUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw invalidCredentials(email, ex);
         } catch (Exception ex) {
-            log.error("Authentication failed for user: {}", email, ex);
-            throw new AuthenticationException("incorrect email or password", "credentials");
+            throw invalidCredentials(email, ex);
         }
     }
 
+    private AuthenticationException invalidCredentials(final String email, final Exception ex) {
+        log.error("Authentication failed for user: {}", email, ex);
+        return new AuthenticationException("incorrect email or password", "credentials");
+    }
+
+    private long tokenEpochOf(final UserDetails userDetails) {
+        return userDetails instanceof AuthenticatedUser user ? user.getTokenEpoch() : 0;
+    }
+
     private List<String> extractAuthorities(final UserDetails userDetails) {
         return userDetails.getAuthorities().stream()
             .map(Object::toString)
             .toList();
     }
 
-    private List<ProfileDto> fetchAndFilterProfiles(final String email) {
-        List<ProfileDto> profiles = findProfile.findByAccountEmail(email);
+    private List<ProfileDto> filterProfiles(final List<ProfileDto> profiles) {
         return profiles.stream()
             .filter(profile -> !profile.isDeleted())
             .filter(profile -> !profile.profileType().equals(ADMIN))
@@ -152,7 +177,7 @@ public class AuthServiceImpl implements AuthService {
             long secondsLeft =
                 Duration.between(Instant.now(), expiration).getSeconds();
             if (secondsLeft > 0) {
-                blocklistService.blockToken(token, secondsLeft);
+                blocklistService.blockToken(jwtUtil.verify(token).tokenId(), secondsLeft);
             }
         } catch (JwtException e) {
             log.warn("Invalid token on logout: {}", e.getMessage());
@@ -187,7 +212,7 @@ public class AuthServiceImpl implements AuthService {
         String refreshToken = refreshTokenOpt.get();
 
         try {
-            String userEmail = jwtUtil.getEmailFromToken(accessToken);
+            String userEmail = jwtUtil.verify(accessToken).subject();
             log.info("User {} initiated logout - blocking all tokens", userEmail);
 
             blockToken(accessToken);
@@ -205,13 +230,19 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    @Override
+    public void logoutEverywhere(final String email) {
+        updateAccount.revokeTokens(email);
+        log.info("User {} logged out from every session", email);
+    }
+
     private void blockToken(final String token) {
         try {
             Instant expiration = jwtUtil.getExpirationFromToken(token).toInstant();
             long secondsLeft =
                 Duration.between(Instant.now(), expiration).getSeconds();
             if (secondsLeft > 0) {
-                blocklistService.blockToken(token, secondsLeft);
+                blocklistService.blockToken(jwtUtil.verify(token).tokenId(), secondsLeft);
                 log.debug("Token blocked successfully for {} seconds", secondsLeft);
             } else {
                 log.debug("Token already expired, no need to block");
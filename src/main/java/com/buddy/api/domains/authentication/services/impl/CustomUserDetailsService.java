@@ -1,12 +1,18 @@
 package com.buddy.api.domains.authentication.services.impl;
 
+import com.buddy.api.commons.configurations.cache.UserDetailsCache;
+import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.domains.account.dtos.AccountDto;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.account.dtos.AccountWithProfilesDto;
 import com.buddy.api.domains.account.services.FindAccount;
 import com.buddy.api.domains.authentication.dtos.AuthenticatedUser;
-import com.buddy.api.domains.profile.dtos.ProfileDto;
-import com.buddy.api.domains.profile.services.FindProfile;
+import com.buddy.api.domains.authentication.dtos.UserDetailsSnapshot;
+import com.buddy.api.domains.authentication.services.ClaimsUserDetailsService;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
@@ -19,32 +25,84 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, ClaimsUserDetailsService {
 
     private final FindAccount findAccount;
-    private final FindProfile findProfile;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
         log.debug("Loading user details for email: {}", username);
 
-        AccountDto account = findAccount.findAccountForAuthentication(username);
+        return toUserDetails(loadSnapshot(username));
+    }
+
+    @Override
+    public UserDetails loadUserWithoutCredentials(final String username)
+        throws UsernameNotFoundException {
+        UserDetailsSnapshot snapshot =
+            userDetailsCache.get(username, () -> withoutPassword(loadSnapshot(username)));
+
+        return toUserDetails(snapshot);
+    }
+
+    @Override
+    public UserDetails loadUserFromClaims(final String username,
+                                          final Collection<String> authorities,
+                                          final long tokenEpoch)
+        throws UsernameNotFoundException {
+        AccountStatusDto status;
+        try {
+            status = findAccount.findAccountStatus(username);
+        } catch (NotFoundException e) {
+            throw new UsernameNotFoundException(e.getMessage(), e);
+        }
+
+        List<GrantedAuthority> allAuthorities = authorities.stream()
+            .filter(authority -> !AuthenticatedUser.VERIFIED_AUTHORITY.equals(authority))
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toCollection(ArrayList::new));
 
-        List<ProfileDto> profiles = findProfile.findByAccountEmail(account.email().value());
+        if (Boolean.TRUE.equals(status.isVerified())) {
+            allAuthorities.add(new SimpleGrantedAuthority(AuthenticatedUser.VERIFIED_AUTHORITY));
+        }
+
+        return new AuthenticatedUser(status, username, tokenEpoch, allAuthorities);
+    }
 
-        List<GrantedAuthority> allAuthorities = new ArrayList<>();
+    private UserDetailsSnapshot loadSnapshot(final String username) {
+        AccountWithProfilesDto accountWithProfiles =
+            findAccount.findAccountWithActiveProfiles(username);
+        AccountDto account = accountWithProfiles.account();
 
-        profiles.stream()
-            .filter(profile -> !profile.isDeleted())
-            .map(profile -> new SimpleGrantedAuthority("ROLE_" + profile.profileType().name()))
-            .forEach(allAuthorities::add);
+        List<String> authorities = new ArrayList<>();
 
-        allAuthorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        accountWithProfiles.profiles().stream()
+            .map(profile -> "ROLE_" + profile.profileType().name())
+            .forEach(authorities::add);
+
+        authorities.add("ROLE_USER");
 
         if (account.isVerified()) {
-            allAuthorities.add(new SimpleGrantedAuthority("SCOPE_VERIFIED"));
+            authorities.add(AuthenticatedUser.VERIFIED_AUTHORITY);
         }
 
-        return new AuthenticatedUser(account, allAuthorities);
+        return new UserDetailsSnapshot(account, accountWithProfiles.profiles(), authorities);
+    }
+
+    private static UserDetailsSnapshot withoutPassword(final UserDetailsSnapshot snapshot) {
+        return new UserDetailsSnapshot(
+            snapshot.account().toBuilder().password(null).build(),
+            snapshot.profiles(),
+            snapshot.authorities()
+        );
+    }
+
+    private static UserDetails toUserDetails(final UserDetailsSnapshot snapshot) {
+        List<GrantedAuthority> authorities = snapshot.authorities().stream()
+            .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+            .toList();
+
+        return new AuthenticatedUser(snapshot.account(), snapshot.profiles(), authorities);
     }
-}
\ No newline at end of file
+}
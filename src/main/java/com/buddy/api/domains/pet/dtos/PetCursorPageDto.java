@@ -0,0 +1,16 @@
+package com.buddy.api.domains.pet.dtos;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record PetCursorPageDto(List<PetSearchCriteriaDto> content, String nextCursor) {
+
+    public PetCursorPageDto {
+        content = content == null ? List.of() : List.copyOf(content);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.buddy.api.domains.pet.dtos;
+
+import java.util.Map;
+import lombok.Builder;
+
+@Builder
+public record PetFacetsDto(Map<String, Long> species,
+                           Map<String, Long> genders,
+                           Map<String, Long> ageRanges,
+                           Map<String, Long> weightRanges) {
+}
@@ -0,0 +1,4 @@
+package com.buddy.api.domains.pet.dtos;
+
+public record PetImportErrorDto(long row, String field, String message) {
+}
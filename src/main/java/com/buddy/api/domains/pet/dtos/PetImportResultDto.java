@@ -0,0 +1,10 @@
+package com.buddy.api.domains.pet.dtos;
+
+import java.util.List;
+
+public record PetImportResultDto(long imported, long rejected, List<PetImportErrorDto> errors) {
+
+    public PetImportResultDto {
+        errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+}
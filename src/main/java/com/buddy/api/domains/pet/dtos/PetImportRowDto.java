@@ -0,0 +1,22 @@
+package com.buddy.api.domains.pet.dtos;
+
+import java.util.List;
+
+public record PetImportRowDto(long row, PetDto pet, List<PetImportErrorDto> errors) {
+
+    public PetImportRowDto {
+        errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+
+    public static PetImportRowDto valid(final long row, final PetDto pet) {
+        return new PetImportRowDto(row, pet, List.of());
+    }
+
+    public static PetImportRowDto invalid(final long row, final List<PetImportErrorDto> errors) {
+        return new PetImportRowDto(row, null, errors);
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
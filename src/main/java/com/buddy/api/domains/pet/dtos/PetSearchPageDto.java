@@ -0,0 +1,8 @@
+package com.buddy.api.domains.pet.dtos;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record PetSearchPageDto(List<PetSearchCriteriaDto> content, long totalElements) {
+}
@@ -0,0 +1,25 @@
+package com.buddy.api.domains.pet.dtos;
+
+import com.buddy.api.domains.pet.enums.PetGender;
+import com.buddy.api.domains.pet.enums.PetSpecies;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+
+@Builder
+public record PetV2SummaryDto(UUID id,
+                              UUID profileId,
+                              String name,
+                              PetSpecies species,
+                              PetGender gender,
+                              Integer approximateAge,
+                              LocalDate ageReportDate,
+                              BigDecimal size,
+                              BigDecimal weight,
+                              Boolean isNeutered,
+                              String description,
+                              String avatar,
+                              LocalDateTime creationDate) {
+}
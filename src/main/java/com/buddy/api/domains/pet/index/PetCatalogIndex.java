@@ -0,0 +1,310 @@
+package com.buddy.api.domains.pet.index;
+
+import com.buddy.api.commons.enums.AgeRange;
+import com.buddy.api.commons.enums.Gender;
+import com.buddy.api.commons.enums.Species;
+import com.buddy.api.commons.enums.WeightRange;
+import com.buddy.api.commons.page.PageableBuilder;
+import com.buddy.api.commons.transaction.TransactionHooks;
+import com.buddy.api.domains.pet.dtos.PetSearchCriteriaDto;
+import com.buddy.api.domains.pet.dtos.PetSearchPageDto;
+import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.pet.mappers.PetDomainMapper;
+import com.buddy.api.domains.pet.repositories.PetRepository;
+import com.buddy.api.domains.pet.specifications.PetSpecifications;
+import com.buddy.api.domains.pet.specifications.PetSpecifications.BirthDateRange;
+import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "buddy.pet.catalog-index", name = "enabled", havingValue = "true")
+public class PetCatalogIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String SORT_WEIGHT = "weight";
+    private static final String SORT_BIRTH_DATE = "birthDate";
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(
+        PageableBuilder.DEFAULT_SORT_PROPERTY, SORT_WEIGHT, SORT_BIRTH_DATE
+    );
+    private static final double NULL_WEIGHT = Double.POSITIVE_INFINITY;
+    private static final long NULL_BIRTH_DATE = Long.MAX_VALUE;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private final PetRepository petRepository;
+    private final PetDomainMapper mapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> rowById = new HashMap<>();
+    private final Map<String, BitSet> speciesBitmaps = new HashMap<>();
+    private final Map<String, BitSet> genderBitmaps = new HashMap<>();
+    private final Map<WeightRange, BitSet> weightRangeBitmaps = new EnumMap<>(WeightRange.class);
+    private final Map<AgeRange, BitSet> ageRangeBitmaps = new EnumMap<>(AgeRange.class);
+
+    private PetSearchCriteriaDto[] pets = new PetSearchCriteriaDto[INITIAL_CAPACITY];
+    private long[] createDates = new long[INITIAL_CAPACITY];
+    private double[] weights = new double[INITIAL_CAPACITY];
+    private long[] birthDates = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean rowsInCreateDateOrder = true;
+    private volatile LocalDate ageRangesComputedFor;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PetEntity> entities = petRepository.findBy(
+                PetSpecifications.withParams(PetSearchCriteriaRequest.builder().build()),
+                query -> query
+                    .project(PetRepository.SHELTER_GRAPH_PATH)
+                    .sortBy(Sort.by(PageableBuilder.DEFAULT_SORT_PROPERTY,
+                        PageableBuilder.KEYSET_TIEBREAKER_PROPERTY))
+                    .all());
+            entities.forEach(pet -> append(mapper.mapParamsToDto(pet), pet.getCreateDate()));
+        });
+
+        ready = true;
+        log.info("Pet catalog index loaded with {} pets in {} ms",
+            size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public void add(final PetEntity petEntity) {
+        addAll(List.of(petEntity));
+    }
+
+    public void addAll(final List<PetEntity> petEntities) {
+        List<PetSearchCriteriaDto> pets = petEntities.stream()
+            .map(mapper::mapParamsToDto)
+            .toList();
+        List<LocalDateTime> createDates = petEntities.stream()
+            .map(PetEntity::getCreateDate)
+            .toList();
+        TransactionHooks.afterCommit(() -> {
+            for (int i = 0; i < pets.size(); i++) {
+                append(pets.get(i), createDates.get(i));
+            }
+        });
+    }
+
+    public void append(final PetSearchCriteriaDto pet, final LocalDateTime createDate) {
+        lock.writeLock().lock();
+        try {
+            if (rowById.containsKey(pet.id())) {
+                return;
+            }
+
+            ensureCapacity();
+            int row = size++;
+            long createDateMicros = toEpochMicros(createDate);
+            if (row > 0 && createDateMicros < createDates[row - 1]) {
+                rowsInCreateDateOrder = false;
+            }
+
+            pets[row] = pet;
+            createDates[row] = createDateMicros;
+            weights[row] = pet.weight() != null ? pet.weight() : NULL_WEIGHT;
+            birthDates[row] = pet.birthDate() != null
+                ? pet.birthDate().toEpochDay() : NULL_BIRTH_DATE;
+            rowById.put(pet.id(), row);
+
+            speciesBitmaps.computeIfAbsent(pet.specie(), key -> new BitSet()).set(row);
+            genderBitmaps.computeIfAbsent(pet.gender(), key -> new BitSet()).set(row);
+            for (WeightRange range : WeightRange.values()) {
+                if (pet.weight() != null
+                    && pet.weight() >= range.getMin() && pet.weight() <= range.getMax()) {
+                    weightRangeBitmaps.computeIfAbsent(range, key -> new BitSet()).set(row);
+                }
+            }
+            if (ageRangesComputedFor != null) {
+                indexAgeRanges(row, ageRangesComputedFor);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<PetSearchPageDto> search(final PetSearchCriteriaRequest criteria,
+                                             final Pageable pageable) {
+        if (!ready || !supports(criteria, pageable)) {
+            return Optional.empty();
+        }
+
+        refreshAgeRanges(LocalDate.now());
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = filter(criteria);
+            List<PetSearchCriteriaDto> content = page(matches, pageable);
+            return Optional.of(new PetSearchPageDto(content, matches.cardinality()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean supports(final PetSearchCriteriaRequest criteria, final Pageable pageable) {
+        return criteria.shelterId() == null
+            && criteria.name() == null
+            && criteria.location() == null
+            && criteria.description() == null
+            && criteria.query() == null
+            && pageable.getSort().stream()
+                .allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty())
+                    && order.getNullHandling() == Sort.NullHandling.NATIVE);
+    }
+
+    private BitSet filter(final PetSearchCriteriaRequest criteria) {
+        BitSet matches = new BitSet(size);
+        matches.set(0, size);
+
+        if (criteria.id() != null) {
+            BitSet byId = new BitSet();
+            Integer row = rowById.get(criteria.id());
+            if (row != null) {
+                byId.set(row);
+            }
+            matches.and(byId);
+        }
+        if (criteria.species() != null) {
+            String species = Species.valueOfDescription(criteria.species()).getDescription();
+            matches.and(speciesBitmaps.getOrDefault(species, new BitSet()));
+        }
+        if (criteria.gender() != null) {
+            String gender = Gender.valueOfDescription(criteria.gender()).getDescription();
+            matches.and(genderBitmaps.getOrDefault(gender, new BitSet()));
+        }
+        if (criteria.ageRange() != null) {
+            AgeRange ageRange = AgeRange.fromDescription(criteria.ageRange());
+            matches.and(ageRangeBitmaps.getOrDefault(ageRange, new BitSet()));
+        }
+        if (criteria.weightRange() != null) {
+            WeightRange weightRange = WeightRange.fromDescription(criteria.weightRange());
+            matches.and(weightRangeBitmaps.getOrDefault(weightRange, new BitSet()));
+        }
+        return matches;
+    }
+
+    private List<PetSearchCriteriaDto> page(final BitSet matches, final Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<PetSearchCriteriaDto> content = new ArrayList<>(Math.min(limit, size));
+
+        Sort.Order createDateOrder = pageable.getSort()
+            .getOrderFor(PageableBuilder.DEFAULT_SORT_PROPERTY);
+        boolean sortedByCreateDateOnly = createDateOrder != null
+            && pageable.getSort().stream().count() == 1;
+
+        if (rowsInCreateDateOrder && sortedByCreateDateOnly) {
+            boolean descending = createDateOrder.isDescending();
+            int row = descending ? matches.previousSetBit(size - 1) : matches.nextSetBit(0);
+            for (long skipped = 0; row >= 0 && content.size() < limit; skipped++) {
+                if (skipped >= offset) {
+                    content.add(pets[row]);
+                }
+                row = descending ? matches.previousSetBit(row - 1) : matches.nextSetBit(row + 1);
+            }
+            return content;
+        }
+
+        matches.stream()
+            .boxed()
+            .sorted(comparator(pageable.getSort()))
+            .skip(offset)
+            .limit(limit)
+            .forEach(row -> content.add(pets[row]));
+        return content;
+    }
+
+    private Comparator<Integer> comparator(final Sort sort) {
+        Comparator<Integer> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Integer> byProperty = switch (order.getProperty()) {
+                case SORT_WEIGHT -> Comparator.comparingDouble(row -> weights[row]);
+                case SORT_BIRTH_DATE -> Comparator.comparingLong(row -> birthDates[row]);
+                default -> Comparator.comparingLong(row -> createDates[row]);
+            };
+            comparator = comparator.thenComparing(
+                order.isDescending() ? byProperty.reversed() : byProperty
+            );
+        }
+        return comparator;
+    }
+
+    private void refreshAgeRanges(final LocalDate today) {
+        if (today.equals(ageRangesComputedFor)) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (today.equals(ageRangesComputedFor)) {
+                return;
+            }
+            ageRangeBitmaps.clear();
+            for (int row = 0; row < size; row++) {
+                indexAgeRanges(row, today);
+            }
+            ageRangesComputedFor = today;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexAgeRanges(final int row, final LocalDate today) {
+        LocalDate birthDate = pets[row].birthDate();
+        for (AgeRange ageRange : AgeRange.values()) {
+            BirthDateRange range = PetSpecifications.birthDateRange(ageRange, today);
+            if (range.contains(birthDate)) {
+                ageRangeBitmaps.computeIfAbsent(ageRange, key -> new BitSet()).set(row);
+            }
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size < pets.length) {
+            return;
+        }
+        int capacity = pets.length * 2;
+        pets = Arrays.copyOf(pets, capacity);
+        createDates = Arrays.copyOf(createDates, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        birthDates = Arrays.copyOf(birthDates, capacity);
+    }
+
+    private static long toEpochMicros(final LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+            + dateTime.getNano() / NANOS_PER_MICRO;
+    }
+}
@@ -0,0 +1,8 @@
+package com.buddy.api.domains.pet.repositories;
+
+import com.buddy.api.domains.pet.entities.PetEntity;
+import java.util.List;
+
+public interface PetBulkRepository {
+    void insertAll(List<PetEntity> pets);
+}
@@ -0,0 +1,62 @@
+package com.buddy.api.domains.pet.repositories;
+
+import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.pet.entities.PetImageEntity;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class PetBulkRepositoryImpl implements PetBulkRepository {
+
+    private static final String INSERT_PET = """
+        INSERT INTO pet (id, name, specie, gender, birth_date, location, weight, description,
+                         avatar, shelter_id, create_date, update_date)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_PET_IMAGE = """
+        INSERT INTO pet_image (id, image_url, pet_id, create_date, update_date)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(final List<PetEntity> pets) {
+        if (pets.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PET, pets, pets.size(), (statement, pet) -> {
+            statement.setObject(1, pet.getId());
+            statement.setString(2, pet.getName());
+            statement.setString(3, pet.getSpecie());
+            statement.setString(4, pet.getGender());
+            statement.setObject(5, pet.getBirthDate(), Types.DATE);
+            statement.setString(6, pet.getLocation());
+            statement.setObject(7, pet.getWeight(), Types.DOUBLE);
+            statement.setString(8, pet.getDescription());
+            statement.setString(9, pet.getAvatar());
+            statement.setObject(10, pet.getShelter().getId());
+            statement.setObject(11, pet.getCreateDate(), Types.TIMESTAMP);
+            statement.setObject(12, pet.getUpdateDate(), Types.TIMESTAMP);
+        });
+
+        List<PetImageEntity> images = pets.stream()
+            .flatMap(pet -> pet.getImages().stream())
+            .toList();
+        if (images.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PET_IMAGE, images, images.size(), (statement, image) -> {
+            statement.setObject(1, image.getId());
+            statement.setString(2, image.getImageUrl());
+            statement.setObject(3, image.getPet().getId());
+            statement.setObject(4, image.getCreateDate(), Types.TIMESTAMP);
+            statement.setObject(5, image.getUpdateDate(), Types.TIMESTAMP);
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.buddy.api.domains.pet.repositories;
+
+import com.buddy.api.domains.pet.dtos.PetFacetsDto;
+import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+
+public interface PetFacetRepository {
+    PetFacetsDto countFacets(PetSearchCriteriaRequest params);
+}
@@ -0,0 +1,107 @@
+package com.buddy.api.domains.pet.repositories;
+
+import com.buddy.api.commons.enums.AgeRange;
+import com.buddy.api.commons.enums.Gender;
+import com.buddy.api.commons.enums.Species;
+import com.buddy.api.commons.enums.WeightRange;
+import com.buddy.api.domains.pet.dtos.PetFacetsDto;
+import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.pet.specifications.PetSpecifications;
+import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest.PetSearchCriteriaRequestBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PetFacetRepositoryImpl implements PetFacetRepository {
+
+    private static final List<Facet> FACETS = List.of(
+        new Facet(descriptions(Species.values(), Species::getDescription),
+            PetSearchCriteriaRequestBuilder::species),
+        new Facet(descriptions(Gender.values(), Gender::getDescription),
+            PetSearchCriteriaRequestBuilder::gender),
+        new Facet(descriptions(AgeRange.values(), AgeRange::getDescription),
+            PetSearchCriteriaRequestBuilder::ageRange),
+        new Facet(descriptions(WeightRange.values(), WeightRange::getDescription),
+            PetSearchCriteriaRequestBuilder::weightRange)
+    );
+
+    private final EntityManager entityManager;
+
+    @Override
+    public PetFacetsDto countFacets(final PetSearchCriteriaRequest params) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<PetEntity> root = query.from(PetEntity.class);
+
+        PetSearchCriteriaRequest baseFilters = params.toBuilder()
+            .species(null)
+            .gender(null)
+            .ageRange(null)
+            .weightRange(null)
+            .build();
+        PetSearchCriteriaRequest facetFilters = PetSearchCriteriaRequest.builder()
+            .species(params.species())
+            .gender(params.gender())
+            .ageRange(params.ageRange())
+            .weightRange(params.weightRange())
+            .build();
+
+        List<Selection<?>> counts = new ArrayList<>();
+        for (Facet facet : FACETS) {
+            for (String bucket : facet.buckets()) {
+                PetSearchCriteriaRequest bucketFilters = facet.narrow()
+                    .apply(facetFilters.toBuilder(), bucket)
+                    .build();
+                counts.add(criteriaBuilder.count(criteriaBuilder.<Long>selectCase().when(
+                    PetSpecifications.withParams(bucketFilters)
+                        .toPredicate(root, query, criteriaBuilder),
+                    1L)));
+            }
+        }
+
+        query.multiselect(counts)
+            .where(PetSpecifications.withParams(baseFilters)
+                .toPredicate(root, query, criteriaBuilder))
+            .orderBy(List.of());
+
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+
+        List<Map<String, Long>> facetCounts = new ArrayList<>();
+        int index = 0;
+        for (Facet facet : FACETS) {
+            Map<String, Long> bucketCounts = new LinkedHashMap<>();
+            for (String bucket : facet.buckets()) {
+                bucketCounts.put(bucket, result.get(index++, Long.class));
+            }
+            facetCounts.add(bucketCounts);
+        }
+
+        return new PetFacetsDto(
+            facetCounts.get(0), facetCounts.get(1), facetCounts.get(2), facetCounts.get(3)
+        );
+    }
+
+    private static <E> List<String> descriptions(final E[] values,
+                                                 final Function<E, String> description) {
+        return Arrays.stream(values).map(description).toList();
+    }
+
+    private record Facet(
+        List<String> buckets,
+        BiFunction<PetSearchCriteriaRequestBuilder, String, PetSearchCriteriaRequestBuilder> narrow
+    ) {
+    }
+}
@@ -1,12 +1,45 @@
 package com.buddy.api.domains.pet.repositories;
 
 import com.buddy.api.domains.pet.entities.PetEntity;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PetRepository
-    extends JpaRepository<PetEntity, UUID>, JpaSpecificationExecutor<PetEntity> {
-}
\ No newline at end of file
+    extends JpaRepository<PetEntity, UUID>, JpaSpecificationExecutor<PetEntity>,
+    PetFacetRepository, PetBulkRepository {
+
+    String SHELTER_GRAPH_PATH = "shelter";
+
+    @Override
+    @EntityGraph(attributePaths = SHELTER_GRAPH_PATH)
+    Page<PetEntity> findAll(Specification<PetEntity> spec, Pageable pageable);
+
+    @Query("SELECT p FROM PetEntity p JOIN FETCH p.shelter ORDER BY p.createDate DESC, p.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PetEntity> streamAllForExport();
+
+    @Query("SELECT MAX(p.updateDate) AS lastUpdate, COUNT(p) AS total FROM PetEntity p")
+    CatalogVersion findCatalogVersion();
+
+    interface CatalogVersion {
+        LocalDateTime getLastUpdate();
+
+        long getTotal();
+    }
+}
@@ -0,0 +1,12 @@
+package com.buddy.api.domains.pet.repositories;
+
+import com.buddy.api.commons.page.PageCursor;
+import com.buddy.api.domains.pet.dtos.PetV2SummaryDto;
+import com.buddy.api.web.pets.requests.PetV2SearchCriteriaRequest;
+import java.util.List;
+
+public interface PetV2SearchRepository {
+    List<PetV2SummaryDto> searchAdoptable(PetV2SearchCriteriaRequest params,
+                                          PageCursor after,
+                                          int limit);
+}
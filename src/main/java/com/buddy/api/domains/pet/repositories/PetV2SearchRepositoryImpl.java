@@ -0,0 +1,91 @@
+package com.buddy.api.domains.pet.repositories;
+
+import com.buddy.api.commons.page.PageCursor;
+import com.buddy.api.domains.image.enums.ImageStatus;
+import com.buddy.api.domains.pet.dtos.PetV2SummaryDto;
+import com.buddy.api.domains.pet.enums.PetGender;
+import com.buddy.api.domains.pet.enums.PetSpecies;
+import com.buddy.api.web.pets.requests.PetV2SearchCriteriaRequest;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@RequiredArgsConstructor
+public class PetV2SearchRepositoryImpl implements PetV2SearchRepository {
+
+    private static final String SELECT_ADOPTABLE = """
+        SELECT p.pet_v2_id, p.profile_id, p.name, p.species, p.gender, p.approximate_age,
+               p.age_report_date, p.size, p.weight, p.is_neutered, p.description,
+               p.creation_date, avatar.file_path AS avatar
+          FROM pet_v2 p
+          LEFT JOIN LATERAL (
+               SELECT i.file_path
+                 FROM image i
+                WHERE i.pet_v2_id = p.pet_v2_id
+                  AND i.is_avatar = TRUE
+                  AND i.image_status = :approved
+                ORDER BY i.display_order
+                LIMIT 1
+          ) avatar ON TRUE
+         WHERE p.is_for_adoption = TRUE
+        """;
+
+    private static final String ORDER_AND_LIMIT = """
+         ORDER BY p.creation_date DESC, p.pet_v2_id DESC
+         LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<PetV2SummaryDto> searchAdoptable(final PetV2SearchCriteriaRequest params,
+                                                 final PageCursor after,
+                                                 final int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_ADOPTABLE);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("approved", ImageStatus.APPROVED.name())
+            .addValue("limit", limit);
+
+        if (params.species() != null) {
+            sql.append("   AND p.species = :species\n");
+            parameters.addValue("species", params.species().name());
+        }
+        if (params.gender() != null) {
+            sql.append("   AND p.gender = :gender\n");
+            parameters.addValue("gender", params.gender().name());
+        }
+        if (after != null) {
+            sql.append("   AND (p.creation_date, p.pet_v2_id) < (:afterDate, :afterId)\n");
+            parameters.addValue("afterDate", after.createDate());
+            parameters.addValue("afterId", after.id());
+        }
+        sql.append(ORDER_AND_LIMIT);
+
+        return jdbcTemplate.query(sql.toString(), parameters, PetV2SearchRepositoryImpl::mapRow);
+    }
+
+    private static PetV2SummaryDto mapRow(final ResultSet resultSet, final int rowNum)
+        throws SQLException {
+        return PetV2SummaryDto.builder()
+            .id(resultSet.getObject("pet_v2_id", UUID.class))
+            .profileId(resultSet.getObject("profile_id", UUID.class))
+            .name(resultSet.getString("name"))
+            .species(PetSpecies.valueOf(resultSet.getString("species")))
+            .gender(PetGender.valueOf(resultSet.getString("gender")))
+            .approximateAge(resultSet.getObject("approximate_age", Integer.class))
+            .ageReportDate(resultSet.getObject("age_report_date", LocalDate.class))
+            .size(resultSet.getBigDecimal("size"))
+            .weight(resultSet.getBigDecimal("weight"))
+            .isNeutered(resultSet.getObject("is_neutered", Boolean.class))
+            .description(resultSet.getString("description"))
+            .avatar(resultSet.getString("avatar"))
+            .creationDate(resultSet.getObject("creation_date", LocalDateTime.class))
+            .build();
+    }
+}
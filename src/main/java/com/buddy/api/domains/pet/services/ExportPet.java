@@ -0,0 +1,8 @@
+package com.buddy.api.domains.pet.services;
+
+import com.buddy.api.domains.pet.dtos.PetSearchCriteriaDto;
+import java.util.function.Consumer;
+
+public interface ExportPet {
+    long exportPets(Consumer<PetSearchCriteriaDto> consumer);
+}
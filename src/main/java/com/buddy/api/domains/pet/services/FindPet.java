@@ -1,5 +1,8 @@
 package com.buddy.api.domains.pet.services;
 
+import com.buddy.api.commons.configurations.cache.VersionStamp;
+import com.buddy.api.domains.pet.dtos.PetCursorPageDto;
+import com.buddy.api.domains.pet.dtos.PetFacetsDto;
 import com.buddy.api.domains.pet.dtos.PetSearchCriteriaDto;
 import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
 import org.springframework.data.domain.Page;
@@ -7,4 +10,10 @@ import org.springframework.data.domain.Pageable;
 
 public interface FindPet {
     Page<PetSearchCriteriaDto> findPets(PetSearchCriteriaRequest searchParams, Pageable pageable);
+
+    PetCursorPageDto findPetsAfter(PetSearchCriteriaRequest searchParams, String after, int size);
+
+    PetFacetsDto countFacets(PetSearchCriteriaRequest searchParams);
+
+    VersionStamp findCatalogVersion();
 }
@@ -0,0 +1,10 @@
+package com.buddy.api.domains.pet.services;
+
+import com.buddy.api.domains.pet.dtos.PetV2CursorPageDto;
+import com.buddy.api.web.pets.requests.PetV2SearchCriteriaRequest;
+
+public interface FindPetV2 {
+    PetV2CursorPageDto findAdoptable(PetV2SearchCriteriaRequest searchParams,
+                                     String after,
+                                     int size);
+}
@@ -0,0 +1,9 @@
+package com.buddy.api.domains.pet.services;
+
+import com.buddy.api.domains.pet.dtos.PetImportResultDto;
+import com.buddy.api.domains.pet.dtos.PetImportRowDto;
+import java.util.stream.Stream;
+
+public interface ImportPet {
+    PetImportResultDto importPets(Stream<PetImportRowDto> rows);
+}
@@ -1,7 +1,9 @@
 package com.buddy.api.domains.pet.services.impl;
 
+import com.buddy.api.commons.configurations.cache.PetSearchCache;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.domains.pet.dtos.PetDto;
+import com.buddy.api.domains.pet.index.PetCatalogIndex;
 import com.buddy.api.domains.pet.mappers.PetDomainMapper;
 import com.buddy.api.domains.pet.repositories.PetRepository;
 import com.buddy.api.domains.pet.services.CreatePet;
@@ -9,6 +11,7 @@ import com.buddy.api.domains.shelter.repositories.ShelterRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -19,6 +22,8 @@ public class CreatePetImpl implements CreatePet {
     private final PetRepository petRepository;
     private final PetDomainMapper mapper;
     private final ShelterRepository shelterRepository;
+    private final PetSearchCache petSearchCache;
+    private final ObjectProvider<PetCatalogIndex> petCatalogIndex;
 
     @Override
     @Transactional
@@ -35,6 +40,8 @@ public class CreatePetImpl implements CreatePet {
 
         log.info("Creating pet '{}' for shelter ID: {}", petDto.name(), petDto.shelterId());
         petRepository.save(petEntity);
+        petSearchCache.invalidate();
+        petCatalogIndex.ifAvailable(index -> index.add(petEntity));
         log.info("Pet created successfully with ID: {}", petEntity.getId());
     }
 }
@@ -0,0 +1,60 @@
+package com.buddy.api.domains.pet.services.impl;
+
+import com.buddy.api.domains.pet.dtos.PetSearchCriteriaDto;
+import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.pet.mappers.PetDomainMapper;
+import com.buddy.api.domains.pet.repositories.PetRepository;
+import com.buddy.api.domains.pet.services.ExportPet;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportPetImpl implements ExportPet {
+
+    private static final int DETACH_BATCH_SIZE = 50;
+
+    private final PetRepository petRepository;
+    private final PetDomainMapper mapper;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPets(final Consumer<PetSearchCriteriaDto> consumer) {
+        List<PetEntity> batch = new ArrayList<>(DETACH_BATCH_SIZE);
+        long exported = 0;
+
+        try (Stream<PetEntity> pets = petRepository.streamAllForExport()) {
+            Iterator<PetEntity> iterator = pets.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == DETACH_BATCH_SIZE) {
+                    exported += writeAndDetach(batch, consumer);
+                }
+            }
+            exported += writeAndDetach(batch, consumer);
+        }
+
+        log.info("Exported {} pets", exported);
+        return exported;
+    }
+
+    private int writeAndDetach(final List<PetEntity> batch,
+                               final Consumer<PetSearchCriteriaDto> consumer) {
+        batch.forEach(pet -> consumer.accept(mapper.mapParamsToDto(pet)));
+        batch.forEach(entityManager::detach);
+
+        int written = batch.size();
+        batch.clear();
+        return written;
+    }
+}
@@ -1,24 +1,41 @@
 package com.buddy.api.domains.pet.services.impl;
 
+import com.buddy.api.commons.configurations.cache.PetSearchCache;
+import com.buddy.api.commons.configurations.cache.ResourceVersions;
+import com.buddy.api.commons.configurations.cache.VersionStamp;
 import com.buddy.api.commons.exceptions.PetSearchException;
+import com.buddy.api.commons.page.PageCursor;
 import com.buddy.api.commons.page.PageableBuilder;
+import com.buddy.api.domains.pet.dtos.PetCursorPageDto;
+import com.buddy.api.domains.pet.dtos.PetFacetsDto;
 import com.buddy.api.domains.pet.dtos.PetSearchCriteriaDto;
+import com.buddy.api.domains.pet.dtos.PetSearchPageDto;
 import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.pet.index.PetCatalogIndex;
 import com.buddy.api.domains.pet.mappers.PetDomainMapper;
 import com.buddy.api.domains.pet.repositories.PetRepository;
 import com.buddy.api.domains.pet.services.FindPet;
 import com.buddy.api.domains.pet.specifications.PetSpecifications;
 import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -26,25 +43,134 @@ public class FindPetImpl implements FindPet {
 
     private final PetRepository petRepository;
     private final PetDomainMapper mapper;
+    private final PetSearchCache petSearchCache;
+    private final ResourceVersions resourceVersions;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectProvider<PetCatalogIndex> petCatalogIndex;
 
     @Override
-    @Transactional(readOnly = true)
     public Page<PetSearchCriteriaDto> findPets(final PetSearchCriteriaRequest searchParams,
                                                final Pageable pageable) {
-        try {
-            Specification<PetEntity> spec = PetSpecifications.withParams(searchParams);
-            Pageable adjustedPageable = PageableBuilder.buildPageable(pageable);
-            Page<PetEntity> petPage = petRepository.findAll(spec, adjustedPageable);
+        return translateSearchErrors(() -> {
+            Pageable adjustedPageable = isRankedSearch(searchParams)
+                ? pageable
+                : PageableBuilder.buildPageable(pageable);
+            PetSearchPageDto result = Optional.ofNullable(petCatalogIndex.getIfAvailable())
+                .flatMap(index -> index.search(searchParams, adjustedPageable))
+                .orElseGet(() -> petSearchCache.get(searchParams, adjustedPageable,
+                    () -> readOnlyTransaction().execute(status ->
+                        searchPets(searchParams, adjustedPageable))));
 
-            if (petPage.isEmpty()) {
+            if (result.content().isEmpty()) {
                 return Page.empty();
             }
 
-            List<PetSearchCriteriaDto> dtos = petPage.stream()
+            return new PageImpl<>(result.content(), adjustedPageable, result.totalElements());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PetCursorPageDto findPetsAfter(final PetSearchCriteriaRequest searchParams,
+                                          final String after,
+                                          final int size) {
+        validateCursorPageSize(size);
+        ScrollPosition position = toScrollPosition(after);
+
+        return translateSearchErrors(() -> {
+            Specification<PetEntity> spec = PetSpecifications.withParams(searchParams);
+            Window<PetEntity> window = petRepository.findBy(spec, query -> query
+                .project(PetRepository.SHELTER_GRAPH_PATH)
+                .sortBy(PageableBuilder.keysetSort())
+                .limit(size)
+                .scroll(position));
+
+            List<PetSearchCriteriaDto> dtos = window.stream()
                 .map(mapper::mapParamsToDto)
                 .toList();
 
-            return new PageImpl<>(dtos, adjustedPageable, petPage.getTotalElements());
+            String nextCursor = window.hasNext() && !window.isEmpty()
+                ? toCursor(window.getContent().getLast()).encode()
+                : null;
+
+            return new PetCursorPageDto(dtos, nextCursor);
+        });
+    }
+
+    @Override
+    public PetFacetsDto countFacets(final PetSearchCriteriaRequest searchParams) {
+        return translateSearchErrors(() -> petSearchCache.getFacets(searchParams,
+            () -> readOnlyTransaction().execute(status ->
+                petRepository.countFacets(searchParams))));
+    }
+
+    @Override
+    public VersionStamp findCatalogVersion() {
+        return resourceVersions.stamp(ResourceVersions.PETS, () -> readOnlyTransaction()
+            .execute(status -> toVersionStamp(petRepository.findCatalogVersion())));
+    }
+
+    private VersionStamp toVersionStamp(final PetRepository.CatalogVersion version) {
+        long lastModified = version.getLastUpdate() != null
+            ? version.getLastUpdate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : VersionStamp.UNKNOWN_LAST_MODIFIED;
+        return new VersionStamp(lastModified, version.getLastUpdate() + "|" + version.getTotal());
+    }
+
+    private PetSearchPageDto searchPets(final PetSearchCriteriaRequest searchParams,
+                                        final Pageable pageable) {
+        Specification<PetEntity> spec = PetSpecifications.withParams(searchParams);
+        Page<PetEntity> petPage = petRepository.findAll(spec, pageable);
+
+        List<PetSearchCriteriaDto> dtos = petPage.stream()
+            .map(mapper::mapParamsToDto)
+            .toList();
+
+        return new PetSearchPageDto(dtos, petPage.getTotalElements());
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    private boolean isRankedSearch(final PetSearchCriteriaRequest searchParams) {
+        return searchParams.query() != null && !searchParams.query().isBlank();
+    }
+
+    private void validateCursorPageSize(final int size) {
+        if (size < 1 || size > PageableBuilder.MAX_CURSOR_PAGE_SIZE) {
+            throw new PetSearchException(
+                "size",
+                "Page size must be between 1 and " + PageableBuilder.MAX_CURSOR_PAGE_SIZE
+            );
+        }
+    }
+
+    private ScrollPosition toScrollPosition(final String after) {
+        if (after == null || after.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            PageCursor cursor = PageCursor.decode(after);
+            return ScrollPosition.forward(Map.of(
+                PageableBuilder.DEFAULT_SORT_PROPERTY, cursor.createDate(),
+                PageableBuilder.KEYSET_TIEBREAKER_PROPERTY, cursor.id()
+            ));
+        } catch (IllegalArgumentException ex) {
+            throw new PetSearchException("after", "Invalid or malformed cursor", ex);
+        }
+    }
+
+    private PageCursor toCursor(final PetEntity petEntity) {
+        return new PageCursor(petEntity.getCreateDate(), petEntity.getId());
+    }
+
+    private <T> T translateSearchErrors(final Supplier<T> search) {
+        try {
+            return search.get();
         } catch (PropertyReferenceException ex) {
             throw new PetSearchException(
                 ex.getPropertyName(),
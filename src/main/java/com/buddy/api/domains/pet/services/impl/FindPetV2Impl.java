@@ -0,0 +1,56 @@
+package com.buddy.api.domains.pet.services.impl;
+
+import com.buddy.api.commons.exceptions.PetSearchException;
+import com.buddy.api.commons.page.PageCursor;
+import com.buddy.api.commons.page.PageableBuilder;
+import com.buddy.api.domains.pet.dtos.PetV2CursorPageDto;
+import com.buddy.api.domains.pet.dtos.PetV2SummaryDto;
+import com.buddy.api.domains.pet.repositories.PetV2Repository;
+import com.buddy.api.domains.pet.services.FindPetV2;
+import com.buddy.api.web.pets.requests.PetV2SearchCriteriaRequest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class FindPetV2Impl implements FindPetV2 {
+
+    private final PetV2Repository petV2Repository;
+
+    @Override
+    public PetV2CursorPageDto findAdoptable(final PetV2SearchCriteriaRequest searchParams,
+                                            final String after,
+                                            final int size) {
+        if (size < 1 || size > PageableBuilder.MAX_CURSOR_PAGE_SIZE) {
+            throw new PetSearchException(
+                "size",
+                "Page size must be between 1 and " + PageableBuilder.MAX_CURSOR_PAGE_SIZE
+            );
+        }
+
+        List<PetV2SummaryDto> rows = petV2Repository.searchAdoptable(
+            searchParams, toCursor(after), size + 1);
+
+        if (rows.size() <= size) {
+            return new PetV2CursorPageDto(rows, null);
+        }
+
+        List<PetV2SummaryDto> content = rows.subList(0, size);
+        PetV2SummaryDto last = content.getLast();
+        return new PetV2CursorPageDto(
+            content, new PageCursor(last.creationDate(), last.id()).encode());
+    }
+
+    private PageCursor toCursor(final String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+
+        try {
+            return PageCursor.decode(after);
+        } catch (IllegalArgumentException ex) {
+            throw new PetSearchException("after", "Invalid or malformed cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.buddy.api.domains.pet.services.impl;
+
+import com.buddy.api.commons.configurations.cache.PetSearchCache;
+import com.buddy.api.domains.pet.dtos.PetDto;
+import com.buddy.api.domains.pet.dtos.PetImportErrorDto;
+import com.buddy.api.domains.pet.dtos.PetImportResultDto;
+import com.buddy.api.domains.pet.dtos.PetImportRowDto;
+import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.pet.index.PetCatalogIndex;
+import com.buddy.api.domains.pet.mappers.PetDomainMapper;
+import com.buddy.api.domains.pet.repositories.PetRepository;
+import com.buddy.api.domains.pet.services.ImportPet;
+import com.buddy.api.domains.shelter.entities.ShelterEntity;
+import com.buddy.api.domains.shelter.repositories.ShelterRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportPetImpl implements ImportPet {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PetRepository petRepository;
+    private final PetDomainMapper mapper;
+    private final ShelterRepository shelterRepository;
+    private final PetSearchCache petSearchCache;
+    private final ObjectProvider<PetCatalogIndex> petCatalogIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public PetImportResultDto importPets(final Stream<PetImportRowDto> rows) {
+        Map<UUID, Optional<ShelterEntity>> shelters = new HashMap<>();
+        List<PetEntity> batch = new ArrayList<>(BATCH_SIZE);
+        List<PetImportErrorDto> errors = new ArrayList<>();
+        long imported = 0;
+        long rejected = 0;
+
+        Iterator<PetImportRowDto> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            PetImportRowDto row = iterator.next();
+            List<PetImportErrorDto> rowErrors = row.isValid()
+                ? validateShelter(row, shelters)
+                : row.errors();
+
+            if (!rowErrors.isEmpty()) {
+                rejected++;
+                rowErrors.stream()
+                    .limit(Math.max(0, MAX_REPORTED_ERRORS - errors.size()))
+                    .forEach(errors::add);
+                continue;
+            }
+
+            ShelterEntity shelter = shelters.get(row.pet().shelterId()).orElseThrow();
+            batch.add(toEntity(row.pet(), shelter));
+            if (batch.size() == BATCH_SIZE) {
+                imported += flush(batch);
+            }
+        }
+        imported += flush(batch);
+
+        log.info("Pet import finished: {} imported, {} rejected, {} distinct shelters",
+            imported, rejected, shelters.size());
+        return new PetImportResultDto(imported, rejected, errors);
+    }
+
+    private List<PetImportErrorDto> validateShelter(
+        final PetImportRowDto row,
+        final Map<UUID, Optional<ShelterEntity>> shelters
+    ) {
+        UUID shelterId = row.pet().shelterId();
+        if (shelters.computeIfAbsent(shelterId, shelterRepository::findById).isPresent()) {
+            return List.of();
+        }
+        return List.of(new PetImportErrorDto(row.row(), "shelterId", "Shelter not found"));
+    }
+
+    private PetEntity toEntity(final PetDto petDto, final ShelterEntity shelter) {
+        LocalDateTime now = LocalDateTime.now();
+        PetEntity petEntity = mapper.mapToEntity(petDto);
+        petEntity.setId(UUID.randomUUID());
+        petEntity.setShelter(shelter);
+        petEntity.setCreateDate(now);
+        petEntity.setUpdateDate(now);
+        petEntity.getImages().forEach(image -> {
+            image.setId(UUID.randomUUID());
+            image.setPet(petEntity);
+            image.setCreateDate(now);
+            image.setUpdateDate(now);
+        });
+        return petEntity;
+    }
+
+    private int flush(final List<PetEntity> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<PetEntity> pets = List.copyOf(batch);
+        batch.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            petRepository.insertAll(pets);
+            petSearchCache.invalidate();
+            petCatalogIndex.ifAvailable(index -> index.addAll(pets));
+        });
+        log.debug("Imported a batch of {} pets", pets.size());
+        return pets.size();
+    }
+}
@@ -6,11 +6,18 @@ import com.buddy.api.commons.enums.Species;
 import com.buddy.api.commons.enums.WeightRange;
 import com.buddy.api.domains.pet.entities.PetEntity;
 import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import org.springframework.data.jpa.domain.Specification;
 
 // TODO: Refatorar essa classe pois está muito grande e complexa
@@ -28,6 +35,13 @@ public final class PetSpecifications {
     private static final String FIELD_WEIGHT = "weight";
     private static final String FIELD_DESCRIPTION = "description";
     private static final String FIELD_BIRTH_DATE = "birthDate";
+    private static final String FIELD_CREATE_DATE = "createDate";
+
+    private static final String UNACCENT_FUNCTION = "buddy_unaccent";
+    private static final String WORD_SIMILARITY_FUNCTION = "word_similarity";
+    private static final String GREATEST_FUNCTION = "greatest";
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
     public static Specification<PetEntity> withParams(final PetSearchCriteriaRequest params) {
         return (root, query, criteriaBuilder) -> {
@@ -40,7 +54,7 @@ public final class PetSpecifications {
                 value -> criteriaBuilder.equal(root.get("shelter").get(FIELD_ID), value));
 
             addPredicateIfNotNull(predicates, params.name(),
-                value -> criteriaBuilder.like(root.get(FIELD_NAME), "%" + value + "%"));
+                value -> containsIgnoringAccents(criteriaBuilder, root.get(FIELD_NAME), value));
 
             addPredicateIfNotNull(predicates, params.species(),
                 value -> criteriaBuilder.equal(root.get(FIELD_SPECIE),
@@ -51,7 +65,7 @@ public final class PetSpecifications {
                     Gender.valueOfDescription(value).getDescription()));
 
             addPredicateIfNotNull(predicates, params.location(),
-                value -> criteriaBuilder.like(root.get(FIELD_LOCATION), "%" + value + "%"));
+                value -> containsIgnoringAccents(criteriaBuilder, root.get(FIELD_LOCATION), value));
 
             addPredicateIfNotNull(predicates, params.weightRange(), value -> {
                 WeightRange range = WeightRange.fromDescription(value);
@@ -61,79 +75,114 @@ public final class PetSpecifications {
             });
 
             addPredicateIfNotNull(predicates, params.description(),
-                value -> criteriaBuilder.like(root.get(FIELD_DESCRIPTION), "%" + value + "%"));
-
-            if (params.ageRange() != null) {
-                AgeRange ageRange = AgeRange.fromDescription(params.ageRange());
-
-                LocalDate today = LocalDate.now();
-                LocalDate minBirthDate;
-                LocalDate maxBirthDate;
-
-                switch (ageRange.getDescription()) {
-                    case "10+ anos" -> {
-                        minBirthDate = today.minusYears(ageRange.getMin());
-                        predicates.add(
-                            criteriaBuilder.lessThanOrEqualTo(
-                                root.get(FIELD_BIRTH_DATE), minBirthDate
-                            )
-                        );
-                    }
-                    case "0-1 anos" -> {
-                        minBirthDate = today.minusYears(ageRange.getMax());
-                        maxBirthDate = today;
-                        predicates.add(
-                            criteriaBuilder.between(
-                                root.get(FIELD_BIRTH_DATE), minBirthDate, maxBirthDate
-                            )
-                        );
-                    }
-                    case "1-2 anos" -> {
-                        minBirthDate = today.minusYears(2).plusDays(1);
-                        maxBirthDate = today.minusYears(1);
-                        predicates.add(
-                            criteriaBuilder.between(
-                                root.get(FIELD_BIRTH_DATE), minBirthDate, maxBirthDate
-                            )
-                        );
-                    }
-                    case "2-3 anos" -> {
-                        minBirthDate = today.minusYears(3).plusDays(1);
-                        maxBirthDate = today.minusYears(2);
-                        predicates.add(
-                            criteriaBuilder.between(
-                                root.get(FIELD_BIRTH_DATE), minBirthDate, maxBirthDate
-                            )
-                        );
-                    }
-                    case "3-5 anos" -> {
-                        minBirthDate = today.minusYears(5).plusDays(1);
-                        maxBirthDate = today.minusYears(3);
-                        predicates.add(
-                            criteriaBuilder.between(
-                                root.get(FIELD_BIRTH_DATE), minBirthDate, maxBirthDate
-                            )
-                        );
-                    }
-                    case "5-10 anos" -> {
-                        minBirthDate = today.minusYears(10).plusDays(1);
-                        maxBirthDate = today.minusYears(5);
-                        predicates.add(
-                            criteriaBuilder.between(
-                                root.get(FIELD_BIRTH_DATE), minBirthDate, maxBirthDate
-                            )
-                        );
-                    }
-                    default -> throw new IllegalArgumentException(
-                        "Unknown age range " + ageRange.getDescription()
-                    );
-                }
-            }
+                value -> containsIgnoringAccents(
+                    criteriaBuilder, root.get(FIELD_DESCRIPTION), value
+                ));
+
+            addPredicateIfNotNull(predicates, params.query(), value -> {
+                orderByRelevance(root, query, criteriaBuilder, value);
+                return criteriaBuilder.and(WHITESPACE.splitAsStream(value.trim())
+                    .map(term -> criteriaBuilder.or(
+                        containsIgnoringAccents(criteriaBuilder, root.get(FIELD_NAME), term),
+                        containsIgnoringAccents(criteriaBuilder, root.get(FIELD_LOCATION), term),
+                        containsIgnoringAccents(criteriaBuilder, root.get(FIELD_DESCRIPTION), term)
+                    ))
+                    .toArray(Predicate[]::new));
+            });
+
+            addPredicateIfNotNull(predicates, params.ageRange(), value -> {
+                BirthDateRange range = birthDateRange(
+                    AgeRange.fromDescription(value), LocalDate.now()
+                );
+                Expression<LocalDate> birthDate = root.get(FIELD_BIRTH_DATE);
+                return range.from() == null
+                    ? criteriaBuilder.lessThanOrEqualTo(birthDate, range.to())
+                    : criteriaBuilder.between(birthDate, range.from(), range.to());
+            });
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
 
+    public static BirthDateRange birthDateRange(final AgeRange ageRange, final LocalDate today) {
+        return switch (ageRange.getDescription()) {
+            case "10+ anos" -> new BirthDateRange(null, today.minusYears(ageRange.getMin()));
+            case "0-1 anos" -> new BirthDateRange(today.minusYears(ageRange.getMax()), today);
+            case "1-2 anos" -> new BirthDateRange(today.minusYears(2).plusDays(1),
+                today.minusYears(1));
+            case "2-3 anos" -> new BirthDateRange(today.minusYears(3).plusDays(1),
+                today.minusYears(2));
+            case "3-5 anos" -> new BirthDateRange(today.minusYears(5).plusDays(1),
+                today.minusYears(3));
+            case "5-10 anos" -> new BirthDateRange(today.minusYears(10).plusDays(1),
+                today.minusYears(5));
+            default -> throw new IllegalArgumentException(
+                "Unknown age range " + ageRange.getDescription()
+            );
+        };
+    }
+
+    public record BirthDateRange(LocalDate from, LocalDate to) {
+
+        public boolean contains(final LocalDate birthDate) {
+            return birthDate != null
+                && (from == null || !birthDate.isBefore(from))
+                && !birthDate.isAfter(to);
+        }
+    }
+
+    public static String normalizeSearchTerm(final String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static Predicate containsIgnoringAccents(final CriteriaBuilder criteriaBuilder,
+                                                     final Expression<String> field,
+                                                     final String value) {
+        return criteriaBuilder.like(
+            unaccentLower(criteriaBuilder, field),
+            "%" + normalizeSearchTerm(value) + "%"
+        );
+    }
+
+    private static Expression<String> unaccentLower(final CriteriaBuilder criteriaBuilder,
+                                                    final Expression<String> field) {
+        return criteriaBuilder.function(
+            UNACCENT_FUNCTION, String.class, criteriaBuilder.lower(field)
+        );
+    }
+
+    private static void orderByRelevance(final Root<PetEntity> root,
+                                         final CriteriaQuery<?> query,
+                                         final CriteriaBuilder criteriaBuilder,
+                                         final String value) {
+        if (query == null || Long.class.equals(query.getResultType())
+            || long.class.equals(query.getResultType())) {
+            return;
+        }
+
+        Expression<String> term = criteriaBuilder.literal(normalizeSearchTerm(value));
+        Expression<Double> relevance = criteriaBuilder.function(
+            GREATEST_FUNCTION, Double.class,
+            wordSimilarity(criteriaBuilder, term, root.get(FIELD_NAME)),
+            wordSimilarity(criteriaBuilder, term, root.get(FIELD_LOCATION)),
+            wordSimilarity(criteriaBuilder, term, root.get(FIELD_DESCRIPTION))
+        );
+
+        query.orderBy(
+            criteriaBuilder.desc(relevance),
+            criteriaBuilder.desc(root.get(FIELD_CREATE_DATE))
+        );
+    }
+
+    private static Expression<Double> wordSimilarity(final CriteriaBuilder criteriaBuilder,
+                                                     final Expression<String> term,
+                                                     final Expression<String> field) {
+        return criteriaBuilder.function(
+            WORD_SIMILARITY_FUNCTION, Double.class, term, unaccentLower(criteriaBuilder, field)
+        );
+    }
+
     private static <T> void addPredicateIfNotNull(
         final List<Predicate> predicates,
         final T value,
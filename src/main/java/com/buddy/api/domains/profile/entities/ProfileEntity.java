@@ -2,6 +2,7 @@ package com.buddy.api.domains.profile.entities;
 
 import com.buddy.api.domains.account.entities.AccountEntity;
 import com.buddy.api.domains.profile.enums.ProfileTypeEnum;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -21,6 +22,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -31,6 +34,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Table(name = "profile")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profile")
 public class ProfileEntity {
 
     @Id
@@ -1,5 +1,6 @@
 package com.buddy.api.domains.profile.services.impl;
 
+import com.buddy.api.commons.configurations.cache.UserDetailsCache;
 import com.buddy.api.commons.exceptions.InvalidProfileTypeException;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.commons.exceptions.ProfileNameAlreadyRegisteredException;
@@ -23,6 +24,7 @@ public class CreateProfileImpl implements CreateProfile {
     private final AccountMapper accountMapper;
     private final ProfileMapper profileMapper;
     private final ProfileRepository profileRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     @Transactional
@@ -34,6 +36,7 @@ public class CreateProfileImpl implements CreateProfile {
         final var profileEntity = profileMapper.toProfileEntity(profileDto, account);
         profileEntity.setName(profileDto.name().trim());
         profileRepository.save(profileEntity);
+        userDetailsCache.evictAfterCommit(findAccount.findEmailById(accountId));
     }
 
     private void validateProfileDto(final ProfileDto profileDto,
@@ -1,6 +1,7 @@
 package com.buddy.api.domains.shelter.entities;
 
 import com.buddy.api.domains.pet.entities.PetEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,11 +20,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "SHELTER")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "shelter")
 @Getter
 @Setter
 @Builder
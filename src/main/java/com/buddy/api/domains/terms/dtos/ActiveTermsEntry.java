@@ -0,0 +1,9 @@
+package com.buddy.api.domains.terms.dtos;
+
+import java.io.Serializable;
+
+public record ActiveTermsEntry(
+    TermsVersionDto terms,
+    long expiresAt,
+    long loadMillis
+) implements Serializable { }
@@ -1,5 +1,6 @@
 package com.buddy.api.domains.terms.services.impl;
 
+import com.buddy.api.commons.configurations.cache.ActiveTermsCache;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.domains.terms.dtos.TermsVersionDto;
 import com.buddy.api.domains.terms.mappers.TermsMapper;
@@ -9,7 +10,6 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,14 +20,13 @@ public class FindTermsVersionImpl implements FindTermsVersion {
 
     private final TermsVersionRepository termsVersionRepository;
     private final TermsMapper termsMapper;
+    private final ActiveTermsCache activeTermsCache;
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = "terms", key = "'active'", unless = "#result == null")
     public TermsVersionDto findActive() {
-        return termsMapper.toTermsVersionDto(
+        return activeTermsCache.get(() -> termsMapper.toTermsVersionDto(
             termsVersionRepository.findFirstByIsActiveTrueOrderByPublicationDateDesc()
-                .orElseThrow(() -> new NotFoundException("terms", "No active terms found")));
+                .orElseThrow(() -> new NotFoundException("terms", "No active terms found"))));
     }
 
     @Override
@@ -1,7 +1,10 @@
 package com.buddy.api.integrations.clients.configs;
 
+import com.buddy.api.commons.configurations.properties.ManagerApiProperties;
 import com.buddy.api.integrations.clients.configs.error.CustomErrorDecoder;
+import feign.Request;
 import feign.codec.ErrorDecoder;
+import java.util.concurrent.TimeUnit;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,4 +15,13 @@ public class FeignConfig {
     public ErrorDecoder customErrorDecoder() {
         return new CustomErrorDecoder();
     }
+
+    @Bean
+    public Request.Options managerRequestOptions(final ManagerApiProperties properties) {
+        return new Request.Options(
+            properties.connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+            properties.readTimeoutMillis(), TimeUnit.MILLISECONDS,
+            true
+        );
+    }
 }
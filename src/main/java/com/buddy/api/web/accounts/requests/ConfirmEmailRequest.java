@@ -7,6 +7,9 @@ import lombok.Builder;
 @Builder
 public record ConfirmEmailRequest(
     @NotBlank(message = "token is required")
-    @Pattern(regexp = "^[0-9a-fA-F\\-]{36}$", message = "token must be a valid UUID format")
+    @Pattern(
+        regexp = "^([0-9a-fA-F\\-]{36}|[A-Za-z0-9_\\-]+\\.[A-Za-z0-9_\\-]+)$",
+        message = "token must be a valid verification token"
+    )
     String token
 ) { }
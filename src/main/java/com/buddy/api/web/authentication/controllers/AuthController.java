@@ -3,6 +3,7 @@ package com.buddy.api.web.authentication.controllers;
 import com.buddy.api.commons.configurations.security.cookies.CookieManager;
 import com.buddy.api.commons.configurations.security.jwt.JwtUtil;
 import com.buddy.api.domains.authentication.dtos.AuthDto;
+import com.buddy.api.domains.authentication.dtos.AuthenticatedUser;
 import com.buddy.api.domains.authentication.services.AuthService;
 import com.buddy.api.web.authentication.mappers.AuthenticationMapper;
 import com.buddy.api.web.authentication.requests.AuthRequest;
@@ -13,6 +14,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -73,4 +76,13 @@ public class AuthController implements AuthControllerDoc {
         authenticateService.logoutComplete(request);
         cookieManager.clearCookies(response);
     }
+
+    @PostMapping("/logout/all")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated()")
+    public void logoutEverywhere(@AuthenticationPrincipal final AuthenticatedUser user,
+                                 final HttpServletResponse response) {
+        authenticateService.logoutEverywhere(user.getEmail());
+        cookieManager.clearCookies(response);
+    }
 }
@@ -1,5 +1,6 @@
 package com.buddy.api.web.authentication.controllers;
 
+import com.buddy.api.domains.authentication.dtos.AuthenticatedUser;
 import com.buddy.api.web.advice.error.ErrorResponse;
 import com.buddy.api.web.authentication.requests.AuthRequest;
 import com.buddy.api.web.authentication.responses.AuthResponse;
@@ -86,4 +87,27 @@ public interface AuthControllerDoc {
         HttpServletRequest request,
         HttpServletResponse response
     );
+
+    @Operation(
+        summary = "Logout user from every session",
+        description = "Revokes every access and refresh token issued to the authenticated account "
+            + "and clears authentication cookies."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "All sessions revoked successfully"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden (missing or invalid access token)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            ))
+    })
+    void logoutEverywhere(
+        AuthenticatedUser user,
+        HttpServletResponse response
+    );
 }
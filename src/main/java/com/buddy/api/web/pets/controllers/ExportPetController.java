@@ -0,0 +1,51 @@
+package com.buddy.api.web.pets.controllers;
+
+import com.buddy.api.domains.pet.services.ExportPet;
+import com.buddy.api.web.pets.mappers.PetMapperParamsResponse;
+import com.buddy.api.web.pets.responses.PetParamsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/v1/pets")
+@RequiredArgsConstructor
+public class ExportPetController implements ExportPetControllerDoc {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ExportPet exportPetService;
+    private final PetMapperParamsResponse mapperResponse;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPets() {
+        ObjectWriter writer = objectMapper.writerFor(PetParamsResponse.class);
+        StreamingResponseBody body = outputStream -> exportPetService.exportPets(pet ->
+            writeLine(outputStream, writer, mapperResponse.mapToParamsResponse(pet)));
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    private void writeLine(final OutputStream outputStream,
+                           final ObjectWriter writer,
+                           final PetParamsResponse pet) {
+        try {
+            outputStream.write(writer.writeValueAsBytes(pet));
+            outputStream.write(LINE_SEPARATOR);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.buddy.api.web.pets.controllers;
+
+import com.buddy.api.web.pets.responses.PetParamsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Pet", description = "Endpoints related to pets")
+public interface ExportPetControllerDoc {
+
+    @Operation(summary = "Export the full pet catalog",
+        description = "Stream every pet as newline-delimited JSON, newest first, in a single "
+            + "response. Intended for partners that mirror the whole catalog.", responses = {
+                @ApiResponse(responseCode = "200", description = "Catalog streamed successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                        schema = @Schema(implementation = PetParamsResponse.class)))})
+
+    ResponseEntity<StreamingResponseBody> exportPets();
+}
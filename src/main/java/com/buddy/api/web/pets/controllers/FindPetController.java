@@ -1,36 +1,105 @@
 package com.buddy.api.web.pets.controllers;
 
+import com.buddy.api.commons.configurations.cache.VersionStamp;
+import com.buddy.api.commons.page.PageableBuilder;
 import com.buddy.api.domains.pet.services.FindPet;
 import com.buddy.api.web.pets.mappers.PetMapperParamsResponse;
 import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import com.buddy.api.web.pets.responses.PetFacetsResponse;
 import com.buddy.api.web.pets.responses.PetParamsResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/v1/pets")
 @RequiredArgsConstructor
 public class FindPetController implements FindPetControllerDoc {
 
+    private static final String AFTER_PARAM = "after";
+    private static final CacheControl SEARCH_CACHE_CONTROL = CacheControl.maxAge(Duration.ZERO)
+        .sMaxAge(Duration.ofSeconds(60))
+        .cachePublic()
+        .mustRevalidate();
+
     private final FindPet findPetService;
     private final PetMapperParamsResponse mapperResponse;
     private final PagedResourcesAssembler<PetParamsResponse> pagedResourcesAssembler;
 
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public PagedModel<EntityModel<PetParamsResponse>> findPetsBySearchParams(
+    public ResponseEntity<PagedModel<EntityModel<PetParamsResponse>>> findPetsBySearchParams(
         final PetSearchCriteriaRequest petSearchCriteriaRequest,
-        final Pageable pageable
+        final Pageable pageable,
+        final WebRequest webRequest
     ) {
+        VersionStamp version = findPetService.findCatalogVersion();
+        String etag = version.etag(ServletUriComponentsBuilder.fromCurrentRequest().toUriString());
+        if (webRequest.checkNotModified(etag, version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(SEARCH_CACHE_CONTROL)
+                .build();
+        }
+
         var petPage = findPetService.findPets(petSearchCriteriaRequest, pageable);
-        return pagedResourcesAssembler.toModel(petPage.map(mapperResponse::mapToParamsResponse));
+        return ResponseEntity.ok()
+            .cacheControl(SEARCH_CACHE_CONTROL)
+            .body(pagedResourcesAssembler.toModel(
+                petPage.map(mapperResponse::mapToParamsResponse)));
+    }
+
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CollectionModel<EntityModel<PetParamsResponse>> findPetsByCursor(
+        final PetSearchCriteriaRequest petSearchCriteriaRequest,
+        @RequestParam(name = AFTER_PARAM, required = false) final String after,
+        @RequestParam(name = "size", defaultValue = "" + PageableBuilder.DEFAULT_PAGE_SIZE)
+        final int size
+    ) {
+        var cursorPage = findPetService.findPetsAfter(petSearchCriteriaRequest, after, size);
+
+        List<EntityModel<PetParamsResponse>> content = cursorPage.content().stream()
+            .map(mapperResponse::mapToParamsResponse)
+            .map(EntityModel::of)
+            .toList();
+
+        List<Link> links = new ArrayList<>();
+        links.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
+
+        if (cursorPage.hasNext()) {
+            String nextUri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam(AFTER_PARAM, cursorPage.nextCursor())
+                .toUriString();
+            links.add(Link.of(nextUri, IanaLinkRelations.NEXT));
+        }
+
+        return CollectionModel.of(content, links);
+    }
+
+    @GetMapping("/facets")
+    @ResponseStatus(HttpStatus.OK)
+    public PetFacetsResponse countPetFacets(
+        final PetSearchCriteriaRequest petSearchCriteriaRequest
+    ) {
+        return mapperResponse.mapToFacetsResponse(
+            findPetService.countFacets(petSearchCriteriaRequest)
+        );
     }
 }
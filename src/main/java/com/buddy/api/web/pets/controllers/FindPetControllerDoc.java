@@ -2,6 +2,7 @@ package com.buddy.api.web.pets.controllers;
 
 import com.buddy.api.web.advice.error.ErrorResponse;
 import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import com.buddy.api.web.pets.responses.PetFacetsResponse;
 import com.buddy.api.web.pets.responses.PetParamsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,24 +11,73 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Pageable;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Pet", description = "Endpoints related to pets")
 public interface FindPetControllerDoc {
 
     @Operation(summary = "Get pets with pagination",
         description = "Get pets based on search criteria with pagination. "
-            + "You can provide various search parameters to filter the results.", responses = {
+            + "You can provide various search parameters to filter the results. "
+            + "Responses carry an ETag and Last-Modified header; send them back with "
+            + "If-None-Match or If-Modified-Since to get a 304 while the catalog is "
+            + "unchanged.", responses = {
                 @ApiResponse(responseCode = "200", description = "Pets found successfully"),
 
+                @ApiResponse(responseCode = "304",
+                    description = "Catalog unchanged since the given ETag or date"),
+
                 @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
                     @Schema(implementation = ErrorResponse.class)))})
 
-    PagedModel<EntityModel<PetParamsResponse>> findPetsBySearchParams(
+    ResponseEntity<PagedModel<EntityModel<PetParamsResponse>>> findPetsBySearchParams(
         @Parameter(description = "Search criteria for filtering pets")
         PetSearchCriteriaRequest petSearchCriteriaRequest,
-        @Parameter(description = "Pagination information") Pageable pageable);
+        @Parameter(description = "Pagination information") Pageable pageable,
+        @Parameter(hidden = true) WebRequest webRequest);
+
+    @Operation(summary = "Get pets with cursor pagination",
+        description = "Get pets based on search criteria ordered by newest first, using an "
+            + "opaque cursor instead of page numbers. Follow the 'next' link to fetch the "
+            + "following page. No total count is returned.", responses = {
+                @ApiResponse(responseCode = "200", description = "Pets found successfully"),
+
+                @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ErrorResponse.class))),
+
+                @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ErrorResponse.class)))})
+
+    CollectionModel<EntityModel<PetParamsResponse>> findPetsByCursor(
+        @Parameter(description = "Search criteria for filtering pets")
+        PetSearchCriteriaRequest petSearchCriteriaRequest,
+        @Parameter(description = "Cursor returned in the 'next' link of the previous page")
+        String after,
+        @Parameter(description = "Number of pets per page (1-100)") int size);
+
+    @Operation(summary = "Count pets per filter bucket",
+        description = "Return how many pets fall into each species, gender, age range and "
+            + "weight range bucket. Counts honour the other active filters, so each bucket "
+            + "shows how many results selecting it would return.", responses = {
+                @ApiResponse(responseCode = "200", description = "Facets counted successfully"),
+
+                @ApiResponse(responseCode = "400", description = "Invalid search parameter",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ErrorResponse.class))),
+
+                @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ErrorResponse.class)))})
+
+    PetFacetsResponse countPetFacets(
+        @Parameter(description = "Search criteria for filtering pets")
+        PetSearchCriteriaRequest petSearchCriteriaRequest);
 }
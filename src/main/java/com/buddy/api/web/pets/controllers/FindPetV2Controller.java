@@ -0,0 +1,60 @@
+package com.buddy.api.web.pets.controllers;
+
+import com.buddy.api.commons.page.PageableBuilder;
+import com.buddy.api.domains.pet.services.FindPetV2;
+import com.buddy.api.web.pets.mappers.PetV2MapperResponse;
+import com.buddy.api.web.pets.requests.PetV2SearchCriteriaRequest;
+import com.buddy.api.web.pets.responses.PetV2Response;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/v2/pets")
+@RequiredArgsConstructor
+public class FindPetV2Controller implements FindPetV2ControllerDoc {
+
+    private static final String AFTER_PARAM = "after";
+
+    private final FindPetV2 findPetV2Service;
+    private final PetV2MapperResponse mapperResponse;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public CollectionModel<EntityModel<PetV2Response>> findAdoptablePets(
+        final PetV2SearchCriteriaRequest searchCriteriaRequest,
+        @RequestParam(name = AFTER_PARAM, required = false) final String after,
+        @RequestParam(name = "size", defaultValue = "" + PageableBuilder.DEFAULT_PAGE_SIZE)
+        final int size
+    ) {
+        var page = findPetV2Service.findAdoptable(searchCriteriaRequest, after, size);
+
+        List<EntityModel<PetV2Response>> content = page.content().stream()
+            .map(mapperResponse::mapToResponse)
+            .map(EntityModel::of)
+            .toList();
+
+        List<Link> links = new ArrayList<>();
+        links.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()));
+
+        if (page.hasNext()) {
+            String nextUri = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam(AFTER_PARAM, page.nextCursor())
+                .toUriString();
+            links.add(Link.of(nextUri, IanaLinkRelations.NEXT));
+        }
+
+        return CollectionModel.of(content, links);
+    }
+}
@@ -0,0 +1,39 @@
+package com.buddy.api.web.pets.controllers;
+
+import com.buddy.api.web.advice.error.ErrorResponse;
+import com.buddy.api.web.pets.requests.PetV2SearchCriteriaRequest;
+import com.buddy.api.web.pets.responses.PetV2Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.MediaType;
+
+@Tag(name = "Pet", description = "Endpoints related to pets")
+public interface FindPetV2ControllerDoc {
+
+    @Operation(summary = "Search pets available for adoption",
+        description = "Get pets flagged for adoption, newest first, optionally filtered by "
+            + "species and gender. Each pet carries its approved avatar. Follow the 'next' "
+            + "link to fetch the following page.", responses = {
+                @ApiResponse(responseCode = "200", description = "Pets found successfully"),
+
+                @ApiResponse(responseCode = "400", description = "Invalid filter, cursor or size",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ErrorResponse.class))),
+
+                @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ErrorResponse.class)))})
+
+    CollectionModel<EntityModel<PetV2Response>> findAdoptablePets(
+        @Parameter(description = "Search criteria for filtering pets")
+        PetV2SearchCriteriaRequest searchCriteriaRequest,
+        @Parameter(description = "Cursor returned in the 'next' link of the previous page")
+        String after,
+        @Parameter(description = "Number of pets per page (1-100)") int size);
+}
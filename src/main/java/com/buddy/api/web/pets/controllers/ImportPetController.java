@@ -0,0 +1,43 @@
+package com.buddy.api.web.pets.controllers;
+
+import com.buddy.api.domains.pet.dtos.PetImportRowDto;
+import com.buddy.api.domains.pet.services.ImportPet;
+import com.buddy.api.web.pets.mappers.PetMapperParamsResponse;
+import com.buddy.api.web.pets.readers.PetImportReader;
+import com.buddy.api.web.pets.responses.PetImportResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/pets")
+@RequiredArgsConstructor
+public class ImportPetController implements ImportPetControllerDoc {
+
+    private final ImportPet importPetService;
+    private final PetImportReader petImportReader;
+    private final PetMapperParamsResponse mapperResponse;
+
+    @PostMapping(value = "/import",
+        consumes = {PetImportReader.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasAnyRole('ADMIN', 'SHELTER')")
+    public PetImportResponse importPets(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) final MediaType contentType,
+        final InputStream body
+    ) throws IOException {
+        try (Stream<PetImportRowDto> rows = petImportReader.read(body, contentType)) {
+            return mapperResponse.mapToImportResponse(importPetService.importPets(rows));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.buddy.api.web.pets.controllers;
+
+import com.buddy.api.web.advice.error.ErrorResponse;
+import com.buddy.api.web.pets.responses.PetImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+
+@Tag(name = "Pet", description = "Endpoints related to pets")
+public interface ImportPetControllerDoc {
+
+    @Operation(summary = "Import pets in bulk",
+        description = "Register many pets in a single request from CSV (text/csv, with a header "
+            + "row using the registration field names and images separated by '|') or "
+            + "newline-delimited JSON (one registration body per line). Rows are validated "
+            + "as they are read; invalid rows are reported and skipped while valid rows are "
+            + "stored in batches. Only ADMIN and SHELTER users can perform this operation.",
+        security = @SecurityRequirement(name = "bearerAuth"), responses = {
+                @ApiResponse(responseCode = "200", description = "Import processed",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = PetImportResponse.class))),
+
+                @ApiResponse(responseCode = "403",
+                    description = "Forbidden - user does not have ADMIN or SHELTER role",
+                    content = @Content),
+
+                @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema =
+                    @Schema(implementation = ErrorResponse.class)))})
+
+    PetImportResponse importPets(
+        @Parameter(hidden = true) MediaType contentType,
+        @Parameter(description = "CSV or NDJSON payload") InputStream body) throws IOException;
+}
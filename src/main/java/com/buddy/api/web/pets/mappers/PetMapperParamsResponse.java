@@ -1,6 +1,10 @@
 package com.buddy.api.web.pets.mappers;
 
+import com.buddy.api.domains.pet.dtos.PetFacetsDto;
+import com.buddy.api.domains.pet.dtos.PetImportResultDto;
 import com.buddy.api.domains.pet.dtos.PetSearchCriteriaDto;
+import com.buddy.api.web.pets.responses.PetFacetsResponse;
+import com.buddy.api.web.pets.responses.PetImportResponse;
 import com.buddy.api.web.pets.responses.PetParamsResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -14,4 +18,8 @@ public interface PetMapperParamsResponse {
     )
     @Mapping(target = "shelterResponseCompact.avatar", source = "shelterCompactDto.avatar")
     PetParamsResponse mapToParamsResponse(PetSearchCriteriaDto petSearchCriteriaDto);
+
+    PetFacetsResponse mapToFacetsResponse(PetFacetsDto petFacetsDto);
+
+    PetImportResponse mapToImportResponse(PetImportResultDto petImportResultDto);
 }
@@ -0,0 +1,11 @@
+package com.buddy.api.web.pets.mappers;
+
+import com.buddy.api.domains.pet.dtos.PetV2SummaryDto;
+import com.buddy.api.web.pets.responses.PetV2Response;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface PetV2MapperResponse {
+
+    PetV2Response mapToResponse(PetV2SummaryDto petV2SummaryDto);
+}
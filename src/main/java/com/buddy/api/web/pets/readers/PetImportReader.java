@@ -0,0 +1,193 @@
+package com.buddy.api.web.pets.readers;
+
+import com.buddy.api.domains.pet.dtos.PetImportErrorDto;
+import com.buddy.api.domains.pet.dtos.PetImportRowDto;
+import com.buddy.api.web.pets.mappers.PetMapperRequest;
+import com.buddy.api.web.pets.requests.PetImageRequest;
+import com.buddy.api.web.pets.requests.PetRequest;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PetImportReader {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+        .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+        .build();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+    private static final String IMAGE_SEPARATOR = "\\|";
+    private static final String ROW_FIELD = "row";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PetMapperRequest mapperRequest;
+
+    public Stream<PetImportRowDto> read(final InputStream input, final MediaType mediaType)
+        throws IOException {
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+            MappingIterator<PetRequest> requests = objectMapper
+                .readerFor(PetRequest.class)
+                .readValues(input);
+            return stream(requests, this::validate);
+        }
+
+        MappingIterator<Map<String, String>> records = CSV_MAPPER
+            .readerForMapOf(String.class)
+            .with(CSV_SCHEMA)
+            .readValues(input);
+        return stream(records, this::fromCsv);
+    }
+
+    private <T> Stream<PetImportRowDto> stream(final MappingIterator<T> values,
+                                               final RowConverter<T> converter) {
+        Iterator<PetImportRowDto> rows = new Iterator<>() {
+            private long row;
+            private boolean aborted;
+
+            @Override
+            public boolean hasNext() {
+                return !aborted && values.hasNext();
+            }
+
+            @Override
+            public PetImportRowDto next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                row++;
+                try {
+                    return converter.convert(row, values.nextValue());
+                } catch (JsonParseException ex) {
+                    aborted = true;
+                    return error(row, ROW_FIELD,
+                        "Malformed content, import stopped: " + ex.getOriginalMessage());
+                } catch (JsonMappingException ex) {
+                    return error(row, fieldOf(ex), "Invalid value: " + ex.getOriginalMessage());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+            .onClose(() -> close(values));
+    }
+
+    private PetImportRowDto fromCsv(final long row, final Map<String, String> values) {
+        List<PetImportErrorDto> errors = new ArrayList<>();
+        PetRequest request = PetRequest.builder()
+            .name(text(values, "name"))
+            .specie(text(values, "specie"))
+            .gender(text(values, "gender"))
+            .birthDate(parse(row, values, "birthDate", LocalDate::parse, errors))
+            .location(text(values, "location"))
+            .weight(parse(row, values, "weight", Double::valueOf, errors))
+            .description(text(values, "description"))
+            .avatar(text(values, "avatar"))
+            .images(images(text(values, "images")))
+            .shelterId(parse(row, values, "shelterId", UUID::fromString, errors))
+            .build();
+
+        return errors.isEmpty() ? validate(row, request) : PetImportRowDto.invalid(row, errors);
+    }
+
+    private PetImportRowDto validate(final long row, final PetRequest request) {
+        List<PetImportErrorDto> errors = validator.validate(request).stream()
+            .map(violation -> new PetImportErrorDto(
+                row, violation.getPropertyPath().toString(), violation.getMessage()))
+            .toList();
+
+        return errors.isEmpty()
+            ? PetImportRowDto.valid(row, mapperRequest.mapToDto(request))
+            : PetImportRowDto.invalid(row, errors);
+    }
+
+    private static <T> T parse(final long row,
+                               final Map<String, String> values,
+                               final String field,
+                               final Function<String, T> parser,
+                               final List<PetImportErrorDto> errors) {
+        String value = text(values, field);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException ex) {
+            errors.add(new PetImportErrorDto(row, field, "Invalid value: " + value));
+            return null;
+        }
+    }
+
+    private static String text(final Map<String, String> values, final String field) {
+        String value = values.get(field);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static List<PetImageRequest> images(final String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(IMAGE_SEPARATOR))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .map(PetImageRequest::new)
+            .toList();
+    }
+
+    private static PetImportRowDto error(final long row, final String field, final String message) {
+        return PetImportRowDto.invalid(row, List.of(new PetImportErrorDto(row, field, message)));
+    }
+
+    private static String fieldOf(final JsonMappingException ex) {
+        return ex.getPath().stream()
+            .map(JsonMappingException.Reference::getFieldName)
+            .filter(Objects::nonNull)
+            .reduce((first, second) -> second)
+            .orElse(ROW_FIELD);
+    }
+
+    private static void close(final MappingIterator<?> values) {
+        try {
+            values.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowConverter<T> {
+        PetImportRowDto convert(long row, T value);
+    }
+}
@@ -3,8 +3,10 @@ package com.buddy.api.web.pets.requests;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.util.UUID;
+import lombok.Builder;
 import org.springframework.lang.Nullable;
 
+@Builder(toBuilder = true)
 @Schema(description = "Search criteria for filtering pets")
 public record PetSearchCriteriaRequest(
     @Schema(description = "Pet ID", example = "123e4567-e89b-12d3-a456-426614174000")
@@ -38,6 +40,11 @@ public record PetSearchCriteriaRequest(
     @Nullable String weightRange,
 
     @Schema(description = "Description of the pet", example = "A friendly dog")
-    @Nullable String description
+    @Nullable String description,
+
+    @Schema(description = "Free text searched in name, location and description, ignoring "
+        + "case and accents. Results are ranked by relevance unless a sort is given",
+        example = "cao maceio")
+    @Nullable String query
 ) {
 }
@@ -0,0 +1,16 @@
+package com.buddy.api.web.pets.requests;
+
+import com.buddy.api.domains.pet.enums.PetGender;
+import com.buddy.api.domains.pet.enums.PetSpecies;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record PetV2SearchCriteriaRequest(
+    @Schema(description = "Species of the pet", example = "DOG")
+    PetSpecies species,
+
+    @Schema(description = "Gender of the pet", example = "FEMALE")
+    PetGender gender
+) {
+}
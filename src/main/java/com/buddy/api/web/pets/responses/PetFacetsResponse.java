@@ -0,0 +1,11 @@
+package com.buddy.api.web.pets.responses;
+
+import java.util.Map;
+import lombok.Builder;
+
+@Builder
+public record PetFacetsResponse(Map<String, Long> species,
+                                Map<String, Long> genders,
+                                Map<String, Long> ageRanges,
+                                Map<String, Long> weightRanges) {
+}
@@ -0,0 +1,7 @@
+package com.buddy.api.web.pets.responses;
+
+import lombok.Builder;
+
+@Builder
+public record PetImportErrorResponse(long row, String field, String message) {
+}
@@ -0,0 +1,10 @@
+package com.buddy.api.web.pets.responses;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record PetImportResponse(long imported,
+                                long rejected,
+                                List<PetImportErrorResponse> errors) {
+}
@@ -0,0 +1,21 @@
+package com.buddy.api.web.pets.responses;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Builder;
+
+@Builder
+public record PetV2Response(UUID id,
+                            UUID profileId,
+                            String name,
+                            String species,
+                            String gender,
+                            Integer approximateAge,
+                            LocalDate ageReportDate,
+                            BigDecimal size,
+                            BigDecimal weight,
+                            Boolean isNeutered,
+                            String description,
+                            String avatar) {
+}
@@ -1,13 +1,19 @@
 package com.buddy.api.web.terms.controllers;
 
+import com.buddy.api.commons.configurations.cache.VersionStamp;
+import com.buddy.api.domains.terms.dtos.TermsVersionDto;
 import com.buddy.api.domains.terms.services.AcceptTerms;
 import com.buddy.api.domains.terms.services.FindTermsVersion;
 import com.buddy.api.web.terms.mappers.TermsRequestMapper;
 import com.buddy.api.web.terms.mappers.TermsResponseMapper;
 import com.buddy.api.web.terms.responses.TermsVersionResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.ZoneId;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,22 +21,39 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/v1/terms")
 @RequiredArgsConstructor
 public class TermsController implements TermsControllerDoc {
 
+    private static final String ACTIVE_TERMS_VARIANT = "terms:active";
+    private static final CacheControl ACTIVE_TERMS_CACHE_CONTROL = CacheControl
+        .maxAge(Duration.ZERO)
+        .sMaxAge(Duration.ofMinutes(5))
+        .cachePublic()
+        .mustRevalidate();
+
     private final AcceptTerms acceptTerms;
     private final FindTermsVersion findTermsVersion;
     private final TermsResponseMapper termsResponseMapper;
     private final TermsRequestMapper termsRequestMapper;
 
     @GetMapping("/active")
-    @ResponseStatus(HttpStatus.OK)
-    public TermsVersionResponse getActiveTerms() {
+    public ResponseEntity<TermsVersionResponse> getActiveTerms(final WebRequest webRequest) {
         final var termsVersionDto = findTermsVersion.findActive();
-        return termsResponseMapper.toTermsVersionResponse(termsVersionDto);
+        final var version = toVersionStamp(termsVersionDto);
+        if (webRequest.checkNotModified(version.etag(ACTIVE_TERMS_VARIANT),
+            version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(ACTIVE_TERMS_CACHE_CONTROL)
+                .build();
+        }
+
+        return ResponseEntity.ok()
+            .cacheControl(ACTIVE_TERMS_CACHE_CONTROL)
+            .body(termsResponseMapper.toTermsVersionResponse(termsVersionDto));
     }
 
     @PostMapping("/accept")
@@ -41,4 +64,13 @@ public class TermsController implements TermsControllerDoc {
         final var acceptTermsDto = termsRequestMapper.toDto(request, userDetails);
         acceptTerms.accept(acceptTermsDto);
     }
+
+    private static VersionStamp toVersionStamp(final TermsVersionDto termsVersion) {
+        final long lastModified = termsVersion.publicationDate() != null
+            ? termsVersion.publicationDate().atStartOfDay(ZoneId.systemDefault())
+                .toInstant().toEpochMilli()
+            : VersionStamp.UNKNOWN_LAST_MODIFIED;
+        return new VersionStamp(lastModified,
+            termsVersion.termsVersionId() + "|" + termsVersion.publicationDate());
+    }
 }
@@ -2,18 +2,24 @@ package com.buddy.api.web.terms.controllers;
 
 import com.buddy.api.web.terms.responses.TermsVersionResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Terms", description = "Endpoints related to terms of use")
 public interface TermsControllerDoc {
 
     @Operation(summary = "Get active terms",
-        description = "Retrieve the currently active terms of use")
+        description = "Retrieve the currently active terms of use. Supports conditional "
+            + "requests through If-None-Match and If-Modified-Since")
     @ApiResponse(responseCode = "200", description = "Terms retrieved successfully")
-    TermsVersionResponse getActiveTerms();
+    @ApiResponse(responseCode = "304", description = "Active terms unchanged")
+    ResponseEntity<TermsVersionResponse> getActiveTerms(
+        @Parameter(hidden = true) WebRequest webRequest);
 
     @Operation(summary = "Accept terms",
         description = "Register acceptance of active terms")
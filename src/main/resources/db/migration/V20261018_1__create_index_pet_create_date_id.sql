@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_pet_create_date_id ON pet(create_date DESC, id);
@@ -0,0 +1,24 @@
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION buddy_unaccent(value TEXT)
+    RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+    STRICT
+AS
+$$
+SELECT public.unaccent('public.unaccent'::regdictionary, value)
+$$;
+
+COMMENT ON FUNCTION buddy_unaccent(TEXT) IS 'Immutable wrapper around unaccent so it can be used in index expressions';
+
+CREATE INDEX IF NOT EXISTS idx_pet_name_trgm
+    ON pet USING gin (buddy_unaccent(lower(name)) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_pet_location_trgm
+    ON pet USING gin (buddy_unaccent(lower(location)) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_pet_description_trgm
+    ON pet USING gin (buddy_unaccent(lower(description)) gin_trgm_ops);
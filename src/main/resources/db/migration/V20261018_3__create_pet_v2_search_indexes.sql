@@ -0,0 +1,15 @@
+CREATE INDEX IF NOT EXISTS idx_pet_v2_adoptable_creation
+    ON pet_v2 (creation_date DESC, pet_v2_id DESC)
+    WHERE is_for_adoption = TRUE;
+
+CREATE INDEX IF NOT EXISTS idx_pet_v2_adoptable_species_gender_creation
+    ON pet_v2 (species, gender, creation_date DESC, pet_v2_id DESC)
+    WHERE is_for_adoption = TRUE;
+
+CREATE INDEX IF NOT EXISTS idx_pet_v2_adoptable_gender_creation
+    ON pet_v2 (gender, creation_date DESC, pet_v2_id DESC)
+    WHERE is_for_adoption = TRUE;
+
+CREATE INDEX IF NOT EXISTS idx_image_pet_v2_approved_avatar
+    ON image (pet_v2_id, display_order)
+    WHERE is_avatar = TRUE AND image_status = 'APPROVED';
@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS email_outbox (
+    email_outbox_id UUID PRIMARY KEY,
+    account_id UUID NOT NULL,
+    template VARCHAR(100) NOT NULL,
+    sender VARCHAR(255) NOT NULL,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_error TEXT,
+    sent_date TIMESTAMP WITHOUT TIME ZONE,
+    creation_date TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE email_outbox IS 'Emails written in the same transaction as the request and delivered by the outbox worker';
+COMMENT ON COLUMN email_outbox.template IS 'Template used to render the body';
+COMMENT ON COLUMN email_outbox.status IS 'PENDING, SENT or DEAD';
+COMMENT ON COLUMN email_outbox.attempts IS 'Delivery attempts made so far';
+COMMENT ON COLUMN email_outbox.next_attempt_at IS 'Earliest time the worker may claim the row again';
+COMMENT ON COLUMN email_outbox.last_error IS 'Error message of the last failed attempt';
+
+CREATE INDEX IF NOT EXISTS idx_email_outbox_pending
+    ON email_outbox (next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_email_outbox_sent
+    ON email_outbox (sent_date) WHERE status = 'SENT';
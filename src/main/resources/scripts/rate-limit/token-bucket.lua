@@ -0,0 +1,21 @@
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+
+local bucket = redis.call('HMGET', key, 'tokens', 'refilled_at')
+local tokens = tonumber(bucket[1]) or capacity
+local refilled_at = tonumber(bucket[2]) or now
+
+local elapsed = math.max(0, now - refilled_at)
+tokens = math.min(capacity, tokens + elapsed * capacity / window)
+
+local allowed = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+    allowed = 1
+end
+
+redis.call('HSET', key, 'tokens', tostring(tokens), 'refilled_at', now)
+redis.call('PEXPIRE', key, window)
+return allowed
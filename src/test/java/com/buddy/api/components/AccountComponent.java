@@ -46,7 +46,11 @@ public class AccountComponent {
             .build();
         profileRepository.save(profile);
 
-        String jwt = jwtUtil.generateAccessToken(account.getEmail().value(), List.of("ROLE_USER"));
+        String jwt = jwtUtil.generateAccessToken(
+            account.getEmail().value(),
+            List.of("ROLE_USER"),
+            0
+        );
 
         return new AuthenticatedTestUser(account, jwt, plainPassword);
     }
@@ -65,7 +69,11 @@ public class AccountComponent {
             .build();
         profileRepository.save(profile);
 
-        String jwt = jwtUtil.generateAccessToken(account.getEmail().value(), List.of("ROLE_ADMIN"));
+        String jwt = jwtUtil.generateAccessToken(
+            account.getEmail().value(),
+            List.of("ROLE_ADMIN"),
+            0
+        );
 
         return new AuthenticatedTestUser(account, jwt, plainPassword);
     }
@@ -52,6 +52,25 @@ public class PetComponent {
         return petRepository.save(valid(shelter).birthDate(birthDate).build());
     }
 
+    public PetEntity savePetWithTexts(final String name,
+                                      final String location,
+                                      final String description,
+                                      final ShelterEntity shelter) {
+        applyDelay();
+        return petRepository.save(valid(shelter)
+            .name(name)
+            .location(location)
+            .description(description)
+            .build());
+    }
+
+    public PetEntity savePetWithSpecieAndGender(final String specie,
+                                                final String gender,
+                                                final ShelterEntity shelter) {
+        applyDelay();
+        return petRepository.save(valid(shelter).specie(specie).gender(gender).build());
+    }
+
     private void applyDelay() {
         try {
             TimeUnit.MICROSECONDS.sleep(DELAY_MICROSECONDS);
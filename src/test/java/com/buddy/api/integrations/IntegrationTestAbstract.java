@@ -6,6 +6,7 @@ import com.buddy.api.components.PetComponent;
 import com.buddy.api.components.ProfileComponent;
 import com.buddy.api.components.ShelterComponent;
 import com.buddy.api.components.TermsComponent;
+import com.buddy.api.domains.account.email.repositories.EmailOutboxRepository;
 import com.buddy.api.domains.account.repositories.AccountRepository;
 import com.buddy.api.domains.adoption.repositories.AdoptionRequestRepository;
 import com.buddy.api.domains.pet.repositories.PetImageRepository;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
 import org.springframework.context.annotation.Import;
@@ -89,6 +91,9 @@ public abstract class IntegrationTestAbstract {
     @Autowired
     protected TermsComponent termsComponent;
 
+    @Autowired
+    protected EmailOutboxRepository emailOutboxRepository;
+
     protected static final String TERMS_BASE_URL = "/v1/terms";
     protected static final String PET_BASE_URL = "/v1/pets";
     protected static final String EMBEDDED_PET_RESPONSES = "$._embedded.petParamsResponseList";
@@ -110,6 +115,7 @@ public abstract class IntegrationTestAbstract {
     protected ShelterEntity shelter;
 
     protected void clearRepositories() {
+        emailOutboxRepository.deleteAll();
         termsAcceptanceRepository.deleteAll();
         termsVersionRepository.deleteAll();
         petImageRepository.deleteAll();
@@ -125,6 +131,12 @@ public abstract class IntegrationTestAbstract {
             connection.serverCommands().flushDb();
             return "OK";
         });
+        cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
 
         WireMock.resetAllRequests();
         WireMock.resetAllScenarios();
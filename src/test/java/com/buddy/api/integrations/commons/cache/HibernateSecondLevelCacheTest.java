@@ -0,0 +1,56 @@
+package com.buddy.api.integrations.commons.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.buddy.api.domains.shelter.repositories.ShelterRepository;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class HibernateSecondLevelCacheTest extends IntegrationTestAbstract {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShelterRepository shelterRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated shelter lookups from the second-level cache")
+    void should_serve_entity_lookups_from_second_level_cache() {
+        final var saved = shelterComponent.createShelterNoPets();
+
+        shelterRepository.findById(saved.getId());
+        shelterRepository.findById(saved.getId());
+
+        assertThat(statistics.getDomainDataRegionStatistics("shelter").getHitCount())
+            .isPositive();
+    }
+
+    @Test
+    @DisplayName("Should query the database for the active terms on every lookup")
+    void should_not_cache_active_terms_query() {
+        final var account = accountComponent.createAndAuthenticateAdmin().account();
+        termsComponent.createActiveTerm(account);
+
+        termsVersionRepository.findFirstByIsActiveTrueOrderByPublicationDateDesc();
+        termsVersionRepository.findFirstByIsActiveTrueOrderByPublicationDateDesc();
+
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheRegionNames()).doesNotContain("terms-version");
+    }
+}
@@ -0,0 +1,56 @@
+package com.buddy.api.integrations.commons.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.RedisRateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RedisRateLimiterTest extends IntegrationTestAbstract {
+
+    @Autowired
+    private RedisRateLimiter redisRateLimiter;
+
+    @ParameterizedTest
+    @EnumSource(RateLimitAlgorithm.class)
+    @DisplayName("Should allow up to capacity and then reject within the window")
+    void should_reject_after_capacity(final RateLimitAlgorithm algorithm) {
+        final var rule = rule(algorithm);
+        final String key = "test:" + UUID.randomUUID();
+
+        assertThat(redisRateLimiter.tryAcquire(key, rule)).isTrue();
+        assertThat(redisRateLimiter.tryAcquire(key, rule)).isTrue();
+        assertThat(redisRateLimiter.tryAcquire(key, rule)).isTrue();
+        assertThat(redisRateLimiter.tryAcquire(key, rule)).isFalse();
+        assertThat(redisRateLimiter.tryAcquire("test:" + UUID.randomUUID(), rule)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should store limiter state with an expiry so keys never leak")
+    void should_expire_limiter_keys() {
+        final String key = "test:" + UUID.randomUUID();
+
+        redisRateLimiter.tryAcquire(key, rule(RateLimitAlgorithm.TOKEN_BUCKET));
+
+        assertThat(redisTemplate.getExpire(RedisRateLimiter.KEY_PREFIX + key))
+            .isPositive()
+            .isLessThanOrEqualTo(3600L);
+    }
+
+    private static RateLimitProperties.Rule rule(final RateLimitAlgorithm algorithm) {
+        return RateLimitProperties.Rule.builder()
+            .algorithm(algorithm)
+            .keyType(RateLimitKeyType.IP)
+            .capacity(3)
+            .windowSeconds(3600L)
+            .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.buddy.api.integrations.configs;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return recorded == null ? List.of() : List.copyOf(recorded);
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+}
@@ -5,6 +5,7 @@ import static com.buddy.api.customverifications.CustomErrorVerifications.expectB
 import static com.buddy.api.customverifications.CustomErrorVerifications.expectErrorStatusFrom;
 import static com.buddy.api.domains.profile.enums.ProfileTypeEnum.ADMIN;
 import static com.buddy.api.utils.RandomEmailUtils.generateValidEmail;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
@@ -18,6 +19,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.buddy.api.builders.profile.ProfileBuilder;
 import com.buddy.api.domains.account.entities.AccountEntity;
+import com.buddy.api.domains.account.services.impl.LastLoginWriteBehind;
 import com.buddy.api.domains.profile.entities.ProfileEntity;
 import com.buddy.api.integrations.IntegrationTestAbstract;
 import com.buddy.api.web.authentication.requests.AuthRequest;
@@ -26,12 +28,16 @@ import java.util.Objects;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.ResultActions;
 
 class AuthControllerTest extends IntegrationTestAbstract {
 
     private static final String WEB_ORIGIN = "550e8400-e29b-41d4-a716-446655440000";
 
+    @Autowired
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
     @Test
     @DisplayName("Should authenticate user successfully and filter out ADMIN profiles")
     void authenticate_user_success() throws Exception {
@@ -387,4 +393,65 @@ class AuthControllerTest extends IntegrationTestAbstract {
             UNAUTHORIZED)
             .forField("refresh-token", "Invalid refresh token or token expired");
     }
+
+    @Test
+    @DisplayName("Should revoke every issued token when logging out everywhere")
+    void should_revoke_all_tokens_after_logout_everywhere() throws Exception {
+        final var plain = RandomStringUtils.secure().nextAlphanumeric(10);
+        final var account = validAccountEntity()
+            .password(passwordEncoder.encode(plain))
+            .isVerified(true)
+            .build();
+        accountRepository.save(account);
+
+        final var authRequest = AuthRequest.builder()
+            .email(account.getEmail().value())
+            .password(plain)
+            .build();
+        final var authResult = performAuthRequest(authRequest).andReturn().getResponse();
+        String accessToken = Objects.requireNonNull(authResult.getCookie(ACCESS_TOKEN_NAME))
+            .getValue();
+        String refreshToken = Objects.requireNonNull(authResult.getCookie(REFRESH_TOKEN_NAME))
+            .getValue();
+
+        mockMvc.perform(post("/v1/auth/logout/all")
+                .header(ORIGIN, WEB_ORIGIN)
+                .header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isNoContent())
+            .andExpect(cookie().maxAge(ACCESS_TOKEN_NAME, 0))
+            .andExpect(cookie().maxAge(REFRESH_TOKEN_NAME, 0));
+
+        mockMvc.perform(post("/v1/auth/logout/all")
+                .header(ORIGIN, WEB_ORIGIN)
+                .header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isForbidden());
+
+        expectErrorStatusFrom(
+            performRefreshRequest(refreshToken),
+            UNAUTHORIZED)
+            .forField("refresh-token", "Invalid refresh token");
+    }
+
+    @Test
+    @DisplayName("Should persist last login through the write-behind buffer")
+    void should_persist_last_login_after_flush() throws Exception {
+        final var plain = RandomStringUtils.secure().nextAlphanumeric(10);
+        final var account = accountRepository.save(validAccountEntity()
+            .password(passwordEncoder.encode(plain))
+            .isVerified(true)
+            .build());
+
+        final var authRequest = AuthRequest.builder()
+            .email(account.getEmail().value())
+            .password(plain)
+            .build();
+        performAuthRequest(authRequest).andExpect(status().isOk());
+
+        lastLoginWriteBehind.flush();
+
+        assertThat(accountRepository.findById(account.getAccountId()))
+            .get()
+            .extracting(AccountEntity::getLastLogin)
+            .isNotNull();
+    }
 }
@@ -0,0 +1,47 @@
+package com.buddy.api.integrations.web.authentication.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.buddy.api.commons.configurations.cache.AccountStatusCache;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Locale;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("Authenticated requests - database round-trips")
+class AuthenticatedRequestLoadTest extends IntegrationTestAbstract {
+
+    private static final String ACTIVE_TERMS_URL = TERMS_BASE_URL + "/active";
+    private static final int REQUESTS = 50;
+    private static final long MAX_STATEMENTS = 2;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should authenticate repeated requests from token claims and cached status")
+    void authenticated_requests_do_not_hit_the_database_per_request() throws Exception {
+        final var user = accountComponent.createAndAuthenticateUser();
+        termsComponent.createActiveTerm(user.account());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            mockMvc.perform(get(ACTIVE_TERMS_URL)
+                    .header(AUTHORIZATION, BEARER + user.jwt()))
+                .andExpect(status().isOk());
+        }
+
+        assertThat(redisTemplate.hasKey(AccountStatusCache.CACHE_NAME + "::"
+            + user.account().getEmail().value().toLowerCase(Locale.ROOT))).isTrue();
+        assertThat(statistics.getPrepareStatementCount())
+            .as("one account status lookup + one active terms lookup for %d requests", REQUESTS)
+            .isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+}
@@ -0,0 +1,89 @@
+package com.buddy.api.integrations.web.authentication.controller;
+
+import static com.buddy.api.builders.account.AccountBuilder.validAccountEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.buddy.api.builders.profile.ProfileBuilder;
+import com.buddy.api.domains.account.entities.AccountEntity;
+import com.buddy.api.domains.account.services.impl.LastLoginWriteBehind;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import com.buddy.api.web.authentication.requests.AuthRequest;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Login throughput")
+class LoginThroughputBenchmarkTest extends IntegrationTestAbstract {
+
+    private static final String WEB_ORIGIN = "550e8400-e29b-41d4-a716-446655440000";
+    private static final int WARMUP_LOGINS = 20;
+    private static final int MEASURED_LOGINS = 200;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
+    @Test
+    @DisplayName("Each login should cost one query and leave last_login to the write-behind")
+    void login_runs_a_single_query_per_request() throws Exception {
+        final var plain = RandomStringUtils.secure().nextAlphanumeric(10);
+        final var account = accountRepository.save(validAccountEntity()
+            .password(passwordEncoder.encode(plain))
+            .isVerified(true)
+            .build());
+        profileRepository.save(ProfileBuilder.profileEntity().account(account).build());
+
+        final var body = objectMapper.writeValueAsString(AuthRequest.builder()
+            .email(account.getEmail().value())
+            .password(plain)
+            .build());
+
+        login(body, WARMUP_LOGINS);
+        lastLoginWriteBehind.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        login(body, MEASURED_LOGINS);
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        long statements = statistics.getPrepareStatementCount();
+
+        lastLoginWriteBehind.flush();
+
+        log.info("Login throughput: {} logins/s, {} statements for {} logins",
+            Math.round(MEASURED_LOGINS * 1_000_000.0 / Math.max(1, elapsedMicros)),
+            statements, MEASURED_LOGINS);
+        assertThat(statements)
+            .as("one account + profiles query per login, plus at most one scheduled flush")
+            .isLessThanOrEqualTo(MEASURED_LOGINS + 1L);
+        assertThat(accountRepository.findById(account.getAccountId()))
+            .get()
+            .extracting(AccountEntity::getLastLogin)
+            .isNotNull();
+    }
+
+    private void login(final String body, final int logins) throws Exception {
+        for (int i = 0; i < logins; i++) {
+            mockMvc.perform(post(AUTH_URL)
+                    .header(ORIGIN, WEB_ORIGIN)
+                    .contentType(APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isOk());
+        }
+    }
+}
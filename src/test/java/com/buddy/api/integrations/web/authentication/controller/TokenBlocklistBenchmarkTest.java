@@ -0,0 +1,68 @@
+package com.buddy.api.integrations.web.authentication.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.buddy.api.commons.configurations.security.jwt.TokenBlocklistService;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Token blocklist lookup latency")
+class TokenBlocklistBenchmarkTest extends IntegrationTestAbstract {
+
+    private static final String KEY_PREFIX = "jwt:blocklist:";
+    private static final int REVOKED_TOKENS = 1_000;
+    private static final int WARMUP_LOOKUPS = 5_000;
+    private static final int MEASURED_LOOKUPS = 20_000;
+    private static final double P99 = 0.99;
+
+    @Autowired
+    private TokenBlocklistService tokenBlocklistService;
+
+    @Test
+    @DisplayName("Local filter lookups should beat a Redis round-trip at p99")
+    void filter_lookup_p99_beats_redis_round_trip() {
+        IntStream.range(0, REVOKED_TOKENS)
+            .forEach(i -> tokenBlocklistService.blockToken("revoked-" + i, 3600));
+        tokenBlocklistService.rebuild();
+
+        Predicate<String> redisLookup =
+            tokenId -> Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+
+        measure(redisLookup, WARMUP_LOOKUPS);
+        measure(tokenBlocklistService::isBlocked, WARMUP_LOOKUPS);
+
+        long redisP99 = p99(measure(redisLookup, MEASURED_LOOKUPS));
+        long filterP99 = p99(measure(tokenBlocklistService::isBlocked, MEASURED_LOOKUPS));
+
+        log.info("isBlocked p99 for active tokens: Redis hasKey {} ns, local filter {} ns",
+            redisP99, filterP99);
+        assertThat(filterP99).isLessThan(redisP99);
+        assertThat(tokenBlocklistService.isBlocked("revoked-0")).isTrue();
+    }
+
+    private long[] measure(final Predicate<String> lookup, final int lookups) {
+        long[] latencies = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            String token = "active-" + i;
+            long start = System.nanoTime();
+            assertThat(lookup.test(token)).isFalse();
+            latencies[i] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    private long p99(final long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(P99 * sorted.length) - 1];
+    }
+}
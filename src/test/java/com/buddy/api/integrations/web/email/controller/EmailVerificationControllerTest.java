@@ -8,14 +8,17 @@ import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.buddy.api.domains.account.email.enums.EmailOutboxStatus;
 import com.buddy.api.domains.account.entities.AccountEntity;
 import com.buddy.api.integrations.IntegrationTestAbstract;
 import com.buddy.api.web.accounts.requests.ConfirmEmailRequest;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import java.time.Duration;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -59,6 +62,16 @@ class EmailVerificationControllerTest extends IntegrationTestAbstract {
             mockMvc.perform(post(VERIFICATION_URL + PATH_EMAIL_VERIFICATION_REQUEST)
                     .header(HttpHeaders.AUTHORIZATION, BEARER + userJwt))
                 .andExpect(status().isAccepted());
+
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                assertThat(emailOutboxRepository.findAll())
+                    .singleElement()
+                    .satisfies(email -> {
+                        assertThat(email.getRecipient()).isEqualTo(testUser.getEmail().value());
+                        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+                    });
+                verify(1, postRequestedFor(urlEqualTo(MANAGER_NOTIFICATION_API_URL)));
+            });
         }
 
         @Test
@@ -73,6 +86,7 @@ class EmailVerificationControllerTest extends IntegrationTestAbstract {
                     .header(HttpHeaders.AUTHORIZATION, BEARER + userJwt))
             ).forField("account.status", "This account is already verified.");
 
+            assertThat(emailOutboxRepository.findAll()).isEmpty();
             verify(0, postRequestedFor(urlEqualTo(MANAGER_API_URL)));
             verify(0, postRequestedFor(urlEqualTo(MANAGER_NOTIFICATION_API_URL)));
 
@@ -107,8 +121,8 @@ class EmailVerificationControllerTest extends IntegrationTestAbstract {
         }
 
         @Test
-        @DisplayName("Should return 202 Accepted even if Manager API notification fails async")
-        void requestVerification_whenManagerApiNotificationFails_shouldReturn202AndFailAsync()
+        @DisplayName("Should return 202 Accepted and keep the email pending when Manager API fails")
+        void requestVerification_whenManagerApiNotificationFails_shouldReturn202AndRetry()
             throws Exception {
 
             WireMock.setScenarioState("MANAGER_AUTH_SCENARIO", "SUCCESS_STATE");
@@ -118,6 +132,15 @@ class EmailVerificationControllerTest extends IntegrationTestAbstract {
             mockMvc.perform(post(VERIFICATION_URL + PATH_EMAIL_VERIFICATION_REQUEST)
                     .header(HttpHeaders.AUTHORIZATION, BEARER + userJwt))
                 .andExpect(status().isAccepted());
+
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(emailOutboxRepository.findAll())
+                    .singleElement()
+                    .satisfies(email -> {
+                        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+                        assertThat(email.getAttempts()).isPositive();
+                        assertThat(email.getLastError()).isNotNull();
+                    }));
         }
     }
 
@@ -211,7 +234,7 @@ class EmailVerificationControllerTest extends IntegrationTestAbstract {
                     .header(HttpHeaders.AUTHORIZATION, BEARER + userJwt)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request))))
-                .forField("token", "token must be a valid UUID format");
+                .forField("token", "token must be a valid verification token");
         }
     }
 
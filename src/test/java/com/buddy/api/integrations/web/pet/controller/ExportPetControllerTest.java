@@ -0,0 +1,95 @@
+package com.buddy.api.integrations.web.pet.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.shelter.entities.ShelterEntity;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+@DisplayName("GET /v1/pets/export")
+class ExportPetControllerTest extends IntegrationTestAbstract {
+
+    private static final String PET_EXPORT_URL = PET_BASE_URL + "/export";
+    private static final int PETS_FROM_DISTINCT_SHELTERS = 5;
+    private static final long MAX_EXPORT_STATEMENTS = 2;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should stream every pet as one JSON document per line, newest first")
+    void export_pets_as_ndjson() throws Exception {
+        List<PetEntity> pets = savePetsFromDistinctShelters();
+
+        List<JsonNode> lines = export();
+
+        assertThat(lines).hasSize(PETS_FROM_DISTINCT_SHELTERS);
+        assertThat(lines.getFirst().get("id").asText())
+            .isEqualTo(pets.getLast().getId().toString());
+        assertThat(lines.getFirst().get("shelterResponseCompact").get("nameShelter").asText())
+            .isEqualTo(pets.getLast().getShelter().getNameShelter());
+    }
+
+    @Test
+    @DisplayName("Should stream the catalog without a query per pet or shelter")
+    void export_does_not_issue_a_query_per_pet() throws Exception {
+        savePetsFromDistinctShelters();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(export()).hasSize(PETS_FROM_DISTINCT_SHELTERS);
+        assertThat(statistics.getPrepareStatementCount())
+            .as("streamed select + batched images")
+            .isLessThanOrEqualTo(MAX_EXPORT_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Should return an empty body when there are no pets")
+    void export_empty_catalog() throws Exception {
+        assertThat(export()).isEmpty();
+    }
+
+    private List<JsonNode> export() throws Exception {
+        MvcResult result = mockMvc.perform(get(PET_EXPORT_URL))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.lines().toList()) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private List<PetEntity> savePetsFromDistinctShelters() {
+        List<PetEntity> pets = new ArrayList<>();
+        for (int i = 0; i < PETS_FROM_DISTINCT_SHELTERS; i++) {
+            ShelterEntity shelter = shelterComponent.createShelterNoPets();
+            pets.add(petComponent.savePetWithName("Pet" + i, shelter));
+        }
+        return pets;
+    }
+}
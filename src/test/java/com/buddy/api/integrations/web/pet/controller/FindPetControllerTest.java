@@ -6,26 +6,59 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.buddy.api.commons.configurations.cache.PetSearchCache;
 import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.shelter.entities.ShelterEntity;
 import com.buddy.api.integrations.IntegrationTestAbstract;
+import com.buddy.api.integrations.configs.RecordingStatementInspector;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.ResultActions;
 
 @DisplayName("GET /v1/pets")
 class FindPetControllerTest extends IntegrationTestAbstract {
 
     public static final String EMBEDDED = "$._embedded";
+    private static final String PET_CURSOR_URL = PET_BASE_URL + "/cursor";
+    private static final String NEXT_LINK = "$._links.next.href";
+    private static final String PET_FACETS_URL = PET_BASE_URL + "/facets";
+
+    private static final int PETS_FROM_DISTINCT_SHELTERS = 5;
+    private static final long MAX_SEARCH_STATEMENTS = 4;
+    private static final long MAX_CURSOR_STATEMENTS = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PetSearchCache petSearchCache;
 
     @BeforeEach
     void setUp() {
@@ -277,6 +310,328 @@ class FindPetControllerTest extends IntegrationTestAbstract {
                 equalTo(pet.getId().toString())));
     }
 
+    @Test
+    @DisplayName("Should walk through pets with cursor pagination newest first")
+    void return_pets_using_cursor_pagination() throws Exception {
+        PetEntity first =
+            petComponent.savePetWithName(RandomStringUtils.secure().nextAlphabetic(4), shelter);
+        PetEntity second =
+            petComponent.savePetWithName(RandomStringUtils.secure().nextAlphabetic(4), shelter);
+        PetEntity third =
+            petComponent.savePetWithName(RandomStringUtils.secure().nextAlphabetic(4), shelter);
+
+        String firstPage = mockMvc.perform(get(PET_CURSOR_URL + "?size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(2)))
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES + "[0].id",
+                equalTo(third.getId().toString())))
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES + "[1].id",
+                equalTo(second.getId().toString())))
+            .andExpect(jsonPath("$.page").doesNotExist())
+            .andExpect(jsonPath(NEXT_LINK, containsString("after=")))
+            .andReturn().getResponse().getContentAsString();
+
+        String nextLink = JsonPath.read(firstPage, NEXT_LINK);
+        String nextPath = nextLink.substring(nextLink.indexOf(PET_CURSOR_URL));
+
+        mockMvc.perform(get(nextPath))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(1)))
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES + "[0].id",
+                equalTo(first.getId().toString())))
+            .andExpect(jsonPath(NEXT_LINK).doesNotExist())
+            .andExpect(jsonPath("$._links.self.href", startsWith("http")));
+    }
+
+    @Test
+    @DisplayName("Should apply search filters in cursor pagination")
+    void return_filtered_pets_using_cursor_pagination() throws Exception {
+        String petName = RandomStringUtils.secure().nextAlphabetic(6);
+        PetEntity pet = petComponent.savePetWithName(petName, shelter);
+        petComponent.savePetWithName(RandomStringUtils.secure().nextAlphabetic(6), shelter);
+
+        mockMvc.perform(get(PET_CURSOR_URL + "?name=" + petName))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(1)))
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES + "[0].id",
+                equalTo(pet.getId().toString())))
+            .andExpect(jsonPath(NEXT_LINK).doesNotExist());
+    }
+
+    @ParameterizedTest(name = "[{index}] Should return 400 when {0} is {1}")
+    @CsvSource({
+        "after, not-a-valid-cursor",
+        "size, 0",
+        "size, 101"
+    })
+    @DisplayName("Should return Bad Request when cursor parameters are invalid")
+    void should_return_bad_request_when_cursor_param_is_invalid(final String param,
+                                                                 final String value
+    ) throws Exception {
+        mockMvc.perform(get(PET_CURSOR_URL + "?" + param + "=" + value))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].field", equalTo(param)));
+    }
+
+    @ParameterizedTest(name = "[{index}] Should match {0}={1} ignoring accents and case")
+    @CsvSource({
+        "name, cao",
+        "name, CÃO",
+        "location, maceio",
+        "location, Maceió",
+        "description, brincalhao",
+        "query, cão maceió"
+    })
+    @DisplayName("Should match text filters ignoring accents and case")
+    void return_pets_matching_text_ignoring_accents(final String param,
+                                                    final String value
+    ) throws Exception {
+        PetEntity pet = petComponent.savePetWithTexts(
+            "Cão Caramelo", "Maceió, Alagoas", "Muito brincalhão", shelter
+        );
+        petComponent.savePetWithTexts("Gato", "Recife, Pernambuco", "Calmo", shelter);
+
+        mockMvc.perform(get(PET_BASE_URL + "?" + param + "=" + value))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(1)))
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES + "[0].id",
+                equalTo(pet.getId().toString())));
+    }
+
+    @Test
+    @DisplayName("Should rank free text search results by relevance")
+    void return_pets_ranked_by_relevance() throws Exception {
+        PetEntity exactMatch = petComponent.savePetWithTexts(
+            "Rex", "Maceió, Alagoas", "Dócil", shelter
+        );
+        PetEntity partialMatch = petComponent.savePetWithTexts(
+            "Rexona", "Maceió, Alagoas", "Dócil", shelter
+        );
+
+        performGetRequestAndExpectTwoPets(PET_BASE_URL + "?query=rex", exactMatch, partialMatch);
+    }
+
+    @ParameterizedTest(name = "[{index}] Should use {1} when filtering by {0}")
+    @CsvSource({
+        "name, idx_pet_name_trgm",
+        "location, idx_pet_location_trgm",
+        "description, idx_pet_description_trgm"
+    })
+    @DisplayName("Should serve accent insensitive text filters from trigram indexes")
+    void text_filters_use_trigram_indexes(final String column,
+                                          final String expectedIndex
+    ) throws Exception {
+        List<String> statements;
+        RecordingStatementInspector.start();
+        try {
+            mockMvc.perform(get(PET_BASE_URL).param(column, "Maceió"))
+                .andExpect(status().isOk());
+        } finally {
+            statements = RecordingStatementInspector.stop();
+        }
+
+        String search = statements.stream()
+            .filter(sql -> sql.contains("buddy_unaccent"))
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(explainGenericPlan(search))
+            .contains(expectedIndex)
+            .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Should load a page of pets from distinct shelters without N+1 selects")
+    void search_does_not_issue_a_query_per_shelter() throws Exception {
+        savePetsFromDistinctShelters();
+        Statistics statistics = resetStatistics();
+
+        mockMvc.perform(get(PET_BASE_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(PETS_FROM_DISTINCT_SHELTERS)))
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES + "[*].shelterResponseCompact.nameShelter",
+                hasSize(PETS_FROM_DISTINCT_SHELTERS)));
+
+        assertThat(statistics.getPrepareStatementCount())
+            .as("catalog version + page select + count + batched images")
+            .isLessThanOrEqualTo(MAX_SEARCH_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Should load a cursor page of pets without N+1 selects or count query")
+    void cursor_search_does_not_issue_a_query_per_shelter() throws Exception {
+        savePetsFromDistinctShelters();
+        Statistics statistics = resetStatistics();
+
+        mockMvc.perform(get(PET_CURSOR_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(PETS_FROM_DISTINCT_SHELTERS)));
+
+        assertThat(statistics.getPrepareStatementCount())
+            .as("page select + batched images")
+            .isLessThanOrEqualTo(MAX_CURSOR_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated search from cache until the search cache is invalidated")
+    void repeated_search_is_served_from_cache_until_invalidated() throws Exception {
+        savePetsFromDistinctShelters();
+        mockMvc.perform(get(PET_BASE_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(PETS_FROM_DISTINCT_SHELTERS)));
+
+        Statistics statistics = resetStatistics();
+        petComponent.savePetWithName("Cached", shelter);
+
+        mockMvc.perform(get(PET_BASE_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(PETS_FROM_DISTINCT_SHELTERS)));
+
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+
+        petSearchCache.invalidate();
+
+        mockMvc.perform(get(PET_BASE_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(PETS_FROM_DISTINCT_SHELTERS + 1)));
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 without querying the database")
+    void conditional_search_returns_not_modified_without_querying() throws Exception {
+        savePetsFromDistinctShelters();
+        String etag = mockMvc.perform(get(PET_BASE_URL))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("s-maxage=60")))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = resetStatistics();
+
+        mockMvc.perform(get(PET_BASE_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return a new ETag per query and after the catalog changes")
+    void etag_changes_with_query_and_catalog_version() throws Exception {
+        savePetsFromDistinctShelters();
+        String etag = mockMvc.perform(get(PET_BASE_URL))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(PET_BASE_URL).param("size", "2")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+
+        petComponent.savePetWithName("Fresh", shelter);
+        petSearchCache.invalidate();
+
+        mockMvc.perform(get(PET_BASE_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PET_RESPONSES, hasSize(PETS_FROM_DISTINCT_SHELTERS + 1)));
+    }
+
+    @Test
+    @DisplayName("Should count pets for every species and gender bucket")
+    void return_facet_counts_for_every_bucket() throws Exception {
+        savePetsForFacets();
+
+        mockMvc.perform(get(PET_FACETS_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.species['Cão']", equalTo(3)))
+            .andExpect(jsonPath("$.species['Gato']", equalTo(1)))
+            .andExpect(jsonPath("$.species['Pássaro']", equalTo(0)))
+            .andExpect(jsonPath("$.genders['Macho']", equalTo(2)))
+            .andExpect(jsonPath("$.genders['Fêmea']", equalTo(2)))
+            .andExpect(jsonPath("$.ageRanges['0-1 anos']", equalTo(4)))
+            .andExpect(jsonPath("$.ageRanges['10+ anos']", equalTo(0)))
+            .andExpect(jsonPath("$.weightRanges.length()", equalTo(5)));
+    }
+
+    @Test
+    @DisplayName("Should apply the other active filters to each facet but not its own")
+    void return_facet_counts_honouring_other_filters() throws Exception {
+        savePetsForFacets();
+
+        mockMvc.perform(get(PET_FACETS_URL).param("species", "Cão"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.species['Cão']", equalTo(3)))
+            .andExpect(jsonPath("$.species['Gato']", equalTo(1)))
+            .andExpect(jsonPath("$.genders['Macho']", equalTo(2)))
+            .andExpect(jsonPath("$.genders['Fêmea']", equalTo(1)));
+    }
+
+    @Test
+    @DisplayName("Should return Bad Request when a facet filter is invalid")
+    void should_return_bad_request_when_facet_filter_is_invalid() throws Exception {
+        mockMvc.perform(get(PET_FACETS_URL).param("species", "dragon"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].field", equalTo("search_criteria")));
+    }
+
+    private void savePetsForFacets() {
+        petComponent.savePetWithSpecieAndGender("Cão", "Macho", shelter);
+        petComponent.savePetWithSpecieAndGender("Cão", "Macho", shelter);
+        petComponent.savePetWithSpecieAndGender("Cão", "Fêmea", shelter);
+        petComponent.savePetWithSpecieAndGender("Gato", "Fêmea", shelter);
+    }
+
+    private void savePetsFromDistinctShelters() {
+        for (int i = 0; i < PETS_FROM_DISTINCT_SHELTERS; i++) {
+            ShelterEntity otherShelter = shelterComponent.createShelterNoPets();
+            petComponent.savePetWithName(RandomStringUtils.secure().nextAlphabetic(4),
+                otherShelter);
+        }
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private String explainGenericPlan(final String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length());
+        int parameters = 0;
+        boolean inLiteral = false;
+        for (char character : sql.toCharArray()) {
+            if (character == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (character == '?' && !inLiteral) {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(character);
+            }
+        }
+        String arguments = parameters == 0
+            ? ""
+            : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PREPARE search_plan AS " + numbered);
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                List<String> lines = new ArrayList<>();
+                try (ResultSet resultSet =
+                         statement.executeQuery("EXPLAIN EXECUTE search_plan" + arguments)) {
+                    while (resultSet.next()) {
+                        lines.add(resultSet.getString(1));
+                    }
+                }
+                statement.execute("DEALLOCATE search_plan");
+                statement.execute("RESET plan_cache_mode");
+                statement.execute("RESET enable_seqscan");
+                return String.join("\n", lines);
+            }
+        });
+    }
+
     private void performGetRequestAndExpectTwoPets(final String url,
                                                    final PetEntity firstExpected,
                                                    final PetEntity secondExpected
@@ -0,0 +1,202 @@
+package com.buddy.api.integrations.web.pet.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.buddy.api.domains.image.enums.ImageStatus;
+import com.buddy.api.domains.pet.entities.PetV2Entity;
+import com.buddy.api.domains.pet.enums.PetGender;
+import com.buddy.api.domains.pet.enums.PetSpecies;
+import com.buddy.api.domains.pet.repositories.PetV2Repository;
+import com.buddy.api.domains.pet.repositories.PetV2SearchRepositoryImpl;
+import com.buddy.api.domains.profile.entities.ProfileEntity;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import com.buddy.api.web.pets.requests.PetV2SearchCriteriaRequest;
+import com.jayway.jsonpath.JsonPath;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@DisplayName("GET /v2/pets")
+class FindPetV2ControllerTest extends IntegrationTestAbstract {
+
+    private static final String PET_V2_URL = "/v2/pets";
+    private static final String EMBEDDED_PETS = "$._embedded.petV2ResponseList";
+    private static final String NEXT_LINK = "$._links.next.href";
+
+    @Autowired
+    private PetV2Repository petV2Repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ProfileEntity guardian;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM image WHERE pet_v2_id IS NOT NULL");
+        petV2Repository.deleteAll();
+        guardian = profileRepository.save(profileComponent.validProfileEntity().build());
+    }
+
+    @Test
+    @DisplayName("Should return only adoptable pets, newest first, with their approved avatar")
+    void return_adoptable_pets_with_avatar() throws Exception {
+        PetV2Entity older = savePet("Luna", PetSpecies.CAT, PetGender.FEMALE, true);
+        savePet("Hidden", PetSpecies.DOG, PetGender.MALE, false);
+        PetV2Entity newer = savePet("Thor", PetSpecies.DOG, PetGender.MALE, true);
+        saveImage(newer, "pending.png", ImageStatus.PENDING, 0);
+        saveImage(newer, "second.png", ImageStatus.APPROVED, 2);
+        saveImage(newer, "first.png", ImageStatus.APPROVED, 1);
+
+        mockMvc.perform(get(PET_V2_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PETS + "[*].id",
+                contains(newer.getPetV2Id().toString(), older.getPetV2Id().toString())))
+            .andExpect(jsonPath(EMBEDDED_PETS + "[0].avatar", equalTo("first.png")))
+            .andExpect(jsonPath(EMBEDDED_PETS + "[0].species", equalTo("DOG")))
+            .andExpect(jsonPath(EMBEDDED_PETS + "[1].avatar", nullValue()))
+            .andExpect(jsonPath(NEXT_LINK).doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should filter adoptable pets by species and gender")
+    void filter_by_species_and_gender() throws Exception {
+        savePet("Luna", PetSpecies.CAT, PetGender.FEMALE, true);
+        PetV2Entity thor = savePet("Thor", PetSpecies.DOG, PetGender.MALE, true);
+        savePet("Bella", PetSpecies.DOG, PetGender.FEMALE, true);
+
+        mockMvc.perform(get(PET_V2_URL).param("species", "DOG").param("gender", "MALE"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(EMBEDDED_PETS, hasSize(1)))
+            .andExpect(jsonPath(EMBEDDED_PETS + "[0].id", equalTo(thor.getPetV2Id().toString())));
+    }
+
+    @Test
+    @DisplayName("Should walk every adoptable pet exactly once by following the next link")
+    void follow_next_cursor_across_pages() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.addFirst(savePet("Pet" + i, PetSpecies.DOG, PetGender.MALE, true)
+                .getPetV2Id().toString());
+        }
+
+        List<String> visited = new ArrayList<>();
+        String url = PET_V2_URL + "?size=2";
+        while (url != null) {
+            String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            visited.addAll(JsonPath.read(body, EMBEDDED_PETS + "[*].id"));
+            Map<String, Object> links = JsonPath.read(body, "$._links");
+            url = links.containsKey("next") ? JsonPath.read(body, NEXT_LINK) : null;
+        }
+
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should return Bad Request for an unknown species")
+    void return_bad_request_for_unknown_species() throws Exception {
+        mockMvc.perform(get(PET_V2_URL).param("species", "DRAGON"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should serve filtered searches from the partial composite index")
+    void filtered_search_uses_partial_composite_index() {
+        List<String> statements = new ArrayList<>();
+        List<SqlParameterSource> parameters = new ArrayList<>();
+        NamedParameterJdbcTemplate recordingTemplate =
+            new NamedParameterJdbcTemplate(jdbcTemplate) {
+                @Override
+                public <T> List<T> query(final String sql,
+                                         final SqlParameterSource paramSource,
+                                         final RowMapper<T> rowMapper) {
+                    statements.add(sql);
+                    parameters.add(paramSource);
+                    return super.query(sql, paramSource, rowMapper);
+                }
+            };
+
+        new PetV2SearchRepositoryImpl(recordingTemplate).searchAdoptable(
+            new PetV2SearchCriteriaRequest(PetSpecies.DOG, PetGender.MALE), null, 20);
+
+        assertThat(statements).hasSize(1);
+        String plan = explain(statements.getFirst(), parameters.getFirst());
+
+        assertThat(plan)
+            .contains("idx_pet_v2_adoptable_species_gender_creation")
+            .doesNotContain("Sort");
+    }
+
+    private PetV2Entity savePet(final String name,
+                                final PetSpecies species,
+                                final PetGender gender,
+                                final boolean isForAdoption) {
+        return petV2Repository.save(PetV2Entity.builder()
+            .guardianProfile(guardian)
+            .name(name)
+            .species(species)
+            .gender(gender)
+            .isForAdoption(isForAdoption)
+            .build());
+    }
+
+    private void saveImage(final PetV2Entity pet,
+                           final String filePath,
+                           final ImageStatus status,
+                           final int displayOrder) {
+        jdbcTemplate.update("""
+                INSERT INTO image (image_id, pet_v2_id, is_avatar, file_path, image_status,
+                                   display_order)
+                VALUES (?, ?, TRUE, ?, ?, ?)
+                """,
+            UUID.randomUUID(), pet.getPetV2Id(), filePath, status.name(), displayOrder);
+    }
+
+    private String explain(final String sql, final SqlParameterSource parameters) {
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+        String jdbcSql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameters);
+        Object[] arguments = NamedParameterUtils.buildValueArray(parsedSql, parameters, null);
+
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement();
+                 PreparedStatement explain = connection.prepareStatement("EXPLAIN " + jdbcSql)) {
+                statement.execute("SET enable_seqscan = off");
+                for (int i = 0; i < arguments.length; i++) {
+                    explain.setObject(i + 1, arguments[i]);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    while (resultSet.next()) {
+                        lines.add(resultSet.getString(1));
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+                return String.join("\n", lines);
+            }
+        });
+    }
+}
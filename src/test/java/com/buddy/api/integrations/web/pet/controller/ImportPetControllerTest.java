@@ -0,0 +1,159 @@
+package com.buddy.api.integrations.web.pet.controller;
+
+import static com.buddy.api.builders.pet.PetBuilder.createPetRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+@DisplayName("POST /v1/pets/import")
+class ImportPetControllerTest extends IntegrationTestAbstract {
+
+    private static final String PET_IMPORT_URL = PET_BASE_URL + "/import";
+    private static final String CSV_HEADER =
+        "name,specie,gender,birthDate,location,weight,description,avatar,images,shelterId\n";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final int PETS_FOR_ONE_SHELTER = 50;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String adminJwt;
+
+    @BeforeEach
+    void setUp() {
+        shelter = shelterComponent.createShelterNoPets();
+        adminJwt = accountComponent.createAndAuthenticateAdmin().jwt();
+    }
+
+    @Test
+    @DisplayName("Should return 403 Forbidden and import nothing when no token is provided")
+    void import_without_token_is_forbidden() throws Exception {
+        String csv = CSV_HEADER + csvRow("Rex", "Cão", "Macho", "5.5", "", shelter.getId());
+
+        mockMvc.perform(post(PET_IMPORT_URL).contentType(TEXT_CSV).content(csv))
+            .andExpect(status().isForbidden());
+
+        assertThat(petRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return 403 Forbidden when user is not ADMIN or SHELTER")
+    void import_as_regular_user_is_forbidden() throws Exception {
+        final var regularUser = accountComponent.createAndAuthenticateUser();
+        String csv = CSV_HEADER + csvRow("Rex", "Cão", "Macho", "5.5", "", shelter.getId());
+
+        mockMvc.perform(post(PET_IMPORT_URL)
+                .header(AUTHORIZATION, BEARER + regularUser.jwt())
+                .contentType(TEXT_CSV)
+                .content(csv))
+            .andExpect(status().isForbidden());
+
+        assertThat(petRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows with images and report the invalid ones")
+    void import_csv_and_report_invalid_rows() throws Exception {
+        String csv = CSV_HEADER
+            + csvRow("Rex", "Cão", "Macho", "5.5", "https://img/1.png|https://img/2.png",
+                shelter.getId())
+            + csvRow("Mia", "Gato", "Fêmea", "3.2", "", shelter.getId())
+            + csvRow("", "Gato", "Fêmea", "3.2", "", shelter.getId())
+            + csvRow("Bob", "Cão", "Macho", "heavy", "", shelter.getId())
+            + csvRow("Lost", "Cão", "Macho", "4.0", "", UUID.randomUUID());
+
+        mockMvc.perform(post(PET_IMPORT_URL)
+                .header(AUTHORIZATION, BEARER + adminJwt)
+                .contentType(TEXT_CSV)
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", equalTo(2)))
+            .andExpect(jsonPath("$.rejected", equalTo(3)))
+            .andExpect(jsonPath("$.errors", hasSize(3)))
+            .andExpect(jsonPath("$.errors[0].row", equalTo(3)))
+            .andExpect(jsonPath("$.errors[0].field", equalTo("name")))
+            .andExpect(jsonPath("$.errors[1].row", equalTo(4)))
+            .andExpect(jsonPath("$.errors[1].field", equalTo("weight")))
+            .andExpect(jsonPath("$.errors[2].row", equalTo(5)))
+            .andExpect(jsonPath("$.errors[2].field", equalTo("shelterId")));
+
+        assertThat(petRepository.count()).isEqualTo(2);
+        assertThat(petImageRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON rows and report rows with invalid values")
+    void import_ndjson_and_report_invalid_rows() throws Exception {
+        String ndjson = objectMapper.writeValueAsString(createPetRequest(shelter.getId()))
+            + "\n{\"name\":\"Bad\",\"birthDate\":\"yesterday\"}\n"
+            + objectMapper.writeValueAsString(createPetRequest(shelter.getId())) + "\n";
+
+        mockMvc.perform(post(PET_IMPORT_URL)
+                .header(AUTHORIZATION, BEARER + adminJwt)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", equalTo(2)))
+            .andExpect(jsonPath("$.rejected", equalTo(1)))
+            .andExpect(jsonPath("$.errors[0].row", equalTo(2)))
+            .andExpect(jsonPath("$.errors[0].field", equalTo("birthDate")));
+
+        assertThat(petRepository.findAll())
+            .extracting(PetEntity::getCreateDate)
+            .doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("Should look up each distinct shelter only once per import")
+    void import_validates_each_shelter_once() throws Exception {
+        String csv = CSV_HEADER + IntStream.range(0, PETS_FOR_ONE_SHELTER)
+            .mapToObj(i -> csvRow("Pet" + i, "Cão", "Macho", "2.0", "", shelter.getId()))
+            .collect(Collectors.joining());
+        mockMvc.perform(post(PET_IMPORT_URL)
+                .header(AUTHORIZATION, BEARER + adminJwt)
+                .contentType(TEXT_CSV)
+                .content(CSV_HEADER))
+            .andExpect(status().isOk());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post(PET_IMPORT_URL)
+                .header(AUTHORIZATION, BEARER + adminJwt)
+                .contentType(TEXT_CSV)
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported", equalTo(PETS_FOR_ONE_SHELTER)));
+
+        assertThat(statistics.getPrepareStatementCount())
+            .as("pets are written through JDBC batches, the shelter is read once")
+            .isEqualTo(1);
+        assertThat(petRepository.count()).isEqualTo(PETS_FOR_ONE_SHELTER);
+    }
+
+    private static String csvRow(final String name,
+                                 final String specie,
+                                 final String gender,
+                                 final String weight,
+                                 final String images,
+                                 final UUID shelterId) {
+        return String.join(",", name, specie, gender, "2022-01-01", "Maceio", weight,
+            "Friendly", "", images, shelterId.toString()) + "\n";
+    }
+}
@@ -0,0 +1,92 @@
+package com.buddy.api.integrations.web.pet.controller;
+
+import static com.buddy.api.builders.pet.PetBuilder.createPetRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.buddy.api.integrations.IntegrationTestAbstract;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Pet import throughput")
+class PetImportBenchmarkTest extends IntegrationTestAbstract {
+
+    private static final String PET_REGISTER_URL = PET_BASE_URL + "/register";
+    private static final String PET_IMPORT_URL = PET_BASE_URL + "/import";
+    private static final int WARMUP_PETS = 200;
+    private static final int MEASURED_PETS = 2_000;
+
+    @BeforeEach
+    void setUp() {
+        shelter = shelterComponent.createShelterNoPets();
+    }
+
+    @Test
+    @DisplayName("Bulk NDJSON import should outperform one registration request per pet")
+    void bulk_import_outperforms_single_row_registration() throws Exception {
+        registerOneByOne(WARMUP_PETS);
+        importInBulk(WARMUP_PETS);
+
+        double singleRowThroughput = throughput(MEASURED_PETS, this::registerOneByOne);
+        double bulkThroughput = throughput(MEASURED_PETS, this::importInBulk);
+
+        log.info("Single-row registration: {} pets/s, bulk import: {} pets/s ({}x)",
+            Math.round(singleRowThroughput), Math.round(bulkThroughput),
+            Math.round(bulkThroughput / singleRowThroughput));
+        assertThat(bulkThroughput).isGreaterThan(singleRowThroughput);
+        assertThat(petRepository.count())
+            .isEqualTo(2L * (WARMUP_PETS + MEASURED_PETS));
+    }
+
+    private double throughput(final int pets, final Workload workload) throws Exception {
+        long start = System.nanoTime();
+        workload.run(pets);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return pets * 1000.0 / Math.max(1, elapsedMillis);
+    }
+
+    private void registerOneByOne(final int pets) throws Exception {
+        for (int i = 0; i < pets; i++) {
+            mockMvc.perform(post(PET_REGISTER_URL)
+                    .contentType(APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createPetRequest(shelter.getId()))))
+                .andExpect(status().isCreated());
+        }
+    }
+
+    private void importInBulk(final int pets) throws Exception {
+        String ndjson = IntStream.range(0, pets)
+            .mapToObj(i -> toJson())
+            .collect(Collectors.joining("\n"));
+
+        mockMvc.perform(post(PET_IMPORT_URL)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+            .andExpect(status().isOk());
+    }
+
+    private String toJson() {
+        try {
+            return objectMapper.writeValueAsString(createPetRequest(shelter.getId()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run(int pets) throws Exception;
+    }
+}
@@ -12,10 +12,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 import com.buddy.api.domains.account.entities.AccountEntity;
 import com.buddy.api.domains.profile.entities.ProfileEntity;
 import com.buddy.api.integrations.IntegrationTestAbstract;
+import com.buddy.api.web.authentication.requests.AuthRequest;
 import com.buddy.api.web.profiles.requests.ProfileRequest;
 import java.util.List;
 import java.util.Optional;
@@ -62,7 +64,8 @@ class CreateProfileControllerTest extends IntegrationTestAbstract {
                 "ROLE_" + ADMIN.name(),
                 "ROLE_" + SHELTER.name(),
                 "SCOPE_VERIFIED"
-            )
+            ),
+            0
         );
     }
 
@@ -82,6 +85,30 @@ class CreateProfileControllerTest extends IntegrationTestAbstract {
         assertProfileDetails(newProfile.get(), request);
     }
 
+    @Test
+    @DisplayName("Should expose a newly registered profile on the next login")
+    void should_expose_new_profile_on_next_login() throws Exception {
+        final var plainPassword = RandomStringUtils.secure().nextAlphanumeric(10);
+        final var account = accountRepository.save(validAccountEntity()
+            .password(passwordEncoder.encode(plainPassword))
+            .isVerified(true)
+            .build());
+        final var token = jwtUtil.generateAccessToken(account.getEmail().value(),
+            List.of("ROLE_" + USER.name(), "SCOPE_VERIFIED"), 0);
+        final var login = AuthRequest.builder()
+            .email(account.getEmail().value())
+            .password(plainPassword)
+            .build();
+
+        performLoginRequest(login).andExpect(jsonPath("$.profiles.length()").value(0));
+
+        expectCreatedFrom(performCreateProfileRequest(profileComponent.validProfileRequest()
+            .accountId(account.getAccountId())
+            .build(), token));
+
+        performLoginRequest(login).andExpect(jsonPath("$.profiles.length()").value(1));
+    }
+
     @Test
     @DisplayName("Should NOT register profile if user is NOT VERIFIED (Missing Scope)")
     void should_not_register_profile_if_unverified() throws Exception {
@@ -93,7 +120,8 @@ class CreateProfileControllerTest extends IntegrationTestAbstract {
 
         String unverifiedToken = jwtUtil.generateAccessToken(
             unverifiedAccount.getEmail().value(),
-            List.of("ROLE_USER")
+            List.of("ROLE_USER"),
+            0
         );
 
         final var request = profileComponent.validProfileRequest()
@@ -258,6 +286,13 @@ class CreateProfileControllerTest extends IntegrationTestAbstract {
         assertProfileCount(authenticatedAccount, 0);
     }
 
+    private ResultActions performLoginRequest(final AuthRequest request) throws Exception {
+        return mockMvc.perform(post(AUTH_URL)
+            .header(ORIGIN, VALID_ORIGIN)
+            .contentType(APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+
     private ResultActions performCreateProfileRequest(final ProfileRequest request,
                                                       final String token)
         throws Exception {
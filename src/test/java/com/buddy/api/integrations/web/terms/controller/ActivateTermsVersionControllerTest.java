@@ -2,7 +2,9 @@ package com.buddy.api.integrations.web.terms.controller;
 
 import static com.buddy.api.customverifications.CustomErrorVerifications.expectNotFoundFrom;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.buddy.api.integrations.IntegrationTestAbstract;
@@ -63,6 +65,27 @@ class ActivateTermsVersionControllerTest extends IntegrationTestAbstract {
             assertThat(newlyActive.get().getIsActive()).isTrue();
         }
 
+        @Test
+        @DisplayName("Should serve the newly activated version instead of the cached one")
+        void should_evict_cached_active_terms_on_activation() throws Exception {
+            final var adminUser = accountComponent.createAndAuthenticateAdmin();
+            final var activeTerms = termsComponent.createActiveTerm(adminUser.account());
+            final var inactiveTerms = termsComponent.createInactiveTerm(adminUser.account());
+
+            mockMvc.perform(get(TERMS_BASE_URL + "/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.versionTag").value(activeTerms.getVersionTag()));
+
+            mockMvc.perform(patch(String.format(ACTIVATE_URL_TEMPLATE,
+                    inactiveTerms.getTermsVersionId()))
+                    .header(AUTHORIZATION, BEARER + adminUser.jwt()))
+                .andExpect(status().isNoContent());
+
+            mockMvc.perform(get(TERMS_BASE_URL + "/active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.versionTag").value(inactiveTerms.getVersionTag()));
+        }
+
         @Test
         @DisplayName("Should return 204 no content when activating an already active version")
         void should_return_204_when_already_active() throws Exception {
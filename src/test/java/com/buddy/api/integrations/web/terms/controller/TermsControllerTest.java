@@ -3,9 +3,11 @@ package com.buddy.api.integrations.web.terms.controller;
 import static com.buddy.api.builders.terms.TermsBuilder.validAcceptTermsDto;
 import static com.buddy.api.customverifications.CustomErrorVerifications.expectNotFoundFrom;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -13,6 +15,7 @@ import com.buddy.api.integrations.IntegrationTestAbstract;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 
 class TermsControllerTest extends IntegrationTestAbstract {
 
@@ -46,6 +49,25 @@ class TermsControllerTest extends IntegrationTestAbstract {
                     .value(activeTerm.getPublicationDate().toString()));
         }
 
+        @Test
+        @DisplayName("Should return 304 when the active term matches If-None-Match")
+        void should_return_not_modified_for_matching_etag() throws Exception {
+            final var account = accountComponent.createAndAuthenticateUser().account();
+            termsComponent.createActiveTerm(account);
+
+            final var etag = mockMvc.perform(get(TERMS_ACTIVE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                    containsString("s-maxage=300")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            assertThat(etag).isNotBlank();
+
+            mockMvc.perform(get(TERMS_ACTIVE_URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        }
+
         @Test
         @DisplayName("Should return 404 when no active term exists")
         void should_return_not_found_when_no_active_term() throws Exception {
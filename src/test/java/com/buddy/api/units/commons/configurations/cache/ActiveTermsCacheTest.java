@@ -0,0 +1,144 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static com.buddy.api.builders.terms.TermsBuilder.validTermsVersionDto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.cache.ActiveTermsCache;
+import com.buddy.api.commons.configurations.cache.CacheLoadLock;
+import com.buddy.api.domains.terms.dtos.ActiveTermsEntry;
+import com.buddy.api.domains.terms.dtos.TermsVersionDto;
+import com.buddy.api.units.UnitTestAbstract;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class ActiveTermsCacheTest extends UnitTestAbstract {
+
+    private static final String LOCK_NAME = "terms:active";
+    private static final String OWNER = "owner";
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private CacheLoadLock cacheLoadLock;
+
+    @InjectMocks
+    private ActiveTermsCache activeTermsCache;
+
+    private TermsVersionDto current;
+    private TermsVersionDto loaded;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        current = validTermsVersionDto().build();
+        loaded = validTermsVersionDto().build();
+        loads = new AtomicInteger();
+        when(cacheManager.getCache(ActiveTermsCache.CACHE_NAME)).thenReturn(cache);
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh entry without loading or locking")
+    void should_serve_fresh_entry() {
+        when(cache.get(ActiveTermsCache.KEY, ActiveTermsEntry.class))
+            .thenReturn(entry(current, ActiveTermsCache.TTL.toMillis()));
+
+        assertThat(activeTermsCache.get(this::load)).isEqualTo(current);
+
+        assertThat(loads).hasValue(0);
+        verify(cacheLoadLock, never()).tryAcquire(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should load under the distributed lock and cache the result on a miss")
+    void should_load_under_lock_on_miss() {
+        when(cacheLoadLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(Optional.of(OWNER));
+
+        assertThat(activeTermsCache.get(this::load)).isEqualTo(loaded);
+
+        assertThat(loads).hasValue(1);
+        verify(cache).put(eq(ActiveTermsCache.KEY),
+            argThat(value -> ((ActiveTermsEntry) value).terms().equals(loaded)));
+        verify(cacheLoadLock).release(LOCK_NAME, OWNER);
+    }
+
+    @Test
+    @DisplayName("Should wait for the node holding the lock instead of querying the database")
+    void should_wait_for_other_node_on_miss() {
+        when(cache.get(ActiveTermsCache.KEY, ActiveTermsEntry.class))
+            .thenReturn(null, null, entry(current, ActiveTermsCache.TTL.toMillis()));
+        when(cacheLoadLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(Optional.empty());
+
+        assertThat(activeTermsCache.get(this::load)).isEqualTo(current);
+
+        assertThat(loads).hasValue(0);
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refresh an entry that is about to expire")
+    void should_refresh_expiring_entry() {
+        when(cache.get(ActiveTermsCache.KEY, ActiveTermsEntry.class))
+            .thenReturn(entry(current, 0));
+        when(cacheLoadLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(Optional.of(OWNER));
+
+        assertThat(activeTermsCache.get(this::load)).isEqualTo(loaded);
+
+        assertThat(loads).hasValue(1);
+        verify(cacheLoadLock).release(LOCK_NAME, OWNER);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the current entry while another node refreshes it")
+    void should_serve_current_entry_while_other_node_refreshes() {
+        when(cache.get(ActiveTermsCache.KEY, ActiveTermsEntry.class))
+            .thenReturn(entry(current, 0));
+        when(cacheLoadLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(Optional.empty());
+
+        assertThat(activeTermsCache.get(this::load)).isEqualTo(current);
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should load from the database when the cache is unavailable")
+    void should_load_when_cache_is_unavailable() {
+        when(cache.get(ActiveTermsCache.KEY, ActiveTermsEntry.class))
+            .thenThrow(new RedisConnectionFailureException("Redis down"));
+        doThrow(new RedisConnectionFailureException("Redis down"))
+            .when(cache).put(any(), any());
+        when(cacheLoadLock.tryAcquire(eq(LOCK_NAME), any())).thenReturn(Optional.of(OWNER));
+
+        assertThat(activeTermsCache.get(this::load)).isEqualTo(loaded);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private static ActiveTermsEntry entry(final TermsVersionDto terms, final long ttlMillis) {
+        return new ActiveTermsEntry(terms, System.currentTimeMillis() + ttlMillis, 5);
+    }
+
+    private TermsVersionDto load() {
+        loads.incrementAndGet();
+        return loaded;
+    }
+}
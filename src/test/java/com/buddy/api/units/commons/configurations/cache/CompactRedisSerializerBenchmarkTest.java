@@ -0,0 +1,76 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.buddy.api.commons.configurations.cache.CompactRedisSerializer;
+import com.buddy.api.domains.terms.dtos.TermsVersionDto;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Redis cache value codecs")
+class CompactRedisSerializerBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 50_000;
+
+    private final TermsVersionDto terms = TermsVersionDto.builder()
+        .termsVersionId(UUID.randomUUID())
+        .versionTag("v2026.10")
+        .content("The adopter agrees to provide food, shelter and veterinary care. ".repeat(300))
+        .isActive(true)
+        .publicationDate(LocalDate.of(2026, 10, 1))
+        .build();
+
+    @Test
+    @DisplayName("Compact codec should produce smaller payloads than default-typed JSON")
+    void compact_codec_shrinks_payloads() {
+        RedisSerializer<Object> generic = defaultTypedJson();
+        RedisSerializer<TermsVersionDto> compact = new CompactRedisSerializer<>(
+            new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule()),
+            TermsVersionDto.class, 1_024);
+
+        run(generic, WARMUP_ROUNDS);
+        run(compact, WARMUP_ROUNDS);
+
+        long genericNanos = run(generic, MEASURED_ROUNDS);
+        long compactNanos = run(compact, MEASURED_ROUNDS);
+        int genericSize = generic.serialize(terms).length;
+        int compactSize = compact.serialize(terms).length;
+
+        log.info("Default-typed JSON: {} bytes, {} ns per encode+decode",
+            genericSize, genericNanos / MEASURED_ROUNDS);
+        log.info("Compact codec: {} bytes, {} ns per encode+decode",
+            compactSize, compactNanos / MEASURED_ROUNDS);
+        assertThat(compactSize).isLessThan(genericSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> long run(final RedisSerializer<T> serializer, final int rounds) {
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            T decoded = serializer.deserialize(serializer.serialize((T) terms));
+            assertThat(decoded).isNotNull();
+        }
+        return System.nanoTime() - start;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static GenericJackson2JsonRedisSerializer defaultTypedJson() {
+        ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule());
+        json.activateDefaultTyping(json.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(json);
+    }
+}
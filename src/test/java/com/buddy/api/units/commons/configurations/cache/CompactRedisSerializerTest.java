@@ -0,0 +1,90 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.buddy.api.commons.configurations.cache.CompactRedisSerializer;
+import com.buddy.api.domains.terms.dtos.TermsVersionDto;
+import com.buddy.api.units.UnitTestAbstract;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompactRedisSerializerTest extends UnitTestAbstract {
+
+    private static final int COMPRESSION_THRESHOLD = 1_024;
+
+    private final ObjectMapper mapper = new ObjectMapper(new SmileFactory())
+        .registerModule(new JavaTimeModule());
+
+    private final CompactRedisSerializer<TermsVersionDto> serializer =
+        new CompactRedisSerializer<>(mapper, TermsVersionDto.class, COMPRESSION_THRESHOLD);
+
+    @Test
+    @DisplayName("Should round-trip a small value without compressing it")
+    void should_round_trip_small_value() {
+        TermsVersionDto terms = terms("Short terms.");
+
+        byte[] bytes = serializer.serialize(terms);
+
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(CompactRedisSerializer.FORMAT_VERSION);
+        assertThat(bytes[2]).isZero();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(terms);
+    }
+
+    @Test
+    @DisplayName("Should compress large values well below the default-typed JSON size")
+    void should_compress_large_value() {
+        TermsVersionDto terms = terms("The adopter agrees to care for the pet. ".repeat(500));
+
+        byte[] bytes = serializer.serialize(terms);
+        byte[] legacy = defaultTypedJson().serialize(terms);
+
+        assertThat(bytes[2]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(legacy.length / 4);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(terms);
+    }
+
+    @Test
+    @DisplayName("Should treat entries written by the previous JSON serializer as a miss")
+    void should_reject_legacy_json_entries() {
+        byte[] legacy = "{\"@class\":\"com.buddy.api.domains.terms.dtos.TermsVersionDto\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(serializer.deserialize(legacy)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should treat entries written with another format version as a miss")
+    void should_reject_other_format_versions() {
+        byte[] bytes = serializer.serialize(terms("Terms."));
+        bytes[1] = (byte) (CompactRedisSerializer.FORMAT_VERSION + 1);
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    private static TermsVersionDto terms(final String content) {
+        return TermsVersionDto.builder()
+            .termsVersionId(UUID.randomUUID())
+            .versionTag("v1.0.0")
+            .content(content)
+            .isActive(true)
+            .publicationDate(LocalDate.of(2026, 1, 1))
+            .build();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static GenericJackson2JsonRedisSerializer defaultTypedJson() {
+        ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule());
+        json.activateDefaultTyping(json.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(json);
+    }
+}
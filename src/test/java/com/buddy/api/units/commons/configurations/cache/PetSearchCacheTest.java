@@ -0,0 +1,174 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.cache.PetSearchCache;
+import com.buddy.api.commons.configurations.cache.ResourceVersions;
+import com.buddy.api.domains.pet.dtos.PetSearchPageDto;
+import com.buddy.api.units.UnitTestAbstract;
+import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class PetSearchCacheTest extends UnitTestAbstract {
+
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10, Sort.by("createDate"));
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private PetSearchCache petSearchCache;
+
+    private PetSearchPageDto page;
+
+    @BeforeEach
+    void setUp() {
+        page = new PetSearchPageDto(List.of(), 0);
+    }
+
+    private static PetSearchCriteriaRequest criteria(final String name, final String query) {
+        return new PetSearchCriteriaRequest(
+            null, null, name, null, null, null, null, null, null, null, query
+        );
+    }
+
+    @Nested
+    @DisplayName("Tests for get method")
+    class GetTests {
+
+        @BeforeEach
+        void setUp() {
+            when(cacheManager.getCache(PetSearchCache.CACHE_NAME)).thenReturn(cache);
+        }
+
+        @Test
+        @DisplayName("Should return cached page without calling the loader")
+        void should_return_cached_page_without_calling_loader() {
+            AtomicInteger loads = new AtomicInteger();
+            when(resourceVersions.generation(ResourceVersions.PETS)).thenReturn(Optional.of("3"));
+            when(cache.get(startsWith("3:"), eq(PetSearchPageDto.class))).thenReturn(page);
+
+            PetSearchPageDto result = petSearchCache.get(criteria("Rex", null), PAGEABLE, () -> {
+                loads.incrementAndGet();
+                return page;
+            });
+
+            assertThat(result).isSameAs(page);
+            assertThat(loads).hasValue(0);
+            verify(cache, never()).put(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should load and store page under generation zero on a cold cache")
+        void should_load_and_store_page_on_miss() {
+            when(resourceVersions.generation(ResourceVersions.PETS)).thenReturn(Optional.of("0"));
+
+            PetSearchPageDto result = petSearchCache.get(criteria("Rex", null), PAGEABLE,
+                () -> page);
+
+            assertThat(result).isSameAs(page);
+            verify(cache).put(startsWith("0:"), eq(page));
+        }
+
+        @Test
+        @DisplayName("Should query the database when the cache is unavailable")
+        void should_load_page_when_cache_is_unavailable() {
+            when(resourceVersions.generation(ResourceVersions.PETS)).thenReturn(Optional.of("3"));
+            when(cache.get(anyString(), eq(PetSearchPageDto.class)))
+                .thenThrow(new RedisConnectionFailureException("Redis down"));
+
+            PetSearchPageDto result = petSearchCache.get(criteria("Rex", null), PAGEABLE,
+                () -> page);
+
+            assertThat(result).isSameAs(page);
+            verify(cache, never()).put(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should bypass the cache when the generation is unavailable")
+        void should_bypass_cache_when_generation_is_unavailable() {
+            when(resourceVersions.generation(ResourceVersions.PETS)).thenReturn(Optional.empty());
+
+            PetSearchPageDto result = petSearchCache.get(criteria("Rex", null), PAGEABLE,
+                () -> page);
+
+            assertThat(result).isSameAs(page);
+            verify(cache, never()).get(anyString(), eq(PetSearchPageDto.class));
+            verify(cache, never()).put(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Should return the loaded page when storing it in the cache fails")
+        void should_return_page_when_cache_write_fails() {
+            when(resourceVersions.generation(ResourceVersions.PETS)).thenReturn(Optional.of("3"));
+            doThrow(new RedisConnectionFailureException("Redis down"))
+                .when(cache).put(anyString(), any());
+
+            PetSearchPageDto result = petSearchCache.get(criteria("Rex", null), PAGEABLE,
+                () -> page);
+
+            assertThat(result).isSameAs(page);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for invalidate method")
+    class InvalidateTests {
+
+        @Test
+        @DisplayName("Should bump the pets resource generation")
+        void should_bump_pets_generation() {
+            petSearchCache.invalidate();
+
+            verify(resourceVersions).bumpAfterCommit(ResourceVersions.PETS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for fingerprint method")
+    class FingerprintTests {
+
+        @Test
+        @DisplayName("Should produce the same fingerprint for equivalent text filters")
+        void should_ignore_case_accents_and_spacing() {
+            assertThat(PetSearchCache.fingerprint(criteria(" Pérola", "cão   Maceió"), PAGEABLE))
+                .isEqualTo(PetSearchCache.fingerprint(criteria("perola", "cao maceio"), PAGEABLE));
+        }
+
+        @Test
+        @DisplayName("Should produce distinct fingerprints for distinct pages")
+        void should_distinguish_pages() {
+            assertThat(PetSearchCache.fingerprint(criteria("Rex", null), PAGEABLE))
+                .isNotEqualTo(PetSearchCache.fingerprint(criteria("Rex", null),
+                    PAGEABLE.next()));
+        }
+    }
+}
@@ -1,54 +1,53 @@
 package com.buddy.api.units.commons.configurations.cache;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatNoException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.commons.configurations.cache.RateLimitChecker;
 import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.RateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
 import com.buddy.api.commons.exceptions.TooManyRequestsException;
 import com.buddy.api.units.UnitTestAbstract;
 import com.buddy.api.utils.RandomEmailUtils;
-import java.time.Duration;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
 class RateLimitCheckerTest extends UnitTestAbstract {
 
-    private static final String RATE_LIMIT_COUNT_KEY_PREFIX = "rate-limit:count:";
+    private static final String EMAIL_VERIFICATION_LIMIT = "email-verification";
 
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private RateLimiter rateLimiter;
 
     @Mock
     private RateLimitProperties rateLimitProperties;
 
-    @Mock
-    private ValueOperations<String, String> valueOperations;
-
     @InjectMocks
     private RateLimitChecker rateLimitChecker;
 
     private String email;
     private UUID accountId;
-    private String countKey;
 
     @BeforeEach
     void setUp() {
         email = RandomEmailUtils.generateValidEmail();
         accountId = UUID.randomUUID();
-        countKey = RATE_LIMIT_COUNT_KEY_PREFIX + email;
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(rateLimitProperties.maxAttempts()).thenReturn(3);
+        when(rateLimitProperties.windowMinutes()).thenReturn(1);
     }
 
     @Nested
@@ -56,48 +55,34 @@ class RateLimitCheckerTest extends UnitTestAbstract {
     class CheckRateLimitTests {
 
         @Test
-        @DisplayName("Should set expiration on first attempt (count == 1)")
-        void should_set_expiration_on_first_attempt() {
-            when(rateLimitProperties.windowMinutes()).thenReturn(1);
-            when(rateLimitProperties.maxAttempts()).thenReturn(3);
-            when(valueOperations.increment(countKey, 1)).thenReturn(1L);
-            when(redisTemplate.expire(countKey, Duration.ofMinutes(1))).thenReturn(true);
+        @DisplayName("Should acquire a sliding window permit keyed by email")
+        void should_acquire_sliding_window_permit() {
+            final var ruleCaptor = ArgumentCaptor.forClass(RateLimitProperties.Rule.class);
+            when(rateLimiter.tryAcquire(eq(EMAIL_VERIFICATION_LIMIT), any(), eq(email)))
+                .thenReturn(true);
 
             assertThatNoException().isThrownBy(
                 () -> rateLimitChecker.checkRateLimit(email, accountId));
 
-            verify(redisTemplate, times(1)).opsForValue();
-            verify(valueOperations, times(1)).increment(countKey, 1);
-            verify(redisTemplate, times(1)).expire(countKey, Duration.ofMinutes(1));
+            verify(rateLimiter).tryAcquire(eq(EMAIL_VERIFICATION_LIMIT), ruleCaptor.capture(),
+                eq(email));
+            final var rule = ruleCaptor.getValue();
+            assertThat(rule.algorithm()).isEqualTo(RateLimitAlgorithm.SLIDING_WINDOW);
+            assertThat(rule.keyType()).isEqualTo(RateLimitKeyType.EMAIL);
+            assertThat(rule.capacity()).isEqualTo(3);
+            assertThat(rule.windowSeconds()).isEqualTo(60L);
         }
 
         @Test
         @DisplayName("Should throw TooManyRequestsException when rate limit is exceeded")
         void should_throw_too_many_requests_exception_when_limit_exceeded() {
-            when(valueOperations.increment(countKey, 1)).thenReturn(4L);
-            when(rateLimitProperties.maxAttempts()).thenReturn(3);
+            when(rateLimiter.tryAcquire(eq(EMAIL_VERIFICATION_LIMIT), any(), eq(email)))
+                .thenReturn(false);
 
             assertThatThrownBy(() -> rateLimitChecker.checkRateLimit(email, accountId))
                 .isInstanceOf(TooManyRequestsException.class)
                 .hasMessage(
                     "Too many verification requests. Please wait a minute before trying again.");
-
-            verify(redisTemplate, times(1)).opsForValue();
-            verify(valueOperations, times(1)).increment(countKey, 1);
-            verify(redisTemplate, times(0)).expire(countKey, Duration.ofMinutes(1));
-        }
-
-        @Test
-        @DisplayName("Should handle null count from Redis")
-        void should_handle_null_count_from_redis() {
-            when(valueOperations.increment(countKey, 1)).thenReturn(null);
-
-            assertThatNoException().isThrownBy(
-                () -> rateLimitChecker.checkRateLimit(email, accountId));
-
-            verify(redisTemplate, times(1)).opsForValue();
-            verify(valueOperations, times(1)).increment(countKey, 1);
-            verify(redisTemplate, times(0)).expire(countKey, Duration.ofMinutes(1));
         }
     }
-}
\ No newline at end of file
+}
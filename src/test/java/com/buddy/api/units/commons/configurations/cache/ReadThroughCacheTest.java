@@ -0,0 +1,91 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.cache.ReadThroughCache;
+import com.buddy.api.units.UnitTestAbstract;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+class ReadThroughCacheTest extends UnitTestAbstract {
+
+    private static final String KEY = "key";
+    private static final String CACHED = "cached";
+    private static final String LOADED = "loaded";
+
+    @Mock
+    private Cache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should serve a cached value without calling the loader")
+    void should_serve_cached_value() {
+        when(cache.get(KEY, String.class)).thenReturn(CACHED);
+
+        assertThat(ReadThroughCache.get(cache, KEY, String.class, this::load)).isEqualTo(CACHED);
+
+        assertThat(loads).hasValue(0);
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should load and store the value on a miss")
+    void should_load_and_store_on_miss() {
+        assertThat(ReadThroughCache.get(cache, KEY, String.class, this::load)).isEqualTo(LOADED);
+
+        assertThat(loads).hasValue(1);
+        verify(cache).put(KEY, LOADED);
+    }
+
+    @Test
+    @DisplayName("Should load without caching when the cache is not configured")
+    void should_load_when_cache_is_missing() {
+        assertThat(ReadThroughCache.get(null, KEY, String.class, this::load)).isEqualTo(LOADED);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should load from the source when the cache read fails")
+    void should_load_when_cache_read_fails() {
+        when(cache.get(KEY, String.class))
+            .thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        assertThat(ReadThroughCache.get(cache, KEY, String.class, this::load)).isEqualTo(LOADED);
+
+        assertThat(loads).hasValue(1);
+        verify(cache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return the loaded value when the cache write fails")
+    void should_return_loaded_value_when_cache_write_fails() {
+        doThrow(new RedisConnectionFailureException("Redis down"))
+            .when(cache).put(KEY, LOADED);
+
+        assertThat(ReadThroughCache.get(cache, KEY, String.class, this::load)).isEqualTo(LOADED);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return LOADED;
+    }
+}
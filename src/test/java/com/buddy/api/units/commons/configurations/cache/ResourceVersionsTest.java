@@ -0,0 +1,89 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.cache.ResourceVersions;
+import com.buddy.api.commons.configurations.cache.VersionStamp;
+import com.buddy.api.units.UnitTestAbstract;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class ResourceVersionsTest extends UnitTestAbstract {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private ResourceVersions resourceVersions;
+
+    private VersionStamp stamp;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        stamp = new VersionStamp(1_000L, "fingerprint");
+        loads = new AtomicInteger();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Should serve the stored stamp of the current generation without loading")
+    void should_serve_stored_stamp() {
+        when(valueOperations.multiGet(anyList()))
+            .thenReturn(Arrays.asList("2", "2|" + stamp.encode()));
+
+        assertThat(resourceVersions.stamp(ResourceVersions.PETS, this::load)).isEqualTo(stamp);
+
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should load the stamp from the database when Redis is unavailable")
+    void should_load_stamp_when_redis_is_unavailable() {
+        when(valueOperations.multiGet(anyList()))
+            .thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        assertThat(resourceVersions.stamp(ResourceVersions.PETS, this::load)).isEqualTo(stamp);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should report no generation when Redis is unavailable")
+    void should_report_no_generation_when_redis_is_unavailable() {
+        when(valueOperations.get(anyString()))
+            .thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        assertThat(resourceVersions.generation(ResourceVersions.PETS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not fail a committed write when the generation bump fails")
+    void should_swallow_failed_generation_bump() {
+        when(valueOperations.increment(anyString()))
+            .thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        assertThatCode(() -> resourceVersions.bumpAfterCommit(ResourceVersions.PETS))
+            .doesNotThrowAnyException();
+    }
+
+    private VersionStamp load() {
+        loads.incrementAndGet();
+        return stamp;
+    }
+}
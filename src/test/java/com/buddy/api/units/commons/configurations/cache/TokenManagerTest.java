@@ -5,14 +5,22 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.commons.configurations.cache.CacheInitializer;
 import com.buddy.api.commons.configurations.cache.TokenManager;
+import com.buddy.api.commons.configurations.properties.VerificationTokenProperties;
+import com.buddy.api.commons.configurations.security.verification.ConsumedTokenSet;
+import com.buddy.api.commons.configurations.security.verification.SignedVerificationTokenCodec;
+import com.buddy.api.commons.configurations.security.verification.VerificationTokenClaims;
+import com.buddy.api.commons.configurations.security.verification.enums.VerificationTokenMode;
 import com.buddy.api.commons.exceptions.CacheInitializationException;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.units.UnitTestAbstract;
 import com.buddy.api.utils.RandomEmailUtils;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +38,15 @@ class TokenManagerTest extends UnitTestAbstract {
     @Mock
     private Cache verificationTokenCache;
 
+    @Mock
+    private VerificationTokenProperties verificationTokenProperties;
+
+    @Mock
+    private SignedVerificationTokenCodec signedTokenCodec;
+
+    @Mock
+    private ConsumedTokenSet consumedTokens;
+
     @InjectMocks
     private TokenManager tokenManager;
 
@@ -43,6 +60,7 @@ class TokenManagerTest extends UnitTestAbstract {
         accountId = UUID.randomUUID();
         token = UUID.randomUUID().toString();
 
+        when(verificationTokenProperties.mode()).thenReturn(VerificationTokenMode.CACHE);
         when(cacheInitializer.initializeVerificationTokenCache()).thenReturn(
             verificationTokenCache);
 
@@ -56,7 +74,7 @@ class TokenManagerTest extends UnitTestAbstract {
         @Test
         @DisplayName("Should generate and store token")
         void should_generate_and_store_token() {
-            String generatedToken = tokenManager.generateAndStoreToken(userEmail);
+            String generatedToken = tokenManager.generateAndStoreToken(accountId, userEmail);
 
             assertThat(generatedToken).isNotNull();
             verify(verificationTokenCache, times(1)).put(generatedToken, userEmail);
@@ -96,6 +114,71 @@ class TokenManagerTest extends UnitTestAbstract {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for signed token mode")
+    class SignedTokenModeTests {
+
+        @BeforeEach
+        void setUp() {
+            when(verificationTokenProperties.mode()).thenReturn(VerificationTokenMode.SIGNED);
+            tokenManager.init();
+        }
+
+        @Test
+        @DisplayName("Should issue a signed token without touching the cache")
+        void should_issue_signed_token() {
+            when(signedTokenCodec.issue(accountId, userEmail)).thenReturn("payload.signature");
+
+            assertThat(tokenManager.generateAndStoreToken(accountId, userEmail))
+                .isEqualTo("payload.signature");
+
+            verifyNoInteractions(verificationTokenCache);
+        }
+
+        @Test
+        @DisplayName("Should return the email and consume a valid signed token")
+        void should_consume_valid_signed_token() {
+            final var claims = claims(accountId);
+            when(signedTokenCodec.decode(token)).thenReturn(Optional.of(claims));
+            when(consumedTokens.consume(claims.tokenId(), claims.expiresAt())).thenReturn(true);
+
+            assertThat(tokenManager.validateAndGetTokenEmail(token, accountId))
+                .isEqualTo(userEmail);
+
+            tokenManager.evictToken(token);
+            verifyNoInteractions(verificationTokenCache);
+        }
+
+        @Test
+        @DisplayName("Should reject a signed token that was already consumed")
+        void should_reject_consumed_signed_token() {
+            final var claims = claims(accountId);
+            when(signedTokenCodec.decode(token)).thenReturn(Optional.of(claims));
+            when(consumedTokens.consume(claims.tokenId(), claims.expiresAt())).thenReturn(false);
+
+            assertThatThrownBy(() -> tokenManager.validateAndGetTokenEmail(token, accountId))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Invalid or expired verification token");
+        }
+
+        @Test
+        @DisplayName("Should reject a signed token issued for another account")
+        void should_reject_signed_token_for_other_account() {
+            when(signedTokenCodec.decode(token))
+                .thenReturn(Optional.of(claims(UUID.randomUUID())));
+
+            assertThatThrownBy(() -> tokenManager.validateAndGetTokenEmail(token, accountId))
+                .isInstanceOf(NotFoundException.class);
+
+            verifyNoInteractions(consumedTokens);
+        }
+
+        private VerificationTokenClaims claims(final UUID tokenAccountId) {
+            return new VerificationTokenClaims("token-id", tokenAccountId, userEmail,
+                Instant.now().plusSeconds(60));
+        }
+    }
+
     @Test
     @DisplayName("Should initialize cache correctly via CacheInitializer")
     void should_initialize_cache_correctly() {
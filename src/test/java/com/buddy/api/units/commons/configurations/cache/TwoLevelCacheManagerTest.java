@@ -0,0 +1,125 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.cache.TwoLevelCacheManager;
+import com.buddy.api.units.UnitTestAbstract;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TwoLevelCacheManagerTest extends UnitTestAbstract {
+
+    private static final String CACHE_NAME = "terms";
+    private static final String KEY = "active";
+    private static final String VALUE = "terms-v1";
+
+    @Mock
+    private CacheManager remoteManager;
+
+    @Mock
+    private Cache remoteCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new TwoLevelCacheManager(remoteManager, redisTemplate,
+            Map.of(CACHE_NAME, Duration.ofHours(24)), Duration.ofMinutes(10), 100);
+        when(remoteManager.getCache(CACHE_NAME)).thenReturn(remoteCache);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the local tier")
+    void should_serve_repeated_reads_locally() {
+        when(remoteCache.get(KEY, String.class)).thenReturn(VALUE);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        assertThat(cache.get(KEY, String.class)).isEqualTo(VALUE);
+        assertThat(cache.get(KEY, String.class)).isEqualTo(VALUE);
+
+        verify(remoteCache, times(1)).get(KEY, String.class);
+    }
+
+    @Test
+    @DisplayName("Should evict both tiers and broadcast the invalidation")
+    void should_evict_both_tiers_and_broadcast() {
+        when(remoteCache.get(KEY, String.class)).thenReturn(VALUE);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        cache.get(KEY, String.class);
+
+        cache.evict(KEY);
+        cache.get(KEY, String.class);
+
+        verify(remoteCache).evict(KEY);
+        verify(remoteCache, times(2)).get(KEY, String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+            endsWith("|E|" + CACHE_NAME + "|" + KEY));
+    }
+
+    @Test
+    @DisplayName("Should drop the local copy when another node broadcasts an invalidation")
+    void should_drop_local_copy_on_remote_invalidation() {
+        when(remoteCache.get(KEY, String.class)).thenReturn(VALUE);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        cache.get(KEY, String.class);
+
+        cacheManager.onMessage(message("other-node|E|" + CACHE_NAME + "|" + KEY), null);
+        cache.get(KEY, String.class);
+
+        verify(remoteCache, times(2)).get(KEY, String.class);
+    }
+
+    @Test
+    @DisplayName("Should drop every local entry when another node clears the cache")
+    void should_drop_all_local_entries_on_remote_clear() {
+        when(remoteCache.get(KEY, String.class)).thenReturn(VALUE);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        cache.get(KEY, String.class);
+
+        cacheManager.onMessage(message("other-node|C|" + CACHE_NAME + "|"), null);
+        cache.get(KEY, String.class);
+
+        verify(remoteCache, times(2)).get(KEY, String.class);
+    }
+
+    @Test
+    @DisplayName("Should keep its own write when the broadcast echoes back")
+    void should_ignore_own_broadcast() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        cache.put(KEY, VALUE);
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+            published.capture());
+        cacheManager.onMessage(message(published.getValue()), null);
+
+        assertThat(cache.get(KEY, String.class)).isEqualTo(VALUE);
+        verify(remoteCache).put(KEY, VALUE);
+        verify(remoteCache, never()).get(KEY, String.class);
+    }
+
+    private static DefaultMessage message(final String body) {
+        return new DefaultMessage(
+            TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
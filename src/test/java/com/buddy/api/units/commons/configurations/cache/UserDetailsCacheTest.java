@@ -0,0 +1,81 @@
+package com.buddy.api.units.commons.configurations.cache;
+
+import static com.buddy.api.builders.account.AccountBuilder.validAccountDto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.cache.UserDetailsCache;
+import com.buddy.api.domains.authentication.dtos.UserDetailsSnapshot;
+import com.buddy.api.units.UnitTestAbstract;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+class UserDetailsCacheTest extends UnitTestAbstract {
+
+    private static final String EMAIL = "User@Buddy.com";
+    private static final String KEY = "user@buddy.com";
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache sharedCache;
+
+    @InjectMocks
+    private UserDetailsCache userDetailsCache;
+
+    private UserDetailsSnapshot snapshot;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new UserDetailsSnapshot(validAccountDto().build(), List.of(),
+            List.of("ROLE_USER"));
+        loads = new AtomicInteger();
+        when(cacheManager.getCache(UserDetailsCache.CACHE_NAME)).thenReturn(sharedCache);
+    }
+
+    @Test
+    @DisplayName("Should load and cache the snapshot under the normalized email on a miss")
+    void should_load_and_cache_on_miss() {
+        assertThat(userDetailsCache.get(EMAIL, this::load)).isEqualTo(snapshot);
+
+        assertThat(loads).hasValue(1);
+        verify(sharedCache).put(KEY, snapshot);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached snapshot without calling the loader")
+    void should_serve_cached_snapshot() {
+        when(sharedCache.get(KEY, UserDetailsSnapshot.class)).thenReturn(snapshot);
+
+        assertThat(userDetailsCache.get(EMAIL, this::load)).isEqualTo(snapshot);
+
+        assertThat(loads).hasValue(0);
+        verify(sharedCache, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should evict the snapshot under the normalized email")
+    void should_evict_normalized_key() {
+        userDetailsCache.evict(EMAIL);
+
+        verify(sharedCache).evict(KEY);
+    }
+
+    private UserDetailsSnapshot load() {
+        loads.incrementAndGet();
+        return snapshot;
+    }
+}
@@ -0,0 +1,84 @@
+package com.buddy.api.units.commons.configurations.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.LocalRateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalRateLimiterTest {
+
+    private static final RateLimitProperties.Rule RULE = RateLimitProperties.Rule.builder()
+        .algorithm(RateLimitAlgorithm.TOKEN_BUCKET)
+        .keyType(RateLimitKeyType.IP)
+        .capacity(2)
+        .windowSeconds(3600L)
+        .build();
+
+    @Test
+    @DisplayName("Should reject once the local bucket is empty")
+    void should_reject_when_bucket_empty() {
+        final var limiter = new LocalRateLimiter(properties(true));
+
+        assertThat(limiter.tryAcquire("login-ip:10.0.0.1", RULE)).isTrue();
+        assertThat(limiter.tryAcquire("login-ip:10.0.0.1", RULE)).isTrue();
+        assertThat(limiter.tryAcquire("login-ip:10.0.0.1", RULE)).isFalse();
+        assertThat(limiter.tryAcquire("login-ip:10.0.0.2", RULE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should give a refunded token back to the bucket")
+    void should_accept_again_after_refund() {
+        final var limiter = new LocalRateLimiter(properties(true));
+
+        limiter.tryAcquire("login-ip:10.0.0.1", RULE);
+        limiter.tryAcquire("login-ip:10.0.0.1", RULE);
+        limiter.refund("login-ip:10.0.0.1", RULE);
+
+        assertThat(limiter.tryAcquire("login-ip:10.0.0.1", RULE)).isTrue();
+        assertThat(limiter.tryAcquire("login-ip:10.0.0.1", RULE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should leave sliding-window rules to the shared limiter")
+    void should_not_limit_sliding_window_rules_locally() {
+        final var limiter = new LocalRateLimiter(properties(true));
+        final var rule = RateLimitProperties.Rule.builder()
+            .algorithm(RateLimitAlgorithm.SLIDING_WINDOW)
+            .keyType(RateLimitKeyType.EMAIL)
+            .capacity(2)
+            .windowSeconds(300L)
+            .build();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("login-email:user@buddy.com", rule)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should always allow when the local tier is disabled")
+    void should_allow_when_disabled() {
+        final var limiter = new LocalRateLimiter(properties(false));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("login-ip:10.0.0.1", RULE)).isTrue();
+        }
+    }
+
+    private static RateLimitProperties properties(final boolean enabled) {
+        return RateLimitProperties.builder()
+            .maxAttempts(1)
+            .windowMinutes(1)
+            .local(RateLimitProperties.Local.builder()
+                .enabled(enabled)
+                .maxKeys(100L)
+                .idleSeconds(60L)
+                .build())
+            .rules(Map.of())
+            .build();
+    }
+}
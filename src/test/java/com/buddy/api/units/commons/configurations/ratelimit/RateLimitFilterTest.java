@@ -0,0 +1,131 @@
+package com.buddy.api.units.commons.configurations.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.RateLimitFilter;
+import com.buddy.api.commons.configurations.ratelimit.RateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
+import com.buddy.api.commons.exceptions.TooManyRequestsException;
+import com.buddy.api.units.UnitTestAbstract;
+import jakarta.servlet.FilterChain;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+class RateLimitFilterTest extends UnitTestAbstract {
+
+    private static final String LOGIN_URL = "/v1/auth/login";
+    private static final String CLIENT_IP = "10.0.0.1";
+    private static final RateLimitProperties.Rule LOGIN_RULE = RateLimitProperties.Rule.builder()
+        .path(LOGIN_URL)
+        .method("POST")
+        .algorithm(RateLimitAlgorithm.TOKEN_BUCKET)
+        .keyType(RateLimitKeyType.IP)
+        .capacity(5)
+        .windowSeconds(60L)
+        .build();
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private RateLimitFilter rateLimitFilter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(rateLimiter, properties(LOGIN_RULE),
+            handlerExceptionResolver);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Should continue the chain when the route permit is acquired")
+    void should_continue_when_allowed() throws Exception {
+        final var request = request("POST", LOGIN_URL);
+        when(rateLimiter.tryAcquire("login-ip", LOGIN_RULE, CLIENT_IP)).thenReturn(true);
+
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    @Test
+    @DisplayName("Should resolve TooManyRequestsException and stop the chain when limited")
+    void should_reject_when_limited() throws Exception {
+        final var request = request("POST", LOGIN_URL);
+        when(rateLimiter.tryAcquire("login-ip", LOGIN_RULE, CLIENT_IP)).thenReturn(false);
+
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        verify(handlerExceptionResolver).resolveException(eq(request), eq(response), isNull(),
+            any(TooManyRequestsException.class));
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    @DisplayName("Should skip routes that do not match path or method")
+    void should_skip_unmatched_routes() throws Exception {
+        final var otherPath = request("POST", "/v1/auth/refresh");
+        final var otherMethod = request("GET", LOGIN_URL);
+
+        rateLimitFilter.doFilter(otherPath, response, filterChain);
+        rateLimitFilter.doFilter(otherMethod, new MockHttpServletResponse(), filterChain);
+
+        verifyNoInteractions(rateLimiter, handlerExceptionResolver);
+    }
+
+    @Test
+    @DisplayName("Should refuse email keyed rules bound to a path")
+    void should_refuse_email_rule_with_path() {
+        final var emailRule = RateLimitProperties.Rule.builder()
+            .path(LOGIN_URL)
+            .algorithm(RateLimitAlgorithm.SLIDING_WINDOW)
+            .keyType(RateLimitKeyType.EMAIL)
+            .capacity(5)
+            .windowSeconds(60L)
+            .build();
+
+        assertThatThrownBy(() -> new RateLimitFilter(rateLimiter, properties(emailRule),
+            handlerExceptionResolver))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static MockHttpServletRequest request(final String method, final String uri) {
+        final var request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(CLIENT_IP);
+        return request;
+    }
+
+    private static RateLimitProperties properties(final RateLimitProperties.Rule rule) {
+        return RateLimitProperties.builder()
+            .maxAttempts(1)
+            .windowMinutes(1)
+            .local(RateLimitProperties.Local.builder()
+                .enabled(true)
+                .maxKeys(100L)
+                .idleSeconds(60L)
+                .build())
+            .rules(Map.of("login-ip", rule))
+            .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.buddy.api.units.commons.configurations.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.properties.RateLimitProperties;
+import com.buddy.api.commons.configurations.ratelimit.LocalRateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.RateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.RedisRateLimiter;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitAlgorithm;
+import com.buddy.api.commons.configurations.ratelimit.enums.RateLimitKeyType;
+import com.buddy.api.units.UnitTestAbstract;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class RateLimiterTest extends UnitTestAbstract {
+
+    private static final String EMAIL = "user@buddy.com";
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        final var properties = RateLimitProperties.builder()
+            .maxAttempts(1)
+            .windowMinutes(1)
+            .local(RateLimitProperties.Local.builder()
+                .enabled(true)
+                .maxKeys(100L)
+                .idleSeconds(600L)
+                .build())
+            .rules(Map.of())
+            .build();
+        rateLimiter = new RateLimiter(new LocalRateLimiter(properties), redisRateLimiter,
+            properties);
+    }
+
+    @Test
+    @DisplayName("Should accept as soon as the shared sliding window reopens")
+    void should_follow_shared_sliding_window() {
+        final var rule = rule(RateLimitAlgorithm.SLIDING_WINDOW, 10, 300L);
+        when(redisRateLimiter.tryAcquire(anyString(), any()))
+            .thenReturn(true, true, true, true, true, true, true, true, true, true)
+            .thenReturn(false, false, false, false)
+            .thenReturn(true);
+
+        for (int i = 0; i < 14; i++) {
+            rateLimiter.tryAcquire("login-email", rule, EMAIL);
+        }
+
+        assertThat(rateLimiter.tryAcquire("login-email", rule, EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not spend a local token on requests the shared limiter rejects")
+    void should_refund_local_token_when_shared_limiter_rejects() {
+        final var rule = rule(RateLimitAlgorithm.TOKEN_BUCKET, 1, 3600L);
+        when(redisRateLimiter.tryAcquire(anyString(), any())).thenReturn(false, true);
+
+        assertThat(rateLimiter.tryAcquire("login-ip", rule, "10.0.0.1")).isFalse();
+        assertThat(rateLimiter.tryAcquire("login-ip", rule, "10.0.0.1")).isTrue();
+    }
+
+    private static RateLimitProperties.Rule rule(final RateLimitAlgorithm algorithm,
+                                                 final int capacity,
+                                                 final long windowSeconds) {
+        return RateLimitProperties.Rule.builder()
+            .algorithm(algorithm)
+            .keyType(RateLimitKeyType.EMAIL)
+            .capacity(capacity)
+            .windowSeconds(windowSeconds)
+            .build();
+    }
+}
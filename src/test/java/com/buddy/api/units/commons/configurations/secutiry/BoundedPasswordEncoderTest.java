@@ -0,0 +1,105 @@
+package com.buddy.api.units.commons.configurations.secutiry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.buddy.api.commons.configurations.properties.PasswordHashingProperties;
+import com.buddy.api.commons.configurations.security.BoundedPasswordEncoder;
+import com.buddy.api.commons.exceptions.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private static final String RAW_PASSWORD = "Str0ngP@ssword";
+
+    @Test
+    @DisplayName("Should encode and match passwords on the hashing pool and record metrics")
+    void should_encode_and_match_with_metrics() {
+        final var registry = new SimpleMeterRegistry();
+        try (var encoder = new BoundedPasswordEncoder(
+            new BCryptPasswordEncoder(4), properties(2, 4), registry)) {
+
+            final String encoded = encoder.encode(RAW_PASSWORD);
+
+            assertThat(encoder.matches(RAW_PASSWORD, encoded)).isTrue();
+            assertThat(encoder.matches("wrong", encoded)).isFalse();
+            assertThat(registry.get("buddy.password.hashing").tag("operation", "encode")
+                .timer().count()).isEqualTo(1);
+            assertThat(registry.get("buddy.password.hashing").tag("operation", "matches")
+                .timer().count()).isEqualTo(2);
+            assertThat(registry.get("buddy.password.hashing.queue.wait").timer().count())
+                .isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject with 503 exception when pool and queue are full")
+    void should_reject_when_saturated() throws Exception {
+        final var registry = new SimpleMeterRegistry();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final PasswordEncoder blockingDelegate = new BlockingPasswordEncoder(started, release);
+
+        try (var encoder = new BoundedPasswordEncoder(
+            blockingDelegate, properties(1, 1), registry)) {
+            final var running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            final var queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            awaitQueued(registry);
+
+            assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(PasswordHashingUnavailableException.class)
+                .hasMessage("service busy, try again later");
+            assertThat(registry.get("buddy.password.hashing.rejected").counter().count())
+                .isEqualTo(1.0);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-b");
+        }
+    }
+
+    private static void awaitQueued(final SimpleMeterRegistry registry)
+        throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("buddy.password.hashing.queue.size").gauge().value() < 1
+            && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static PasswordHashingProperties properties(final int poolSize,
+                                                        final int queueCapacity) {
+        return PasswordHashingProperties.builder()
+            .poolSize(poolSize)
+            .queueCapacity(queueCapacity)
+            .build();
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release)
+        implements PasswordEncoder {
+
+        @Override
+        public String encode(final CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
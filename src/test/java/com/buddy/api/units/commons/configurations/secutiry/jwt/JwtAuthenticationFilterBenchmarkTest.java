@@ -0,0 +1,140 @@
+package com.buddy.api.units.commons.configurations.secutiry.jwt;
+
+import static org.apache.commons.lang3.RandomStringUtils.secure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.buddy.api.commons.configurations.properties.AuthProperties;
+import com.buddy.api.commons.configurations.security.jwt.JwtAuthenticationFilter;
+import com.buddy.api.commons.configurations.security.jwt.JwtUtil;
+import com.buddy.api.commons.configurations.security.jwt.TokenBlocklistService;
+import com.buddy.api.commons.configurations.security.jwt.VerifiedToken;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.authentication.dtos.AuthenticatedUser;
+import com.buddy.api.domains.authentication.services.ClaimsUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@Slf4j
+@Tag("benchmark")
+@DisplayName("JWT authentication filter throughput")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final String SECRET_KEY = secure().nextAlphanumeric(32);
+    private static final String EMAIL = "benchmark@buddy.com";
+    private static final List<String> PROFILES = List.of("ROLE_USER", "ROLE_SHELTER");
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURED_REQUESTS = 100_000;
+
+    private final AuthProperties properties = AuthProperties.builder()
+        .secretKey(SECRET_KEY)
+        .accessTokenExpiration(3_600_000)
+        .refreshTokenExpiration(3_600_000)
+        .allowedOrigins(List.of())
+        .build();
+
+    @Test
+    @DisplayName("Cached verification should outperform re-parsing the token on every request")
+    void cached_verification_outperforms_per_request_parsing() throws Exception {
+        JwtUtil cached = new JwtUtil(properties);
+        JwtUtil uncached = new PerRequestParsingJwtUtil(properties);
+        String token = cached.generateAccessToken(EMAIL, PROFILES, 0);
+
+        JwtAuthenticationFilter before = filter(uncached);
+        JwtAuthenticationFilter after = filter(cached);
+
+        authenticate(before, token, WARMUP_REQUESTS);
+        authenticate(after, token, WARMUP_REQUESTS);
+
+        double beforeThroughput = throughput(before, token);
+        double afterThroughput = throughput(after, token);
+
+        log.info("Filter throughput before: {} req/s, after: {} req/s ({}x)",
+            Math.round(beforeThroughput), Math.round(afterThroughput),
+            Math.round(afterThroughput / beforeThroughput));
+        assertThat(afterThroughput).isGreaterThan(beforeThroughput);
+    }
+
+    private double throughput(final JwtAuthenticationFilter filter,
+                              final String token) throws Exception {
+        long start = System.nanoTime();
+        authenticate(filter, token, MEASURED_REQUESTS);
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        return MEASURED_REQUESTS * 1_000_000.0 / Math.max(1, elapsedMicros);
+    }
+
+    private void authenticate(final JwtAuthenticationFilter filter,
+                              final String token,
+                              final int requests) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("Authorization", "Bearer " + token);
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static JwtAuthenticationFilter filter(final JwtUtil jwtUtil) {
+        AccountStatusDto status =
+            new AccountStatusDto(UUID.randomUUID(), false, false, true, 0L);
+        ClaimsUserDetailsService claimsUserDetailsService = new ClaimsUserDetailsService() {
+            @Override
+            public UserDetails loadUserFromClaims(final String email,
+                                                  final Collection<String> authorities,
+                                                  final long epoch) {
+                return new AuthenticatedUser(status, email, epoch, authorities.stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .toList());
+            }
+
+            @Override
+            public UserDetails loadUserWithoutCredentials(final String email) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        return new JwtAuthenticationFilter(
+            jwtUtil, claimsUserDetailsService, mock(TokenBlocklistService.class)
+        );
+    }
+
+    private static final class PerRequestParsingJwtUtil extends JwtUtil {
+
+        private final String secretKey;
+
+        PerRequestParsingJwtUtil(final AuthProperties properties) {
+            super(properties);
+            this.secretKey = properties.secretKey();
+        }
+
+        @Override
+        public VerifiedToken verify(final String token) throws JwtException {
+            parse(token);
+            return VerifiedToken.from(parse(token), token);
+        }
+
+        private Claims parse(final String token) {
+            return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.buddy.api.units.commons.configurations.secutiry.jwt;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -12,11 +13,15 @@ import static org.mockito.Mockito.when;
 import com.buddy.api.commons.configurations.security.jwt.JwtAuthenticationFilter;
 import com.buddy.api.commons.configurations.security.jwt.JwtUtil;
 import com.buddy.api.commons.configurations.security.jwt.TokenBlocklistService;
+import com.buddy.api.commons.configurations.security.jwt.VerifiedToken;
+import com.buddy.api.domains.authentication.services.ClaimsUserDetailsService;
 import com.buddy.api.units.UnitTestAbstract;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,13 +31,17 @@ import org.mockito.Mock;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 class JwtAuthenticationFilterTest extends UnitTestAbstract {
 
     private static final String VALID_JWT = "valid.jwt.token";
     private static final String EMAIL_VALUE = "user@example.com";
+    private static final List<String> PROFILES = List.of("ROLE_USER", "SCOPE_VERIFIED");
+    private static final String TOKEN_ID = "token-id";
+    private static final VerifiedToken VERIFIED_TOKEN = new VerifiedToken(
+        TOKEN_ID, EMAIL_VALUE, PROFILES, 0, Instant.now(), Instant.now().plusSeconds(3600)
+    );
 
     @Mock
     private JwtUtil jwtUtil;
@@ -41,7 +50,7 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
     private TokenBlocklistService tokenBlocklistService;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private ClaimsUserDetailsService claimsUserDetailsService;
 
     @Mock
     private HttpServletRequest request;
@@ -67,17 +76,20 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
     @DisplayName("Should authenticate user when JwtUtil extracts a valid token")
     void doFilter_withValidToken_authenticatesUser() throws Exception {
         when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
-        when(jwtUtil.getEmailFromToken(VALID_JWT)).thenReturn(EMAIL_VALUE);
-        when(userDetailsService.loadUserByUsername(EMAIL_VALUE)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(VALID_JWT, EMAIL_VALUE)).thenReturn(true);
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(VERIFIED_TOKEN);
+        when(claimsUserDetailsService.loadUserFromClaims(EMAIL_VALUE, PROFILES, 0L))
+            .thenReturn(userDetails);
+        when(userDetails.isAccountNonLocked()).thenReturn(true);
+        when(userDetails.isEnabled()).thenReturn(true);
+        when(userDetails.isCredentialsNonExpired()).thenReturn(true);
         when(userDetails.getUsername()).thenReturn(EMAIL_VALUE);
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
         verify(jwtUtil, times(1)).extractAccessToken(request);
-        verify(jwtUtil, times(1)).getEmailFromToken(VALID_JWT);
-        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL_VALUE);
-        verify(jwtUtil, times(1)).validateToken(VALID_JWT, EMAIL_VALUE);
+        verify(jwtUtil, times(1)).verify(VALID_JWT);
+        verify(claimsUserDetailsService, times(1)).loadUserFromClaims(EMAIL_VALUE, PROFILES, 0L);
+        verify(jwtUtil, never()).validateToken(any(), any());
         verify(filterChain, times(1)).doFilter(request, response);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication())
@@ -94,7 +106,7 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
         verify(jwtUtil, times(1)).extractAccessToken(request);
-        verify(jwtUtil, never()).getEmailFromToken(any());
+        verify(jwtUtil, never()).verify(any());
         verify(filterChain, times(1)).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
@@ -103,11 +115,13 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
     @DisplayName("Should skip authentication when extracted email is null")
     void doFilter_withNullEmail_skipsAuthentication() throws Exception {
         when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
-        when(jwtUtil.getEmailFromToken(VALID_JWT)).thenReturn(null);
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(
+            new VerifiedToken(TOKEN_ID, null, PROFILES, 0, Instant.now(), Instant.now())
+        );
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
-        verify(userDetailsService, never()).loadUserByUsername(any());
+        verify(claimsUserDetailsService, never()).loadUserFromClaims(any(), any(), anyLong());
         verify(filterChain, times(1)).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
@@ -116,28 +130,62 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
     @DisplayName("Should skip authentication when SecurityContext already has authentication")
     void doFilter_withExistingAuthentication_skipsAuthentication() throws Exception {
         when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
-        when(jwtUtil.getEmailFromToken(VALID_JWT)).thenReturn(EMAIL_VALUE);
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(VERIFIED_TOKEN);
 
         SecurityContextHolder.getContext().setAuthentication(mock(Authentication.class));
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
-        verify(userDetailsService, never()).loadUserByUsername(any());
+        verify(claimsUserDetailsService, never()).loadUserFromClaims(any(), any(), anyLong());
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
     @Test
-    @DisplayName("Should not authenticate when token validation returns false")
-    void doFilter_withInvalidTokenValidation_doesNotAuthenticate() throws Exception {
-        when(userDetails.getUsername()).thenReturn(EMAIL_VALUE);
+    @DisplayName("Should not authenticate when account from claims is blocked")
+    void doFilter_withBlockedAccount_doesNotAuthenticate() throws Exception {
+        when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(VERIFIED_TOKEN);
+        when(claimsUserDetailsService.loadUserFromClaims(EMAIL_VALUE, PROFILES, 0L))
+            .thenReturn(userDetails);
+        when(userDetails.isAccountNonLocked()).thenReturn(false);
+
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(request, response);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not authenticate when account from claims is deleted")
+    void doFilter_withDeletedAccount_doesNotAuthenticate() throws Exception {
+        when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(VERIFIED_TOKEN);
+        when(claimsUserDetailsService.loadUserFromClaims(EMAIL_VALUE, PROFILES, 0L))
+            .thenReturn(userDetails);
+        when(userDetails.isAccountNonLocked()).thenReturn(true);
+        when(userDetails.isEnabled()).thenReturn(false);
+
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(request, response);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not authenticate when token predates the account token epoch")
+    void doFilter_withRevokedEpoch_doesNotAuthenticate() throws Exception {
         when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
-        when(jwtUtil.getEmailFromToken(VALID_JWT)).thenReturn(EMAIL_VALUE);
-        when(userDetailsService.loadUserByUsername(EMAIL_VALUE)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(VALID_JWT, EMAIL_VALUE)).thenReturn(false);
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(VERIFIED_TOKEN);
+        when(claimsUserDetailsService.loadUserFromClaims(EMAIL_VALUE, PROFILES, 0L))
+            .thenReturn(userDetails);
+        when(userDetails.isAccountNonLocked()).thenReturn(true);
+        when(userDetails.isEnabled()).thenReturn(true);
+        when(userDetails.isCredentialsNonExpired()).thenReturn(false);
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
-        verify(jwtUtil, times(1)).validateToken(VALID_JWT, EMAIL_VALUE);
         verify(filterChain, times(1)).doFilter(request, response);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
@@ -147,7 +195,7 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
     @DisplayName("Should handle JwtException gracefully without crashing")
     void doFilter_withJwtException_proceedsWithoutAuthentication() throws Exception {
         when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
-        when(jwtUtil.getEmailFromToken(VALID_JWT)).thenThrow(new JwtException("Expired token"));
+        when(jwtUtil.verify(VALID_JWT)).thenThrow(new JwtException("Expired token"));
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
@@ -159,8 +207,8 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
     @DisplayName("Should handle UsernameNotFoundException gracefully without crashing")
     void doFilter_withUserNotFound_proceedsWithoutAuthentication() throws Exception {
         when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
-        when(jwtUtil.getEmailFromToken(VALID_JWT)).thenReturn(EMAIL_VALUE);
-        when(userDetailsService.loadUserByUsername(EMAIL_VALUE))
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(VERIFIED_TOKEN);
+        when(claimsUserDetailsService.loadUserFromClaims(EMAIL_VALUE, PROFILES, 0L))
             .thenThrow(new UsernameNotFoundException("User deleted"));
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
@@ -189,11 +237,12 @@ class JwtAuthenticationFilterTest extends UnitTestAbstract {
     @DisplayName("Should not authenticate when token is blocked")
     void doFilter_whenTokenBlocked_doesNotAuthenticate() throws Exception {
         when(jwtUtil.extractAccessToken(request)).thenReturn(Optional.of(VALID_JWT));
-        when(tokenBlocklistService.isBlocked(VALID_JWT)).thenReturn(true);
+        when(jwtUtil.verify(VALID_JWT)).thenReturn(VERIFIED_TOKEN);
+        when(tokenBlocklistService.isBlocked(TOKEN_ID)).thenReturn(true);
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
-        verify(jwtUtil, never()).getEmailFromToken(any());
+        verify(claimsUserDetailsService, never()).loadUserFromClaims(any(), any(), anyLong());
         verify(filterChain, times(1)).doFilter(request, response);
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
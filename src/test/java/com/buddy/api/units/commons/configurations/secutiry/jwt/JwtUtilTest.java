@@ -1,11 +1,14 @@
 package com.buddy.api.units.commons.configurations.secutiry.jwt;
 
+import static org.apache.commons.lang3.RandomStringUtils.secure;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.commons.configurations.properties.AuthProperties;
 import com.buddy.api.commons.configurations.security.jwt.JwtUtil;
+import com.buddy.api.commons.configurations.security.jwt.VerifiedToken;
+import com.buddy.api.commons.hashing.Hashes;
 import com.buddy.api.units.UnitTestAbstract;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -49,7 +52,7 @@ class JwtUtilTest extends UnitTestAbstract {
     @Test
     @DisplayName("Should generate access token containing correct subject and profiles")
     void generateAccessToken_validClaims() {
-        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES);
+        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES, 0);
         Claims claims = parseClaims(token);
 
         assertThat(claims.getSubject()).isEqualTo(EMAIL_VALUE);
@@ -60,17 +63,44 @@ class JwtUtilTest extends UnitTestAbstract {
     @Test
     @DisplayName("Should generate refresh token containing correct subject")
     void generateRefreshToken_validSubject() {
-        String token = jwtUtil.generateRefreshToken(EMAIL_VALUE);
+        String token = jwtUtil.generateRefreshToken(EMAIL_VALUE, 0);
         Claims claims = parseClaims(token);
 
         assertThat(claims.getSubject()).isEqualTo(EMAIL_VALUE);
         assertThat(claims.getExpiration()).isAfter(new Date());
     }
 
+    @Test
+    @DisplayName("Should issue tokens with a unique id and the account token epoch")
+    void generateAccessToken_tokenIdAndEpoch() {
+        VerifiedToken first = jwtUtil.verify(jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES, 3));
+        VerifiedToken second = jwtUtil.verify(jwtUtil.generateRefreshToken(EMAIL_VALUE, 3));
+
+        assertThat(first.tokenId()).isNotBlank().isNotEqualTo(second.tokenId());
+        assertThat(first.epoch()).isEqualTo(3);
+        assertThat(second.epoch()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should identify tokens without jti and epoch by their hash and epoch zero")
+    void verify_legacyTokenWithoutIdAndEpoch() {
+        String legacyToken = Jwts.builder()
+            .subject(EMAIL_VALUE)
+            .claim("profiles", PROFILES)
+            .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
+            .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+        VerifiedToken verifiedToken = jwtUtil.verify(legacyToken);
+
+        assertThat(verifiedToken.tokenId()).isEqualTo(Hashes.sha256Hex(legacyToken));
+        assertThat(verifiedToken.epoch()).isZero();
+    }
+
     @Test
     @DisplayName("Should extract email from a valid token")
     void getEmailFromToken_validToken() {
-        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES);
+        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES, 0);
         String extracted = jwtUtil.getEmailFromToken(token);
 
         assertThat(extracted).isEqualTo(EMAIL_VALUE);
@@ -83,6 +113,34 @@ class JwtUtilTest extends UnitTestAbstract {
             .isInstanceOf(JwtException.class);
     }
 
+    @Test
+    @DisplayName("Should verify a token once and reuse the verified claims")
+    void verify_reusesVerifiedClaims() {
+        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES, 0);
+
+        VerifiedToken first = jwtUtil.verify(token);
+        VerifiedToken second = jwtUtil.verify(token);
+
+        assertThat(first.subject()).isEqualTo(EMAIL_VALUE);
+        assertThat(first.profiles()).containsExactlyElementsOf(PROFILES);
+        assertThat(first.expiresAt()).isAfter(first.issuedAt());
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void verify_foreignSignature() {
+        String foreignToken = Jwts.builder()
+            .subject(EMAIL_VALUE)
+            .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
+            .signWith(Keys.hmacShaKeyFor(
+                secure().nextAlphanumeric(32).getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+        assertThatThrownBy(() -> jwtUtil.verify(foreignToken))
+            .isInstanceOf(JwtException.class);
+    }
+
     @Test
     @DisplayName("Should throw JwtException when token lacks expiration claim")
     void getExpirationFromToken_missingExpiration() {
@@ -99,14 +157,14 @@ class JwtUtilTest extends UnitTestAbstract {
     @Test
     @DisplayName("Should validate token when it matches username and is not expired")
     void validateToken_valid() {
-        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES);
+        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES, 0);
         assertThat(jwtUtil.validateToken(token, EMAIL_VALUE)).isTrue();
     }
 
     @Test
     @DisplayName("Should return false when token does not match username")
     void validateToken_wrongSubject() {
-        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES);
+        String token = jwtUtil.generateAccessToken(EMAIL_VALUE, PROFILES, 0);
         assertThat(jwtUtil.validateToken(token, "wrong@example.com")).isFalse();
     }
 
@@ -120,7 +178,7 @@ class JwtUtilTest extends UnitTestAbstract {
             .allowedOrigins(List.of())
             .build();
         JwtUtil shortJwt = new JwtUtil(shortProps);
-        String token = shortJwt.generateAccessToken(EMAIL_VALUE, PROFILES);
+        String token = shortJwt.generateAccessToken(EMAIL_VALUE, PROFILES, 0);
 
         Thread.sleep(10);
 
@@ -1,31 +1,43 @@
 package com.buddy.api.units.commons.configurations.secutiry.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.commons.configurations.security.jwt.TokenBlocklistService;
 import com.buddy.api.units.UnitTestAbstract;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 class TokenBlocklistServiceTest extends UnitTestAbstract {
 
+    private static final String TOKEN_ID = "0b6a2c1e-5d3f-4f7a-9a61-2f0c8e3d4b15";
+
     @Mock
     private StringRedisTemplate redisTemplate;
 
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
     @InjectMocks
     private TokenBlocklistService tokenBlocklistService;
 
@@ -34,18 +46,20 @@ class TokenBlocklistServiceTest extends UnitTestAbstract {
     void blockToken_positiveExpiration() {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
-        tokenBlocklistService.blockToken("test.jwt", 3600);
+        tokenBlocklistService.blockToken(TOKEN_ID, 3600);
 
         verify(redisTemplate).opsForValue();
-        verify(valueOperations).set("jwt:blocklist:" + hashToken("test.jwt"), "blocked",
+        verify(valueOperations).set("jwt:blocklist:" + TOKEN_ID, "blocked",
             Duration.ofSeconds(3600));
+        verify(redisTemplate).convertAndSend(TokenBlocklistService.REVOCATION_CHANNEL,
+            TOKEN_ID);
     }
 
     @Test
     @DisplayName("Should not block token when expiration is zero or negative")
     void blockToken_negativeOrZeroExpiration() {
-        tokenBlocklistService.blockToken("test.jwt", 0);
-        tokenBlocklistService.blockToken("test.jwt", -10);
+        tokenBlocklistService.blockToken(TOKEN_ID, 0);
+        tokenBlocklistService.blockToken(TOKEN_ID, -10);
 
         verify(redisTemplate, never()).opsForValue();
     }
@@ -53,10 +67,10 @@ class TokenBlocklistServiceTest extends UnitTestAbstract {
     @Test
     @DisplayName("Should return true when token is in blocklist")
     void isBlocked_true() {
-        when(redisTemplate.hasKey("jwt:blocklist:" + hashToken("test.jwt"))).thenReturn(
+        when(redisTemplate.hasKey("jwt:blocklist:" + TOKEN_ID)).thenReturn(
             Boolean.TRUE);
 
-        boolean result = tokenBlocklistService.isBlocked("test.jwt");
+        boolean result = tokenBlocklistService.isBlocked(TOKEN_ID);
 
         assertThat(result).isTrue();
     }
@@ -64,10 +78,10 @@ class TokenBlocklistServiceTest extends UnitTestAbstract {
     @Test
     @DisplayName("Should return false when token is not in blocklist")
     void isBlocked_false() {
-        when(redisTemplate.hasKey("jwt:blocklist:" + hashToken("test.jwt"))).thenReturn(
+        when(redisTemplate.hasKey("jwt:blocklist:" + TOKEN_ID)).thenReturn(
             Boolean.FALSE);
 
-        boolean result = tokenBlocklistService.isBlocked("test.jwt");
+        boolean result = tokenBlocklistService.isBlocked(TOKEN_ID);
 
         assertThat(result).isFalse();
     }
@@ -75,28 +89,96 @@ class TokenBlocklistServiceTest extends UnitTestAbstract {
     @Test
     @DisplayName("Should return false when hasKey returns null")
     void isBlocked_null() {
-        when(redisTemplate.hasKey("jwt:blocklist:" + hashToken("test.jwt"))).thenReturn(null);
+        when(redisTemplate.hasKey("jwt:blocklist:" + TOKEN_ID)).thenReturn(null);
+
+        boolean result = tokenBlocklistService.isBlocked(TOKEN_ID);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should subscribe to the revocation channel")
+    void subscribe_registersListener() {
+        tokenBlocklistService.subscribe();
 
-        boolean result = tokenBlocklistService.isBlocked("test.jwt");
+        verify(listenerContainer).addMessageListener(tokenBlocklistService,
+            new ChannelTopic(TokenBlocklistService.REVOCATION_CHANNEL));
+    }
+
+    @Test
+    @DisplayName("Should answer from the local filter without Redis when token was never revoked")
+    void isBlocked_filterMiss_skipsRedis() {
+        rebuildWithNoRevokedTokens();
+
+        boolean result = tokenBlocklistService.isBlocked(TOKEN_ID);
 
         assertThat(result).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
     }
 
-    private String hashToken(final String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder(2 * hashBytes.length);
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
+    @Test
+    @DisplayName("Should confirm in Redis when a token revoked locally is checked")
+    void isBlocked_afterLocalBlock_confirmsInRedis() {
+        rebuildWithNoRevokedTokens();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey("jwt:blocklist:" + TOKEN_ID)).thenReturn(
+            Boolean.TRUE);
+
+        tokenBlocklistService.blockToken(TOKEN_ID, 3600);
+
+        assertThat(tokenBlocklistService.isBlocked(TOKEN_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should confirm in Redis when another instance published the revocation")
+    void isBlocked_afterRevocationMessage_confirmsInRedis() {
+        rebuildWithNoRevokedTokens();
+        when(redisTemplate.hasKey("jwt:blocklist:" + TOKEN_ID)).thenReturn(
+            Boolean.TRUE);
+
+        tokenBlocklistService.onMessage(new DefaultMessage(
+            TokenBlocklistService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            TOKEN_ID.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(tokenBlocklistService.isBlocked(TOKEN_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not treat tokens as revoked when another token id was published")
+    void onMessage_otherToken_doesNotBlock() {
+        rebuildWithNoRevokedTokens();
+
+        tokenBlocklistService.onMessage(new DefaultMessage(
+            TokenBlocklistService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "other-token-id".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(tokenBlocklistService.isBlocked(TOKEN_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should rebuild the local filter when the revocation channel is resubscribed")
+    @SuppressWarnings("unchecked")
+    void onChannelSubscribed_rebuildsFilter() {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("jwt:blocklist:" + TOKEN_ID);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        tokenBlocklistService.onChannelSubscribed(
+            TokenBlocklistService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        verify(redisTemplate, timeout(1_000)).scan(any(ScanOptions.class));
+        verify(cursor, timeout(1_000)).close();
+        assertThat(tokenBlocklistService.isBlocked("other-token-id")).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuildWithNoRevokedTokens() {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(false);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        tokenBlocklistService.rebuild();
     }
 }
@@ -0,0 +1,82 @@
+package com.buddy.api.units.commons.configurations.secutiry.verification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.buddy.api.commons.configurations.properties.VerificationTokenProperties;
+import com.buddy.api.commons.configurations.security.verification.SignedVerificationTokenCodec;
+import com.buddy.api.commons.configurations.security.verification.enums.VerificationTokenMode;
+import com.buddy.api.utils.RandomEmailUtils;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SignedVerificationTokenCodecTest {
+
+    private static final String SECRET = "TestVerificationSecretWithAtLeast32Chars";
+
+    private final SignedVerificationTokenCodec codec = codec(SECRET);
+
+    @Test
+    @DisplayName("Should decode the account, email and expiry of an issued token")
+    void should_round_trip_issued_token() {
+        final var accountId = UUID.randomUUID();
+        final var email = RandomEmailUtils.generateValidEmail();
+
+        final var claims = codec.decode(codec.issue(accountId, email));
+
+        assertThat(claims).hasValueSatisfying(value -> {
+            assertThat(value.accountId()).isEqualTo(accountId);
+            assertThat(value.email()).isEqualTo(email);
+            assertThat(value.expiresAt()).isAfter(Instant.now().plus(Duration.ofMinutes(14)));
+            assertThat(value.tokenId()).hasSize(16);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject a token whose payload was tampered with")
+    void should_reject_tampered_token() {
+        final var token = codec.issue(UUID.randomUUID(), RandomEmailUtils.generateValidEmail());
+        final var forged = codec.issue(UUID.randomUUID(), "attacker@buddy.com");
+        final var tampered = forged.substring(0, forged.indexOf('.'))
+            + token.substring(token.indexOf('.'));
+
+        assertThat(codec.decode(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another secret")
+    void should_reject_token_signed_with_other_secret() {
+        final var other = codec("AnotherVerificationSecretOfAtLeast32Chars");
+
+        final var token = other.issue(UUID.randomUUID(), RandomEmailUtils.generateValidEmail());
+
+        assertThat(codec.decode(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void should_reject_expired_token() {
+        final var token = codec.issue(UUID.randomUUID(), RandomEmailUtils.generateValidEmail(),
+            Instant.now().minus(Duration.ofMinutes(16)));
+
+        assertThat(codec.decode(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed and legacy UUID tokens")
+    void should_reject_malformed_tokens() {
+        assertThat(codec.decode(UUID.randomUUID().toString())).isEmpty();
+        assertThat(codec.decode("not-base64!.sig")).isEmpty();
+        assertThat(codec.decode(".")).isEmpty();
+    }
+
+    private static SignedVerificationTokenCodec codec(final String secret) {
+        return new SignedVerificationTokenCodec(VerificationTokenProperties.builder()
+            .mode(VerificationTokenMode.SIGNED)
+            .secretKey(secret)
+            .ttlMinutes(15L)
+            .build());
+    }
+}
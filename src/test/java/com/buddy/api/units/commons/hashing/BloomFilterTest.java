@@ -0,0 +1,57 @@
+package com.buddy.api.units.commons.hashing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.buddy.api.commons.configurations.security.jwt.TokenBlocklistService;
+import com.buddy.api.commons.hashing.BloomFilter;
+import com.buddy.api.commons.hashing.Hashes;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+class BloomFilterTest {
+
+    private static final int PROBES = 1_000_000;
+
+    @Test
+    @DisplayName("Should never report an inserted digest as absent")
+    void should_not_return_false_negatives() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        IntStream.range(0, 1_000).forEach(i -> filter.put(Hashes.sha256("revoked-" + i)));
+
+        assertThat(IntStream.range(0, 1_000)
+            .allMatch(i -> filter.mightContain(Hashes.sha256("revoked-" + i)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the measured false positive rate close to the blocklist target")
+    void should_keep_false_positive_rate_near_target() {
+        BloomFilter filter = BloomFilter.create(
+            TokenBlocklistService.EXPECTED_REVOCATIONS, TokenBlocklistService.FALSE_POSITIVE_RATE);
+        for (long i = 0; i < TokenBlocklistService.EXPECTED_REVOCATIONS; i++) {
+            filter.put(Hashes.sha256("revoked-" + i));
+        }
+
+        long falsePositives = IntStream.range(0, PROBES)
+            .filter(i -> filter.mightContain(Hashes.sha256("active-" + i)))
+            .count();
+        double measuredRate = (double) falsePositives / PROBES;
+
+        log.info("Bloom filter with {} bits and {} hashes: {} false positives in {} probes ({})",
+            filter.bitCount(), filter.hashCount(), falsePositives, PROBES, measuredRate);
+        assertThat(measuredRate).isLessThan(2 * TokenBlocklistService.FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    @DisplayName("Should reject digests shorter than two longs")
+    void should_reject_short_digests() {
+        BloomFilter filter = BloomFilter.create(10, 0.01);
+
+        assertThatThrownBy(() -> filter.put(new byte[8]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
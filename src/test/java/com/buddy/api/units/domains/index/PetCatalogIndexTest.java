@@ -0,0 +1,144 @@
+package com.buddy.api.units.domains.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+import com.buddy.api.domains.pet.dtos.PetSearchCriteriaDto;
+import com.buddy.api.domains.pet.dtos.PetSearchPageDto;
+import com.buddy.api.domains.pet.index.PetCatalogIndex;
+import com.buddy.api.domains.pet.mappers.PetDomainMapper;
+import com.buddy.api.domains.pet.repositories.PetRepository;
+import com.buddy.api.units.UnitTestAbstract;
+import com.buddy.api.web.pets.requests.PetSearchCriteriaRequest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PetCatalogIndexTest extends UnitTestAbstract {
+
+    private static final Pageable NEWEST_FIRST =
+        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"));
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private PetRepository petRepository;
+
+    @Mock
+    private PetDomainMapper mapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PetCatalogIndex petCatalogIndex;
+
+    private PetSearchCriteriaDto oldDog;
+    private PetSearchCriteriaDto heavyDog;
+    private PetSearchCriteriaDto puppyCat;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(List.of()).when(petRepository).findBy(any(Specification.class), any());
+        petCatalogIndex.load();
+
+        oldDog = pet("Cão", "Macho", 4.0, LocalDate.now().minusYears(12));
+        heavyDog = pet("Cão", "Fêmea", 35.0, LocalDate.now().minusYears(4));
+        puppyCat = pet("Gato", "Fêmea", null, LocalDate.now().minusMonths(2));
+
+        petCatalogIndex.append(oldDog, NOW.minusMinutes(3));
+        petCatalogIndex.append(heavyDog, NOW.minusMinutes(2));
+        petCatalogIndex.append(puppyCat, NOW.minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should intersect bitmaps and return newest pets first")
+    void should_filter_by_bitmaps_newest_first() {
+        assertThat(search(criteria().species("Cão").build(), NEWEST_FIRST))
+            .containsExactly(heavyDog, oldDog);
+        assertThat(search(criteria().gender("Fêmea").build(), NEWEST_FIRST))
+            .containsExactly(puppyCat, heavyDog);
+        assertThat(search(criteria().weightRange("30+ kg").build(), NEWEST_FIRST))
+            .containsExactly(heavyDog);
+        assertThat(search(criteria().ageRange("10+ anos").build(), NEWEST_FIRST))
+            .containsExactly(oldDog);
+        assertThat(search(criteria().id(puppyCat.id()).build(), NEWEST_FIRST))
+            .containsExactly(puppyCat);
+    }
+
+    @Test
+    @DisplayName("Should paginate and report the total number of matches")
+    void should_paginate_and_count_matches() {
+        PetSearchPageDto page = petCatalogIndex
+            .search(criteria().build(), PageRequest.of(1, 2, NEWEST_FIRST.getSort()))
+            .orElseThrow();
+
+        assertThat(page.totalElements()).isEqualTo(3);
+        assertThat(page.content()).containsExactly(oldDog);
+    }
+
+    @Test
+    @DisplayName("Should sort by weight placing missing weights last when ascending")
+    void should_sort_by_weight() {
+        assertThat(search(criteria().build(), PageRequest.of(0, 10, Sort.by("weight"))))
+            .containsExactly(oldDog, heavyDog, puppyCat);
+    }
+
+    @Test
+    @DisplayName("Should not answer text searches or unknown sorts")
+    void should_fall_back_when_request_is_not_supported() {
+        assertThat(petCatalogIndex.search(criteria().name("Rex").build(), NEWEST_FIRST))
+            .isEmpty();
+        assertThat(petCatalogIndex.search(criteria().build(),
+            PageRequest.of(0, 10, Sort.by("name")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown enum descriptions like the JPA search")
+    void should_reject_unknown_species() {
+        PetSearchCriteriaRequest criteria = criteria().species("dragon").build();
+
+        assertThatThrownBy(() -> petCatalogIndex.search(criteria, NEWEST_FIRST))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should ignore a pet that is already indexed")
+    void should_ignore_duplicate_pet() {
+        petCatalogIndex.append(oldDog, NOW);
+
+        assertThat(search(criteria().build(), NEWEST_FIRST)).hasSize(3);
+    }
+
+    private List<PetSearchCriteriaDto> search(final PetSearchCriteriaRequest criteria,
+                                              final Pageable pageable) {
+        Optional<PetSearchPageDto> page = petCatalogIndex.search(criteria, pageable);
+        assertThat(page).isPresent();
+        return page.get().content();
+    }
+
+    private static PetSearchCriteriaRequest.PetSearchCriteriaRequestBuilder criteria() {
+        return PetSearchCriteriaRequest.builder();
+    }
+
+    private static PetSearchCriteriaDto pet(final String specie,
+                                            final String gender,
+                                            final Double weight,
+                                            final LocalDate birthDate) {
+        return new PetSearchCriteriaDto(UUID.randomUUID(), UUID.randomUUID(), "Pet", null,
+            specie, gender, birthDate, "Maceió", weight, null, null, List.of());
+    }
+}
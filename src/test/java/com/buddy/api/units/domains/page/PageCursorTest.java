@@ -0,0 +1,44 @@
+package com.buddy.api.units.domains.page;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.buddy.api.commons.page.PageCursor;
+import com.buddy.api.units.UnitTestAbstract;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest extends UnitTestAbstract {
+
+    @Test
+    @DisplayName("Should decode the same createDate and id that were encoded")
+    void should_round_trip_cursor() {
+        PageCursor cursor = new PageCursor(
+            LocalDateTime.of(2026, 1, 12, 10, 30, 15, 123456000),
+            UUID.randomUUID()
+        );
+
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should produce an url-safe token without padding")
+    void should_produce_url_safe_token() {
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), UUID.randomUUID());
+
+        assertThat(cursor.encode()).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor tokens")
+    void should_reject_malformed_cursor() {
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode("%%%"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,7 +3,9 @@ package com.buddy.api.units.domains.services.impl;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,17 +13,24 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.buddy.api.builders.account.AccountBuilder;
 import com.buddy.api.builders.profile.ProfileBuilder;
+import com.buddy.api.commons.configurations.ratelimit.RateLimiter;
 import com.buddy.api.commons.configurations.security.jwt.JwtUtil;
 import com.buddy.api.commons.configurations.security.jwt.TokenBlocklistService;
+import com.buddy.api.commons.configurations.security.jwt.VerifiedToken;
 import com.buddy.api.commons.exceptions.AccountBlockedException;
 import com.buddy.api.commons.exceptions.AccountNotVerifiedException;
 import com.buddy.api.commons.exceptions.AuthenticationException;
+import com.buddy.api.commons.exceptions.PasswordHashingUnavailableException;
+import com.buddy.api.commons.exceptions.TooManyRequestsException;
 import com.buddy.api.domains.account.services.UpdateAccount;
 import com.buddy.api.domains.authentication.dtos.AuthDto;
+import com.buddy.api.domains.authentication.dtos.AuthenticatedUser;
+import com.buddy.api.domains.authentication.services.ClaimsUserDetailsService;
 import com.buddy.api.domains.authentication.services.impl.AuthServiceImpl;
 import com.buddy.api.domains.profile.enums.ProfileTypeEnum;
-import com.buddy.api.domains.profile.services.FindProfile;
+import com.buddy.api.domains.valueobjects.EmailAddress;
 import com.buddy.api.units.UnitTestAbstract;
 import com.buddy.api.utils.RandomEmailUtils;
 import io.jsonwebtoken.JwtException;
@@ -40,23 +49,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 
 class AuthServiceTest extends UnitTestAbstract {
-    @Mock
-    private AuthenticationManager authenticationManager;
+    private static final String TOKEN_ID = UUID.randomUUID().toString();
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private AuthenticationManager authenticationManager;
 
     @Mock
-    private FindProfile findProfile;
+    private ClaimsUserDetailsService userDetailsService;
 
     @Mock
     private JwtUtil jwtUtil;
@@ -74,6 +82,9 @@ class AuthServiceTest extends UnitTestAbstract {
     private Authentication authResult;
 
 
+    @Mock
+    private RateLimiter rateLimiter;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -85,11 +96,6 @@ class AuthServiceTest extends UnitTestAbstract {
             .password(RandomStringUtils.secure().nextAlphanumeric(10))
             .build();
 
-        final var userDetails = new User(
-            authDto.email(),
-            authDto.password(),
-            List.of(new SimpleGrantedAuthority(ProfileTypeEnum.USER.name())));
-
         final var activeProfile = ProfileBuilder.profileDto().isDeleted(false).build();
         final var adminProfile =
             ProfileBuilder.profileDto().profileType(ProfileTypeEnum.ADMIN).isDeleted(false).build();
@@ -97,19 +103,29 @@ class AuthServiceTest extends UnitTestAbstract {
             ProfileBuilder.profileDto().profileType(ProfileTypeEnum.ADMIN).isDeleted(true).build();
         final var profiles = List.of(activeProfile, adminProfile, deletedProfile);
 
+        final var account = AccountBuilder.validAccountDto()
+            .accountId(UUID.randomUUID())
+            .email(new EmailAddress(authDto.email()))
+            .isBlocked(false)
+            .isDeleted(false)
+            .build();
+        final var userDetails = new AuthenticatedUser(
+            account,
+            profiles,
+            List.of(new SimpleGrantedAuthority(ProfileTypeEnum.USER.name())));
+
         when(authResult.getPrincipal()).thenReturn(userDetails);
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
             .thenReturn(authResult);
 
-        when(findProfile.findByAccountEmail(authDto.email())).thenReturn(profiles);
-
         when(jwtUtil.generateAccessToken(
             authDto.email(),
-            List.of(ProfileTypeEnum.USER.name()))
+            List.of(ProfileTypeEnum.USER.name()),
+            0L)
         ).thenReturn(ACCESS_TOKEN);
 
-        when(jwtUtil.generateRefreshToken(authDto.email())).thenReturn(REFRESH_TOKEN);
+        when(jwtUtil.generateRefreshToken(authDto.email(), 0L)).thenReturn(REFRESH_TOKEN);
 
         AuthDto result = authService.authenticate(authDto);
 
@@ -122,16 +138,13 @@ class AuthServiceTest extends UnitTestAbstract {
         assertThat(result.refreshToken()).isEqualTo(REFRESH_TOKEN);
 
         verify(updateAccount, times(1))
-            .updateLastLogin(eq(authDto.email()), any(LocalDateTime.class));
-
-        verify(findProfile, times(1))
-            .findByAccountEmail(authDto.email());
+            .recordLastLogin(eq(account.accountId()), any(LocalDateTime.class));
 
         verify(jwtUtil, times(1))
-            .generateAccessToken(authDto.email(), List.of(ProfileTypeEnum.USER.name()));
+            .generateAccessToken(authDto.email(), List.of(ProfileTypeEnum.USER.name()), 0L);
 
         verify(jwtUtil, times(1))
-            .generateRefreshToken(authDto.email());
+            .generateRefreshToken(authDto.email(), 0L);
     }
 
     @Test
@@ -145,11 +158,10 @@ class AuthServiceTest extends UnitTestAbstract {
         );
 
         when(jwtUtil.extractRefreshToken(request)).thenReturn(Optional.of(REFRESH_TOKEN));
-        when(blocklistService.isBlocked(REFRESH_TOKEN)).thenReturn(false);
-        when(jwtUtil.getEmailFromToken(REFRESH_TOKEN)).thenReturn(email);
-        when(userDetailsService.loadUserByUsername(email)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(REFRESH_TOKEN, email)).thenReturn(true);
-        when(jwtUtil.generateAccessToken(email, List.of(ProfileTypeEnum.USER.name())))
+        when(jwtUtil.verify(REFRESH_TOKEN)).thenReturn(verifiedToken(email, 0));
+        when(blocklistService.isBlocked(TOKEN_ID)).thenReturn(false);
+        when(userDetailsService.loadUserWithoutCredentials(email)).thenReturn(userDetails);
+        when(jwtUtil.generateAccessToken(email, List.of(ProfileTypeEnum.USER.name()), 0L))
             .thenReturn(ACCESS_TOKEN);
 
         AuthDto result = authService.refreshToken(request);
@@ -162,13 +174,12 @@ class AuthServiceTest extends UnitTestAbstract {
         assertThat(result.refreshToken()).isEqualTo(REFRESH_TOKEN);
 
         verify(jwtUtil, times(1)).extractRefreshToken(request);
-        verify(jwtUtil, times(1)).getEmailFromToken(REFRESH_TOKEN);
-        verify(userDetailsService, times(1)).loadUserByUsername(email);
-        verify(jwtUtil, times(1)).validateToken(REFRESH_TOKEN, email);
+        verify(jwtUtil, times(1)).verify(REFRESH_TOKEN);
+        verify(userDetailsService, times(1)).loadUserWithoutCredentials(email);
         verify(jwtUtil, times(1))
-            .generateAccessToken(email, List.of(ProfileTypeEnum.USER.name()));
+            .generateAccessToken(email, List.of(ProfileTypeEnum.USER.name()), 0L);
         verify(updateAccount, times(0))
-            .updateLastLogin(any(String.class), any(LocalDateTime.class));
+            .recordLastLogin(any(UUID.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -181,39 +192,40 @@ class AuthServiceTest extends UnitTestAbstract {
             .hasMessage("Refresh token is required");
 
         verify(jwtUtil, times(1)).extractRefreshToken(request);
-        verify(jwtUtil, never()).getEmailFromToken(any());
-        verify(userDetailsService, never()).loadUserByUsername(any());
-        verify(jwtUtil, never()).validateToken(any(), any());
-        verify(jwtUtil, never()).generateAccessToken(any(), any());
-        verify(updateAccount, never()).updateLastLogin(any(), any());
+        verify(jwtUtil, never()).verify(any());
+        verify(userDetailsService, never()).loadUserWithoutCredentials(any());
+        verify(jwtUtil, never()).generateAccessToken(any(), any(), anyLong());
+        verify(updateAccount, never()).recordLastLogin(any(), any());
     }
 
     @Test
-    @DisplayName("Should throw IllegalArgumentException when refresh token is invalid")
-    void should_throw_exception_when_refresh_token_invalid() {
+    @DisplayName("Should throw AuthenticationException when refresh token predates a revocation")
+    void should_throw_exception_when_refresh_token_epoch_revoked() {
         var email = RandomEmailUtils.generateValidEmail();
-        UserDetails userDetails = new User(
-            email,
-            RandomStringUtils.secure().nextAlphanumeric(10),
+        UserDetails userDetails = new AuthenticatedUser(
+            AccountBuilder.validAccountDto()
+                .isBlocked(false)
+                .isDeleted(false)
+                .tokenEpoch(1L)
+                .build(),
+            List.of(),
             List.of(new SimpleGrantedAuthority(ProfileTypeEnum.USER.name()))
         );
 
         when(jwtUtil.extractRefreshToken(request)).thenReturn(Optional.of(REFRESH_TOKEN));
-        when(blocklistService.isBlocked(REFRESH_TOKEN)).thenReturn(false);
-        when(jwtUtil.getEmailFromToken(REFRESH_TOKEN)).thenReturn(email);
-        when(userDetailsService.loadUserByUsername(email)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(REFRESH_TOKEN, email)).thenReturn(false);
+        when(jwtUtil.verify(REFRESH_TOKEN)).thenReturn(verifiedToken(email, 0));
+        when(blocklistService.isBlocked(TOKEN_ID)).thenReturn(false);
+        when(userDetailsService.loadUserWithoutCredentials(email)).thenReturn(userDetails);
 
         assertThatThrownBy(() -> authService.refreshToken(request))
             .isInstanceOf(AuthenticationException.class)
             .hasMessage("Invalid refresh token");
 
         verify(jwtUtil, times(1)).extractRefreshToken(request);
-        verify(jwtUtil, times(1)).getEmailFromToken(REFRESH_TOKEN);
-        verify(userDetailsService, times(1)).loadUserByUsername(email);
-        verify(jwtUtil, times(1)).validateToken(REFRESH_TOKEN, email);
-        verify(jwtUtil, never()).generateAccessToken(any(), any());
-        verify(updateAccount, never()).updateLastLogin(any(), any());
+        verify(jwtUtil, times(1)).verify(REFRESH_TOKEN);
+        verify(userDetailsService, times(1)).loadUserWithoutCredentials(email);
+        verify(jwtUtil, never()).generateAccessToken(any(), any(), anyLong());
+        verify(updateAccount, never()).recordLastLogin(any(), any());
     }
 
     @Test
@@ -252,6 +264,90 @@ class AuthServiceTest extends UnitTestAbstract {
             .hasMessage("account blocked contact support");
     }
 
+    @Test
+    @DisplayName("Should reject login before authenticating when email rate limit is exceeded")
+    void should_reject_login_when_rate_limited() {
+        final var authDto = AuthDto.builder()
+            .email(RandomEmailUtils.generateValidEmail())
+            .password(UUID.randomUUID().toString())
+            .build();
+
+        doThrow(new TooManyRequestsException("limited"))
+            .when(rateLimiter).check(eq("login-email"),
+                eq(new EmailAddress(authDto.email()).value()), any());
+
+        assertThatThrownBy(() -> authService.authenticate(authDto))
+            .isInstanceOf(TooManyRequestsException.class);
+        verifyNoInteractions(authenticationManager, jwtUtil, updateAccount);
+    }
+
+    @Test
+    @DisplayName("Should count mixed-case variants of an email against the same login limit")
+    void should_share_login_limit_across_email_case_variants() {
+        doThrow(new TooManyRequestsException("limited"))
+            .when(rateLimiter).check(eq("login-email"), eq("user@buddy.com"), any());
+
+        List.of("User@Buddy.com", "USER@BUDDY.COM", "user@buddy.com").forEach(email ->
+            assertThatThrownBy(() -> authService.authenticate(AuthDto.builder()
+                .email(email)
+                .password(UUID.randomUUID().toString())
+                .build()))
+                .isInstanceOf(TooManyRequestsException.class));
+
+        verify(rateLimiter, times(3)).check(eq("login-email"), eq("user@buddy.com"), any());
+        verifyNoInteractions(authenticationManager, jwtUtil, updateAccount);
+    }
+
+    @Test
+    @DisplayName("Should propagate PasswordHashingUnavailableException when hashing is saturated")
+    void should_propagate_hashing_unavailable() {
+        final var authDto = AuthDto.builder()
+            .email(RandomEmailUtils.generateValidEmail())
+            .password(UUID.randomUUID().toString())
+            .build();
+
+        when(authenticationManager.authenticate(any()))
+            .thenThrow(new PasswordHashingUnavailableException(new RuntimeException("full")));
+
+        assertThatThrownBy(() -> authService.authenticate(authDto))
+            .isInstanceOf(PasswordHashingUnavailableException.class)
+            .hasMessage("service busy, try again later");
+        verifyNoInteractions(jwtUtil, updateAccount);
+    }
+
+    @Test
+    @DisplayName("Should report saturated hashing the same way for unknown emails")
+    void should_unwrap_hashing_unavailable_for_unknown_email() {
+        final var authDto = AuthDto.builder()
+            .email(RandomEmailUtils.generateValidEmail())
+            .password(UUID.randomUUID().toString())
+            .build();
+
+        when(authenticationManager.authenticate(any()))
+            .thenThrow(new InternalAuthenticationServiceException("busy",
+                new PasswordHashingUnavailableException(new RuntimeException("full"))));
+
+        assertThatThrownBy(() -> authService.authenticate(authDto))
+            .isInstanceOf(PasswordHashingUnavailableException.class)
+            .hasMessage("service busy, try again later");
+        verifyNoInteractions(jwtUtil, updateAccount);
+    }
+
+    @Test
+    @DisplayName("Should throw AuthenticationException for other internal authentication errors")
+    void should_throw_authentication_exception_for_internal_errors() {
+        final var authDto = AuthDto.builder()
+            .email(RandomEmailUtils.generateValidEmail())
+            .password(UUID.randomUUID().toString())
+            .build();
+
+        when(authenticationManager.authenticate(any()))
+            .thenThrow(new InternalAuthenticationServiceException("Database down"));
+
+        assertThatThrownBy(() -> authService.authenticate(authDto))
+            .isInstanceOf(AuthenticationException.class);
+    }
+
     @Test
     @DisplayName("Should throw AuthenticationException for generic errors")
     void should_throw_authentication_exception_generic() {
@@ -273,9 +369,8 @@ class AuthServiceTest extends UnitTestAbstract {
         + "when JwtException occurs during refresh (e.g. expired token)")
     void should_throw_auth_exception_when_jwt_exception_occurs() {
         when(jwtUtil.extractRefreshToken(request)).thenReturn(Optional.of(REFRESH_TOKEN));
-        when(blocklistService.isBlocked(REFRESH_TOKEN)).thenReturn(false);
 
-        when(jwtUtil.getEmailFromToken(REFRESH_TOKEN))
+        when(jwtUtil.verify(REFRESH_TOKEN))
             .thenThrow(new io.jsonwebtoken.JwtException("Token expired or invalid"));
 
         assertThatThrownBy(() -> authService.refreshToken(request))
@@ -284,20 +379,21 @@ class AuthServiceTest extends UnitTestAbstract {
             .hasFieldOrPropertyWithValue("fieldName", "refresh-token");
 
         verify(jwtUtil, times(1)).extractRefreshToken(request);
-        verify(blocklistService, times(1)).isBlocked(REFRESH_TOKEN);
-        verify(jwtUtil, times(1)).getEmailFromToken(REFRESH_TOKEN);
+        verify(jwtUtil, times(1)).verify(REFRESH_TOKEN);
 
         verifyNoMoreInteractions(jwtUtil);
+        verifyNoInteractions(blocklistService);
         verifyNoInteractions(userDetailsService);
         verifyNoInteractions(updateAccount);
-        verifyNoInteractions(findProfile);
     }
 
     @Test
     @DisplayName("Should throw AuthenticationException when refresh token is blocked")
     void should_throw_auth_exception_when_refresh_token_blocked() {
         when(jwtUtil.extractRefreshToken(request)).thenReturn(Optional.of(REFRESH_TOKEN));
-        when(blocklistService.isBlocked(REFRESH_TOKEN)).thenReturn(true);
+        when(jwtUtil.verify(REFRESH_TOKEN))
+            .thenReturn(verifiedToken(RandomEmailUtils.generateValidEmail(), 0));
+        when(blocklistService.isBlocked(TOKEN_ID)).thenReturn(true);
 
         assertThatThrownBy(() -> authService.refreshToken(request))
             .isInstanceOf(AuthenticationException.class)
@@ -305,8 +401,8 @@ class AuthServiceTest extends UnitTestAbstract {
             .hasFieldOrPropertyWithValue("fieldName", "refresh-token");
 
         verify(jwtUtil, times(1)).extractRefreshToken(request);
-        verify(blocklistService, times(1)).isBlocked(REFRESH_TOKEN);
-        verifyNoInteractions(userDetailsService, findProfile, updateAccount);
+        verify(blocklistService, times(1)).isBlocked(TOKEN_ID);
+        verifyNoInteractions(userDetailsService, updateAccount);
     }
 
     @Test
@@ -314,11 +410,13 @@ class AuthServiceTest extends UnitTestAbstract {
     void should_logout_successfully_and_block_token() {
         final var futureDate = Date.from(Instant.now().plusSeconds(3600));
         when(jwtUtil.getExpirationFromToken(ACCESS_TOKEN)).thenReturn(futureDate);
+        when(jwtUtil.verify(ACCESS_TOKEN))
+            .thenReturn(verifiedToken(RandomEmailUtils.generateValidEmail(), 0));
 
         authService.logout(ACCESS_TOKEN);
 
         ArgumentCaptor<Long> timeCaptor = ArgumentCaptor.forClass(Long.class);
-        verify(blocklistService, times(1)).blockToken(eq(ACCESS_TOKEN), timeCaptor.capture());
+        verify(blocklistService, times(1)).blockToken(eq(TOKEN_ID), timeCaptor.capture());
         assertThat(timeCaptor.getValue()).isGreaterThan(0L);
     }
 
@@ -343,4 +441,20 @@ class AuthServiceTest extends UnitTestAbstract {
 
         verifyNoInteractions(blocklistService);
     }
+
+    @Test
+    @DisplayName("Should revoke every token of the account on logout everywhere")
+    void should_revoke_all_tokens_on_logout_everywhere() {
+        var email = RandomEmailUtils.generateValidEmail();
+
+        authService.logoutEverywhere(email);
+
+        verify(updateAccount, times(1)).revokeTokens(email);
+        verifyNoInteractions(blocklistService);
+    }
+
+    private static VerifiedToken verifiedToken(final String email, final long epoch) {
+        Instant now = Instant.now();
+        return new VerifiedToken(TOKEN_ID, email, List.of(), epoch, now, now.plusSeconds(3600));
+    }
 }
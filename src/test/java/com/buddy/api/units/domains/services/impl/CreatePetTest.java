@@ -17,8 +17,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.buddy.api.commons.configurations.cache.PetSearchCache;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.domains.pet.entities.PetEntity;
+import com.buddy.api.domains.pet.index.PetCatalogIndex;
 import com.buddy.api.domains.pet.mappers.PetDomainMapper;
 import com.buddy.api.domains.pet.repositories.PetRepository;
 import com.buddy.api.domains.pet.services.impl.CreatePetImpl;
@@ -33,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
 
 class CreatePetTest extends UnitTestAbstract {
 
@@ -45,6 +48,12 @@ class CreatePetTest extends UnitTestAbstract {
     @Mock
     private PetDomainMapper mapper;
 
+    @Mock
+    private PetSearchCache petSearchCache;
+
+    @Mock
+    private ObjectProvider<PetCatalogIndex> petCatalogIndex;
+
     @InjectMocks
     private CreatePetImpl createPet;
 
@@ -91,6 +100,7 @@ class CreatePetTest extends UnitTestAbstract {
         assertThat(savedPetEntity.getWeight()).isEqualTo(petEntity.getWeight());
         assertThat(savedPetEntity.getDescription()).isEqualTo(petEntity.getDescription());
         assertThat(savedPetEntity.getImages()).isEqualTo(petEntity.getImages());
+        verify(petSearchCache).invalidate();
     }
 
     @Test
@@ -108,6 +118,7 @@ class CreatePetTest extends UnitTestAbstract {
                 .hasMessage("Shelter not found");
 
         verify(petRepository, never()).save(any());
+        verify(petSearchCache, never()).invalidate();
     }
 
     @Test
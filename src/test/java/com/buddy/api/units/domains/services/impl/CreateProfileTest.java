@@ -8,9 +8,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.builders.profile.ProfileBuilder;
+import com.buddy.api.commons.configurations.cache.UserDetailsCache;
 import com.buddy.api.commons.exceptions.InvalidProfileTypeException;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.commons.exceptions.ProfileNameAlreadyRegisteredException;
@@ -49,6 +51,9 @@ class CreateProfileTest extends UnitTestAbstract {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private CreateProfileImpl createProfile;
 
@@ -72,12 +77,14 @@ class CreateProfileTest extends UnitTestAbstract {
         final var profileEntityCaptor = ArgumentCaptor.forClass(ProfileEntity.class);
 
         when(findAccount.existsById(accountId)).thenReturn(true);
+        when(findAccount.findEmailById(accountId)).thenReturn(accountEntity.getEmail().value());
         when(profileRepository.save(profileEntity)).thenReturn(profileEntity);
 
         createProfile.create(validProfileDto, accountId);
 
         verify(profileRepository, times(1))
             .save(profileEntityCaptor.capture());
+        verify(userDetailsCache).evictAfterCommit(accountEntity.getEmail().value());
 
         assertThat(profileEntity)
             .usingRecursiveComparison()
@@ -104,6 +111,7 @@ class CreateProfileTest extends UnitTestAbstract {
             .isEqualTo("accountId");
 
         verify(profileRepository, never()).save(any());
+        verifyNoInteractions(userDetailsCache);
     }
 
     @Test
@@ -124,6 +132,7 @@ class CreateProfileTest extends UnitTestAbstract {
             .isEqualTo("profileType");
 
         verify(profileRepository, never()).save(any());
+        verifyNoInteractions(userDetailsCache);
     }
 
     @Test
@@ -144,6 +153,7 @@ class CreateProfileTest extends UnitTestAbstract {
             .isEqualTo("name");
 
         verify(profileRepository, never()).save(any());
+        verifyNoInteractions(userDetailsCache);
     }
 
     @Test
@@ -189,5 +199,6 @@ class CreateProfileTest extends UnitTestAbstract {
             .hasMessage("You cannot create a profile for an account other than your own");
 
         verify(profileRepository, never()).save(any());
+        verifyNoInteractions(userDetailsCache);
     }
 }
@@ -2,25 +2,43 @@ package com.buddy.api.units.domains.services.impl;
 
 import static com.buddy.api.builders.account.AccountBuilder.validAccountDto;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.builders.profile.ProfileBuilder;
+import com.buddy.api.commons.configurations.cache.UserDetailsCache;
+import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.domains.account.dtos.AccountDto;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.account.dtos.AccountWithProfilesDto;
 import com.buddy.api.domains.account.services.FindAccount;
+import com.buddy.api.domains.authentication.dtos.UserDetailsSnapshot;
 import com.buddy.api.domains.authentication.services.impl.CustomUserDetailsService;
 import com.buddy.api.domains.profile.dtos.ProfileDto;
 import com.buddy.api.domains.profile.enums.ProfileTypeEnum;
-import com.buddy.api.domains.profile.services.FindProfile;
 import com.buddy.api.domains.valueobjects.EmailAddress;
 import com.buddy.api.units.UnitTestAbstract;
 import com.buddy.api.utils.RandomEmailUtils;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 class CustomUserDetailsServiceTest extends UnitTestAbstract {
 
@@ -28,11 +46,86 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
     private FindAccount findAccount;
 
     @Mock
-    private FindProfile findProfile;
+    private UserDetailsCache userDetailsCache;
 
     @InjectMocks
     private CustomUserDetailsService customUserDetailsService;
 
+    @Captor
+    private ArgumentCaptor<Supplier<UserDetailsSnapshot>> loaderCaptor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(userDetailsCache.get(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<UserDetailsSnapshot>>getArgument(1)
+                .get());
+    }
+
+    @Test
+    @DisplayName("Should build user details from a cached snapshot without querying the account")
+    void should_build_user_details_from_cached_snapshot() {
+        AccountDto accountDto = validAccountDto()
+            .email(new EmailAddress(RandomEmailUtils.generateValidEmail()))
+            .password(null)
+            .isBlocked(false)
+            .isDeleted(false)
+            .isVerified(true)
+            .build();
+        String email = accountDto.email().value();
+
+        when(userDetailsCache.get(eq(email), any()))
+            .thenReturn(new UserDetailsSnapshot(accountDto, List.of(),
+                List.of("ROLE_USER", "SCOPE_VERIFIED")));
+
+        UserDetails result = customUserDetailsService.loadUserWithoutCredentials(email);
+
+        assertThat(result.getUsername()).isEqualTo(email);
+        assertThat(result.getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER", "SCOPE_VERIFIED");
+        verifyNoInteractions(findAccount);
+    }
+
+    @Test
+    @DisplayName("Should cache the user details snapshot without the password hash")
+    void should_cache_snapshot_without_password() {
+        AccountDto accountDto = validAccountDto()
+            .email(new EmailAddress(RandomEmailUtils.generateValidEmail()))
+            .isVerified(true)
+            .build();
+        String email = accountDto.email().value();
+
+        when(findAccount.findAccountWithActiveProfiles(email))
+            .thenReturn(new AccountWithProfilesDto(accountDto, List.of()));
+
+        UserDetails result = customUserDetailsService.loadUserWithoutCredentials(email);
+
+        verify(userDetailsCache).get(eq(email), loaderCaptor.capture());
+        UserDetailsSnapshot cached = loaderCaptor.getValue().get();
+        assertThat(cached.account().password()).isNull();
+        assertThat(cached.account().accountId()).isEqualTo(accountDto.accountId());
+        assertThat(cached.authorities()).containsExactly("ROLE_USER", "SCOPE_VERIFIED");
+        assertThat(result.getPassword()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load login credentials from the database without touching the cache")
+    void should_load_login_credentials_without_cache() {
+        AccountDto accountDto = validAccountDto()
+            .email(new EmailAddress(RandomEmailUtils.generateValidEmail()))
+            .isVerified(true)
+            .build();
+        String email = accountDto.email().value();
+
+        when(findAccount.findAccountWithActiveProfiles(email))
+            .thenReturn(new AccountWithProfilesDto(accountDto, List.of()));
+
+        UserDetails result = customUserDetailsService.loadUserByUsername(email);
+
+        assertThat(result.getPassword()).isEqualTo(accountDto.password());
+        verifyNoInteractions(userDetailsCache);
+    }
+
     @Test
     @DisplayName("Should load user details with ROLE_USER, SCOPE_VERIFIED and Profile Role")
     void should_load_user_details_successfully() {
@@ -48,10 +141,8 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
             .isDeleted(false)
             .build();
 
-        when(findAccount.findAccountForAuthentication(accountDto.email().value()))
-            .thenReturn(accountDto);
-        when(findProfile.findByAccountEmail(accountDto.email().value()))
-            .thenReturn(List.of(activeProfile));
+        when(findAccount.findAccountWithActiveProfiles(accountDto.email().value()))
+            .thenReturn(new AccountWithProfilesDto(accountDto, List.of(activeProfile)));
 
         UserDetails result = customUserDetailsService.loadUserByUsername(
             accountDto.email().value()
@@ -74,7 +165,7 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
 
     @Test
     @DisplayName("Should return user with only ROLE_USER when unverified and no active profiles")
-    void should_return_only_base_role_when_unverified_and_profiles_deleted() {
+    void should_return_only_base_role_when_unverified_and_no_active_profiles() {
         AccountDto accountDto = validAccountDto()
             .email(new EmailAddress(RandomEmailUtils.generateValidEmail()))
             .isVerified(false)
@@ -82,12 +173,8 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
             .isBlocked(false)
             .build();
 
-        ProfileDto deletedProfile = ProfileBuilder.profileDto().isDeleted(true).build();
-
-        when(findAccount.findAccountForAuthentication(accountDto.email().value()))
-            .thenReturn(accountDto);
-        when(findProfile.findByAccountEmail(accountDto.email().value()))
-            .thenReturn(List.of(deletedProfile));
+        when(findAccount.findAccountWithActiveProfiles(accountDto.email().value()))
+            .thenReturn(new AccountWithProfilesDto(accountDto, List.of()));
 
         UserDetails result = customUserDetailsService.loadUserByUsername(
             accountDto.email().value()
@@ -111,10 +198,8 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
             .isBlocked(true)
             .build();
 
-        when(findAccount.findAccountForAuthentication(accountDto.email().value()))
-            .thenReturn(accountDto);
-        when(findProfile.findByAccountEmail(accountDto.email().value()))
-            .thenReturn(List.of());
+        when(findAccount.findAccountWithActiveProfiles(accountDto.email().value()))
+            .thenReturn(new AccountWithProfilesDto(accountDto, List.of()));
 
         final var result = customUserDetailsService.loadUserByUsername(accountDto.email().value());
 
@@ -133,10 +218,8 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
             .isBlocked(false)
             .build();
 
-        when(findAccount.findAccountForAuthentication(accountDto.email().value()))
-            .thenReturn(accountDto);
-        when(findProfile.findByAccountEmail(accountDto.email().value()))
-            .thenReturn(List.of());
+        when(findAccount.findAccountWithActiveProfiles(accountDto.email().value()))
+            .thenReturn(new AccountWithProfilesDto(accountDto, List.of()));
 
         final var result = customUserDetailsService.loadUserByUsername(accountDto.email().value());
 
@@ -163,10 +246,8 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
             .profileType(ProfileTypeEnum.ADMIN)
             .isDeleted(false).build();
 
-        when(findAccount.findAccountForAuthentication(accountDto.email().value()))
-            .thenReturn(accountDto);
-        when(findProfile.findByAccountEmail(accountDto.email().value()))
-            .thenReturn(List.of(shelter, admin));
+        when(findAccount.findAccountWithActiveProfiles(accountDto.email().value()))
+            .thenReturn(new AccountWithProfilesDto(accountDto, List.of(shelter, admin)));
 
         UserDetails result = customUserDetailsService
             .loadUserByUsername(accountDto.email().value());
@@ -180,4 +261,73 @@ class CustomUserDetailsServiceTest extends UnitTestAbstract {
                 "ROLE_ADMIN"
             );
     }
+
+    @Test
+    @DisplayName("Should build user from claims without loading profiles")
+    void should_build_user_from_claims_without_loading_profiles() {
+        final var email = RandomEmailUtils.generateValidEmail();
+        final var status = new AccountStatusDto(UUID.randomUUID(), false, false, true, 0L);
+
+        when(findAccount.findAccountStatus(email)).thenReturn(status);
+
+        UserDetails result = customUserDetailsService.loadUserFromClaims(
+            email, List.of("ROLE_USER", "ROLE_SHELTER"), 0L
+        );
+
+        assertThat(result.getUsername()).isEqualTo(email);
+        assertThat(result.isEnabled()).isTrue();
+        assertThat(result.isAccountNonLocked()).isTrue();
+        assertThat(result.isCredentialsNonExpired()).isTrue();
+        assertThat(result.getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "ROLE_SHELTER", "SCOPE_VERIFIED");
+        verify(findAccount).findAccountStatus(email);
+        verifyNoMoreInteractions(findAccount);
+    }
+
+    @Test
+    @DisplayName("Should drop SCOPE_VERIFIED claim when account status is no longer verified")
+    void should_drop_verified_scope_when_status_is_unverified() {
+        final var email = RandomEmailUtils.generateValidEmail();
+        final var status = new AccountStatusDto(UUID.randomUUID(), true, false, false, 0L);
+
+        when(findAccount.findAccountStatus(email)).thenReturn(status);
+
+        UserDetails result = customUserDetailsService.loadUserFromClaims(
+            email, List.of("ROLE_USER", "SCOPE_VERIFIED"), 0L
+        );
+
+        assertThat(result.isAccountNonLocked()).isFalse();
+        assertThat(result.getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("Should expire credentials when the token epoch predates the account epoch")
+    void should_expire_credentials_when_token_epoch_is_stale() {
+        final var email = RandomEmailUtils.generateValidEmail();
+        final var status = new AccountStatusDto(UUID.randomUUID(), false, false, true, 2L);
+
+        when(findAccount.findAccountStatus(email)).thenReturn(status);
+
+        UserDetails result = customUserDetailsService.loadUserFromClaims(
+            email, List.of("ROLE_USER"), 1L
+        );
+
+        assertThat(result.isCredentialsNonExpired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should throw UsernameNotFoundException when account from claims does not exist")
+    void should_throw_username_not_found_when_account_from_claims_is_missing() {
+        final var email = RandomEmailUtils.generateValidEmail();
+
+        when(findAccount.findAccountStatus(email))
+            .thenThrow(new NotFoundException("email", "Account not found"));
+
+        assertThatThrownBy(() -> customUserDetailsService.loadUserFromClaims(
+            email, List.of("ROLE_USER"), 0L
+        )).isInstanceOf(UsernameNotFoundException.class);
+    }
 }
@@ -0,0 +1,302 @@
+package com.buddy.api.units.domains.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.commons.configurations.properties.EmailOutboxProperties;
+import com.buddy.api.commons.configurations.properties.ManagerApiProperties;
+import com.buddy.api.domains.account.email.entities.EmailOutboxEntity;
+import com.buddy.api.domains.account.email.enums.EmailOutboxStatus;
+import com.buddy.api.domains.account.email.repositories.EmailOutboxRepository;
+import com.buddy.api.domains.account.email.services.impl.EmailOutboxDispatcher;
+import com.buddy.api.integrations.clients.manager.ManagerService;
+import com.buddy.api.units.UnitTestAbstract;
+import com.buddy.api.utils.RandomEmailUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+class EmailOutboxDispatcherTest extends UnitTestAbstract {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String SENDER = "no-reply@buddy.com";
+    private static final String SUBJECT = "Verify Your Email";
+    private static final String BODY = "<html>verify</html>";
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private ManagerService managerService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxDispatcher dispatcher;
+    private EmailOutboxEntity email;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = dispatcher(60L, 5_000L);
+
+        email = pendingEmail(BODY);
+
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        lenient().when(emailOutboxRepository.findOldestCreationDateByStatus(any()))
+            .thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Should mark the email as sent when the Manager API accepts it")
+    void should_mark_email_as_sent() {
+        claim(email);
+
+        dispatcher.dispatch();
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getSentDate()).isNotNull();
+        assertThat(dispatched("sent")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep the email pending and back off when delivery fails")
+    void should_back_off_when_delivery_fails() {
+        claim(email);
+        final var before = LocalDateTime.now();
+        doThrow(new IllegalStateException("gateway down"))
+            .when(managerService).sendEmailNotification(any(), any(), any(), any());
+
+        dispatcher.dispatch();
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getLastError()).isEqualTo("gateway down");
+        assertThat(email.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        assertThat(dispatched("retry")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should move the email to dead letter after the last attempt fails")
+    void should_dead_letter_after_max_attempts() {
+        claim(email);
+        email.setAttempts(MAX_ATTEMPTS - 1);
+        doThrow(new IllegalStateException("gateway down"))
+            .when(managerService).sendEmailNotification(any(), any(), any(), any());
+
+        dispatcher.dispatch();
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(email.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(dispatched("dead")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should send emails sharing the same rendered body in one capped request")
+    void should_group_recipients_of_identical_emails() {
+        final var second = pendingEmail(BODY);
+        final var third = pendingEmail(BODY);
+        final var personalized = pendingEmail("<html>other</html>");
+        claim(email, second, personalized, third);
+
+        dispatcher.dispatch();
+
+        verify(managerService).sendEmailNotification(
+            List.of(email.getRecipient(), second.getRecipient()), SENDER, SUBJECT, BODY);
+        verify(managerService).sendEmailNotification(
+            List.of(third.getRecipient()), SENDER, SUBJECT, BODY);
+        verify(managerService).sendEmailNotification(
+            List.of(personalized.getRecipient()), SENDER, SUBJECT, "<html>other</html>");
+        assertThat(List.of(email, second, third, personalized))
+            .allSatisfy(sent -> assertThat(sent.getStatus()).isEqualTo(EmailOutboxStatus.SENT));
+        assertThat(dispatched("sent")).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed grouped request per recipient so one bad address "
+        + "does not fail the others")
+    void should_isolate_bad_recipient_of_failed_group() {
+        final var bad = pendingEmail(BODY);
+        claim(email, bad);
+        doThrow(new IllegalStateException("invalid recipient"))
+            .when(managerService).sendEmailNotification(
+                eq(List.of(email.getRecipient(), bad.getRecipient())), any(), any(), any());
+        doThrow(new IllegalStateException("invalid recipient"))
+            .when(managerService).sendEmailNotification(
+                eq(List.of(bad.getRecipient())), any(), any(), any());
+
+        dispatcher.dispatch();
+
+        verify(managerService).sendEmailNotification(
+            List.of(email.getRecipient()), SENDER, SUBJECT, BODY);
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(bad.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(bad.getLastError()).isEqualTo("invalid recipient");
+        assertThat(dispatched("sent")).isEqualTo(1.0);
+        assertThat(dispatched("retry")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should track the outcome of each recipient when every request fails")
+    void should_fail_each_recipient_of_failed_request() {
+        final var second = pendingEmail(BODY);
+        second.setAttempts(MAX_ATTEMPTS - 1);
+        claim(email, second);
+        doThrow(new IllegalStateException("gateway down"))
+            .when(managerService).sendEmailNotification(any(), any(), any(), any());
+
+        dispatcher.dispatch();
+
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(second.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(dispatched("retry")).isEqualTo(1.0);
+        assertThat(dispatched("dead")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should call the Manager API only after the claim transaction commits")
+    void should_call_gateway_outside_transactions() {
+        claim(email);
+
+        dispatcher.dispatch();
+
+        InOrder inOrder = inOrder(transactionManager, managerService);
+        inOrder.verify(transactionManager).commit(transactionStatus);
+        inOrder.verify(managerService).sendEmailNotification(any(), any(), any(), any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should lease claimed emails so other nodes skip them while they are sent")
+    void should_lease_claimed_emails() {
+        final var before = LocalDateTime.now();
+        when(emailOutboxRepository.claimDue(any(), anyInt())).thenReturn(List.of(email));
+        when(emailOutboxRepository.findAllById(any())).thenReturn(List.of());
+        doThrow(new IllegalStateException("gateway down"))
+            .when(managerService).sendEmailNotification(any(), any(), any(), any());
+
+        dispatcher.dispatch();
+
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Should not overwrite an email another node reclaimed after the lease expired")
+    void should_skip_emails_reclaimed_by_another_node() {
+        final var reclaimed = pendingEmail(BODY);
+        reclaimed.setEmailOutboxId(email.getEmailOutboxId());
+        reclaimed.setAttempts(2);
+        when(emailOutboxRepository.claimDue(any(), anyInt())).thenReturn(List.of(email));
+        when(emailOutboxRepository.findAllById(any())).thenReturn(List.of(reclaimed));
+
+        dispatcher.dispatch();
+
+        assertThat(reclaimed.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(reclaimed.getSentDate()).isNull();
+        assertThat(dispatched("sent")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave unsent emails for the next claim when the lease is about to expire")
+    void should_release_emails_when_lease_is_about_to_expire() {
+        dispatcher = dispatcher(2L, 1_000L);
+        final var personalized = pendingEmail("<html>other</html>");
+        claim(email, personalized);
+        doAnswer(invocation -> {
+            Thread.sleep(1_000L);
+            return null;
+        }).when(managerService).sendEmailNotification(any(), any(), any(), any());
+
+        dispatcher.dispatch();
+
+        verify(managerService).sendEmailNotification(
+            List.of(email.getRecipient()), SENDER, SUBJECT, BODY);
+        verifyNoMoreInteractions(managerService);
+        assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(personalized.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(personalized.getAttempts()).isZero();
+        assertThat(personalized.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should reject a lease that does not outlast one Manager API request")
+    void should_reject_lease_shorter_than_request_timeout() {
+        assertThatThrownBy(() -> dispatcher(1L, 1_000L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EmailOutboxDispatcher dispatcher(final long leaseSeconds,
+                                             final long readTimeoutMillis) {
+        final var properties = EmailOutboxProperties.builder()
+            .batchSize(10)
+            .maxRecipientsPerRequest(2)
+            .pollIntervalMillis(1_000L)
+            .maxAttempts(MAX_ATTEMPTS)
+            .leaseSeconds(leaseSeconds)
+            .initialBackoffSeconds(30L)
+            .maxBackoffSeconds(3_600L)
+            .retentionDays(7)
+            .build();
+        final var managerApiProperties = ManagerApiProperties.builder()
+            .connectTimeoutMillis(100L)
+            .readTimeoutMillis(readTimeoutMillis)
+            .build();
+        return new EmailOutboxDispatcher(emailOutboxRepository, managerService,
+            properties, managerApiProperties, transactionManager, meterRegistry);
+    }
+
+    private void claim(final EmailOutboxEntity... emails) {
+        when(emailOutboxRepository.claimDue(any(), anyInt())).thenReturn(List.of(emails));
+        when(emailOutboxRepository.findAllById(any())).thenReturn(List.of(emails));
+    }
+
+    private static EmailOutboxEntity pendingEmail(final String body) {
+        return EmailOutboxEntity.builder()
+            .emailOutboxId(UUID.randomUUID())
+            .accountId(UUID.randomUUID())
+            .template("/templates/email-verification.html")
+            .sender(SENDER)
+            .recipient(RandomEmailUtils.generateValidEmail())
+            .subject(SUBJECT)
+            .body(body)
+            .status(EmailOutboxStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(LocalDateTime.now())
+            .creationDate(LocalDateTime.now().minusSeconds(5))
+            .build();
+    }
+
+    private double dispatched(final String outcome) {
+        return meterRegistry.get("buddy.email.outbox.dispatched")
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+}
@@ -1,32 +1,31 @@
 package com.buddy.api.units.domains.services.impl;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.times;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.commons.configurations.properties.EmailProperties;
+import com.buddy.api.domains.account.email.entities.EmailOutboxEntity;
+import com.buddy.api.domains.account.email.enums.EmailOutboxStatus;
+import com.buddy.api.domains.account.email.repositories.EmailOutboxRepository;
 import com.buddy.api.domains.account.email.services.EmailTemplateLoaderService;
 import com.buddy.api.domains.account.email.services.impl.EmailSenderImpl;
-import com.buddy.api.integrations.clients.manager.ManagerService;
 import com.buddy.api.units.UnitTestAbstract;
 import com.buddy.api.utils.RandomEmailUtils;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 class EmailSenderImplTest extends UnitTestAbstract {
 
     @Mock
-    private ManagerService managerService;
+    private EmailOutboxRepository emailOutboxRepository;
 
     @Mock
     private EmailProperties emailProperties;
@@ -43,7 +42,6 @@ class EmailSenderImplTest extends UnitTestAbstract {
     private UUID accountId;
     private String userEmail;
     private String token;
-    private String verificationUrl;
     private String templatePath;
     private String from;
     private String subject;
@@ -54,7 +52,6 @@ class EmailSenderImplTest extends UnitTestAbstract {
         accountId = UUID.randomUUID();
         userEmail = RandomEmailUtils.generateValidEmail();
         token = UUID.randomUUID().toString();
-        verificationUrl = "http://example.com/verify?token=" + token;
         templatePath = "/templates/email-verification.html";
         from = "no-reply@buddy.com";
         subject = "Verify Your Email";
@@ -69,50 +66,32 @@ class EmailSenderImplTest extends UnitTestAbstract {
     }
 
     @Nested
-    @DisplayName("Tests for dispatchVerificationEmail method")
-    class DispatchVerificationEmailTests {
+    @DisplayName("Tests for enqueueVerificationEmail method")
+    class EnqueueVerificationEmailTests {
 
         @Test
-        @DisplayName("Should send verification email successfully")
-        void should_send_verification_email_successfully() {
-            emailSender.dispatchVerificationEmail(accountId, userEmail, token);
-
-            verify(emailProperties, times(4)).templates();
-            verify(templates, times(1)).url();
-            verify(templates, times(1)).from();
-            verify(templates, times(1)).subject();
-            verify(emailTemplateLoader, times(1)).load(templatePath);
-            verify(managerService, times(1)).sendEmailNotification(
-                List.of(userEmail),
-                from,
-                subject,
-                template.replace("{{url}}", verificationUrl)
-            );
-        }
-
-        @Test
-        @DisplayName("Should throw exception and log error when email sending fails")
-        void should_throw_exception_and_log_error_when_email_sending_fails() {
-            RuntimeException exception = new RuntimeException("Email service failure");
-            doThrow(exception).when(managerService)
-                .sendEmailNotification(anyList(), anyString(), anyString(), anyString());
-
-            assertThatThrownBy(
-                () -> emailSender.dispatchVerificationEmail(accountId, userEmail, token))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("Email service failure");
-
-            verify(emailProperties, times(4)).templates();
-            verify(templates, times(1)).url();
-            verify(templates, times(1)).from();
-            verify(templates, times(1)).subject();
-            verify(emailTemplateLoader, times(1)).load(templatePath);
-            verify(managerService, times(1)).sendEmailNotification(
-                List.of(userEmail),
-                from,
-                subject,
-                template.replace("{{url}}", verificationUrl)
-            );
+        @DisplayName("Should write the rendered verification email to the outbox as pending")
+        void should_write_pending_verification_email_to_outbox() {
+            LocalDateTime before = LocalDateTime.now();
+
+            emailSender.enqueueVerificationEmail(accountId, userEmail, token);
+
+            ArgumentCaptor<EmailOutboxEntity> saved =
+                ArgumentCaptor.forClass(EmailOutboxEntity.class);
+            verify(emailOutboxRepository).save(saved.capture());
+            assertThat(saved.getValue())
+                .satisfies(email -> {
+                    assertThat(email.getAccountId()).isEqualTo(accountId);
+                    assertThat(email.getTemplate()).isEqualTo(templatePath);
+                    assertThat(email.getSender()).isEqualTo(from);
+                    assertThat(email.getRecipient()).isEqualTo(userEmail);
+                    assertThat(email.getSubject()).isEqualTo(subject);
+                    assertThat(email.getBody()).isEqualTo(template.replace("{{url}}",
+                        "http://example.com/verify?token=" + token));
+                    assertThat(email.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+                    assertThat(email.getAttempts()).isZero();
+                    assertThat(email.getNextAttemptAt()).isAfterOrEqualTo(before);
+                });
         }
     }
 }
@@ -95,29 +95,29 @@ class EmailVerificationServiceImplTest extends UnitTestAbstract {
     class RequestEmailTests {
 
         @Test
-        @DisplayName("Should dispatch verification email successfully")
-        void should_dispatch_verification_email_successfully() {
+        @DisplayName("Should queue the verification email successfully")
+        void should_queue_verification_email_successfully() {
             CountDownLatch latch = new CountDownLatch(1);
-            when(tokenManager.generateAndStoreToken(userEmail)).thenReturn(token);
+            when(tokenManager.generateAndStoreToken(accountId, userEmail)).thenReturn(token);
             doAnswer(invocation -> {
                 latch.countDown();
                 return null;
-            }).when(emailSender).dispatchVerificationEmail(accountId, userEmail, token);
+            }).when(emailSender).enqueueVerificationEmail(accountId, userEmail, token);
 
             emailVerificationService.requestEmail(unverifiedAccount);
 
             verify(accountValidator, times(1)).validateAccountNotVerified(unverifiedAccount);
             verify(rateLimitChecker, times(1)).checkRateLimit(userEmail, accountId);
-            verify(tokenManager, times(1)).generateAndStoreToken(userEmail);
-            verify(emailSender, times(1)).dispatchVerificationEmail(accountId, userEmail, token);
+            verify(tokenManager, times(1)).generateAndStoreToken(accountId, userEmail);
+            verify(emailSender, times(1)).enqueueVerificationEmail(accountId, userEmail, token);
         }
 
         @Test
-        @DisplayName("Should handle email sending failure and evict token")
+        @DisplayName("Should propagate a failure to queue the verification email")
         void should_handle_email_sending_failure() {
-            when(tokenManager.generateAndStoreToken(userEmail)).thenReturn(token);
+            when(tokenManager.generateAndStoreToken(accountId, userEmail)).thenReturn(token);
             doThrow(new RuntimeException("Email service failure"))
-                .when(emailSender).dispatchVerificationEmail(accountId, userEmail, token);
+                .when(emailSender).enqueueVerificationEmail(accountId, userEmail, token);
 
             assertThatThrownBy(() -> emailVerificationService.requestEmail(unverifiedAccount))
                 .isInstanceOf(RuntimeException.class)
@@ -125,8 +125,8 @@ class EmailVerificationServiceImplTest extends UnitTestAbstract {
 
             verify(accountValidator, times(1)).validateAccountNotVerified(unverifiedAccount);
             verify(rateLimitChecker, times(1)).checkRateLimit(userEmail, accountId);
-            verify(tokenManager, times(1)).generateAndStoreToken(userEmail);
-            verify(emailSender, times(1)).dispatchVerificationEmail(accountId, userEmail, token);
+            verify(tokenManager, times(1)).generateAndStoreToken(accountId, userEmail);
+            verify(emailSender, times(1)).enqueueVerificationEmail(accountId, userEmail, token);
         }
     }
 
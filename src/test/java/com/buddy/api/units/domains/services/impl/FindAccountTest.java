@@ -2,21 +2,34 @@ package com.buddy.api.units.domains.services.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.builders.account.AccountBuilder;
+import com.buddy.api.builders.profile.ProfileBuilder;
+import com.buddy.api.commons.configurations.cache.AccountStatusCache;
 import com.buddy.api.commons.exceptions.AccountUnavailableException;
 import com.buddy.api.commons.exceptions.NotFoundException;
 import com.buddy.api.domains.account.dtos.AccountDto;
+import com.buddy.api.domains.account.dtos.AccountStatusDto;
+import com.buddy.api.domains.account.entities.AccountEntity;
 import com.buddy.api.domains.account.mappers.AccountMapper;
 import com.buddy.api.domains.account.repositories.AccountRepository;
+import com.buddy.api.domains.account.repositories.AccountRepository.AccountProfileRow;
 import com.buddy.api.domains.account.services.impl.FindAccountImpl;
+import com.buddy.api.domains.profile.dtos.ProfileDto;
+import com.buddy.api.domains.profile.entities.ProfileEntity;
+import com.buddy.api.domains.profile.enums.ProfileTypeEnum;
+import com.buddy.api.domains.profile.mappers.ProfileMapper;
 import com.buddy.api.domains.valueobjects.EmailAddress;
 import com.buddy.api.units.UnitTestAbstract;
 import com.buddy.api.utils.RandomEmailUtils;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
@@ -29,9 +42,15 @@ class FindAccountTest extends UnitTestAbstract {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountStatusCache accountStatusCache;
+
     @Spy
     private AccountMapper accountMapper = Mappers.getMapper(AccountMapper.class);
 
+    @Spy
+    private ProfileMapper profileMapper = Mappers.getMapper(ProfileMapper.class);
+
     @InjectMocks
     private FindAccountImpl findAccount;
 
@@ -55,6 +74,29 @@ class FindAccountTest extends UnitTestAbstract {
         assertThat(findAccount.existsById(accountId)).isTrue();
     }
 
+    @Test
+    @DisplayName("Should find the email of an account by its ID")
+    void should_find_email_by_account_id() {
+        var accountId = UUID.randomUUID();
+        var email = RandomEmailUtils.generateValidEmailAddress();
+
+        when(accountRepository.findEmailByAccountId(accountId)).thenReturn(Optional.of(email));
+
+        assertThat(findAccount.findEmailById(accountId)).isEqualTo(email.value());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when looking up the email of a missing account")
+    void should_throw_not_found_when_email_by_account_id_is_missing() {
+        var accountId = UUID.randomUUID();
+
+        when(accountRepository.findEmailByAccountId(accountId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> findAccount.findEmailById(accountId))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("Account not found");
+    }
+
     @Test
     @DisplayName("Should find account by email and return AccountDto when account is active")
     void should_find_account_by_email_successfully() {
@@ -200,4 +242,96 @@ class FindAccountTest extends UnitTestAbstract {
             .isInstanceOf(NotFoundException.class)
             .hasMessage("Account not found");
     }
+
+    @Test
+    @DisplayName("Should load account status through the account status cache")
+    void should_load_account_status_through_cache() {
+        final var email = RandomEmailUtils.generateValidEmail();
+        final var status = new AccountStatusDto(UUID.randomUUID(), false, false, true, 0L);
+
+        when(accountStatusCache.get(eq(email), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<AccountStatusDto>>getArgument(1).get());
+        when(accountRepository.findStatusByEmail(new EmailAddress(email)))
+            .thenReturn(Optional.of(status));
+
+        assertThat(findAccount.findAccountStatus(email)).isEqualTo(status);
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when account status is not found")
+    void should_throw_not_found_when_account_status_is_not_found() {
+        final var email = RandomEmailUtils.generateValidEmail();
+
+        when(accountStatusCache.get(eq(email), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<AccountStatusDto>>getArgument(1).get());
+        when(accountRepository.findStatusByEmail(new EmailAddress(email)))
+            .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> findAccount.findAccountStatus(email))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("Account not found");
+    }
+
+    @Test
+    @DisplayName("Should load account and active profiles from a single query")
+    void should_find_account_with_active_profiles() {
+        final var account = AccountBuilder.validAccountEntity().build();
+        final var userProfile = ProfileBuilder.profileEntity().account(account).build();
+        final var shelterProfile = ProfileBuilder.profileEntity()
+            .account(account)
+            .profileType(ProfileTypeEnum.SHELTER)
+            .build();
+
+        when(accountRepository.findWithActiveProfilesByEmail(account.getEmail()))
+            .thenReturn(List.of(row(account, userProfile), row(account, shelterProfile)));
+
+        final var result = findAccount.findAccountWithActiveProfiles(account.getEmail().value());
+
+        assertThat(result.account().email()).isEqualTo(account.getEmail());
+        assertThat(result.profiles())
+            .extracting(ProfileDto::profileType)
+            .containsExactly(userProfile.getProfileType(), ProfileTypeEnum.SHELTER);
+    }
+
+    @Test
+    @DisplayName("Should return an account without profiles when none is active")
+    void should_find_account_without_active_profiles() {
+        final var account = AccountBuilder.validAccountEntity().build();
+
+        when(accountRepository.findWithActiveProfilesByEmail(account.getEmail()))
+            .thenReturn(List.of(row(account, null)));
+
+        final var result = findAccount.findAccountWithActiveProfiles(account.getEmail().value());
+
+        assertThat(result.account().email()).isEqualTo(account.getEmail());
+        assertThat(result.profiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when account with profiles does not exist")
+    void should_throw_not_found_when_account_with_profiles_does_not_exist() {
+        final var email = RandomEmailUtils.generateValidEmail();
+
+        when(accountRepository.findWithActiveProfilesByEmail(new EmailAddress(email)))
+            .thenReturn(List.of());
+
+        assertThatThrownBy(() -> findAccount.findAccountWithActiveProfiles(email))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage("Account not found");
+    }
+
+    private static AccountProfileRow row(final AccountEntity account,
+                                         final ProfileEntity profile) {
+        return new AccountProfileRow() {
+            @Override
+            public AccountEntity getAccount() {
+                return account;
+            }
+
+            @Override
+            public ProfileEntity getProfile() {
+                return profile;
+            }
+        };
+    }
 }
@@ -4,12 +4,15 @@ import static com.buddy.api.builders.terms.TermsBuilder.validTermsVersionEntity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.buddy.api.commons.configurations.cache.ActiveTermsCache;
 import com.buddy.api.commons.exceptions.NotFoundException;
+import com.buddy.api.domains.terms.dtos.TermsVersionDto;
 import com.buddy.api.domains.terms.entities.TermsVersionEntity;
 import com.buddy.api.domains.terms.mappers.TermsMapper;
 import com.buddy.api.domains.terms.repositories.TermsVersionRepository;
@@ -17,7 +20,9 @@ import com.buddy.api.domains.terms.services.impl.FindTermsVersionImpl;
 import com.buddy.api.units.UnitTestAbstract;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
@@ -33,9 +38,19 @@ class FindTermsVersionTest extends UnitTestAbstract {
     @Spy
     private TermsMapper termsMapper = Mappers.getMapper(TermsMapper.class);
 
+    @Mock
+    private ActiveTermsCache activeTermsCache;
+
     @InjectMocks
     private FindTermsVersionImpl findTermsVersion;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(activeTermsCache.get(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<TermsVersionDto>>getArgument(0)
+                .get());
+    }
+
     @Test
     @DisplayName("Should return the active terms version DTO when found in database")
     void should_return_active_terms_when_found() {
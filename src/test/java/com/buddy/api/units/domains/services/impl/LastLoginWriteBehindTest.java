@@ -0,0 +1,84 @@
+package com.buddy.api.units.domains.services.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.buddy.api.domains.account.repositories.AccountRepository;
+import com.buddy.api.domains.account.services.impl.LastLoginWriteBehind;
+import com.buddy.api.units.UnitTestAbstract;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+class LastLoginWriteBehindTest extends UnitTestAbstract {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @InjectMocks
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
+    @Test
+    @DisplayName("Should coalesce logins of the same account into one update with the latest time")
+    void should_coalesce_logins_per_account() {
+        final var accountId = UUID.randomUUID();
+        final var otherAccountId = UUID.randomUUID();
+        final var firstLogin = LocalDateTime.now().minusMinutes(1);
+        final var lastLogin = LocalDateTime.now();
+
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+
+        lastLoginWriteBehind.record(accountId, lastLogin);
+        lastLoginWriteBehind.record(accountId, firstLogin);
+        lastLoginWriteBehind.record(otherAccountId, firstLogin);
+        lastLoginWriteBehind.flush();
+
+        verify(accountRepository, times(1)).updateLastLogin(accountId, lastLogin);
+        verify(accountRepository, times(1)).updateLastLogin(otherAccountId, firstLogin);
+        verify(transactionManager, times(1)).commit(transactionStatus);
+    }
+
+    @Test
+    @DisplayName("Should not open a transaction when there is nothing to flush")
+    void should_skip_flush_when_nothing_is_pending() {
+        lastLoginWriteBehind.flush();
+
+        verifyNoInteractions(accountRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should keep pending logins when the flush fails and retry on the next flush")
+    void should_retry_pending_logins_after_failed_flush() {
+        final var accountId = UUID.randomUUID();
+        final var lastLogin = LocalDateTime.now();
+
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        doThrow(new QueryTimeoutException("timeout"))
+            .doReturn(1)
+            .when(accountRepository).updateLastLogin(accountId, lastLogin);
+
+        lastLoginWriteBehind.record(accountId, lastLogin);
+        lastLoginWriteBehind.flush();
+        lastLoginWriteBehind.flush();
+
+        verify(accountRepository, times(2)).updateLastLogin(accountId, lastLogin);
+        verify(transactionManager, times(1)).rollback(transactionStatus);
+        verify(transactionManager, times(1)).commit(transactionStatus);
+    }
+}
@@ -2,28 +2,28 @@ package com.buddy.api.units.domains.services.impl;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.buddy.api.builders.account.AccountBuilder;
+import com.buddy.api.commons.configurations.cache.AccountStatusCache;
+import com.buddy.api.commons.configurations.cache.UserDetailsCache;
 import com.buddy.api.commons.exceptions.AccountUnavailableException;
 import com.buddy.api.domains.account.dtos.AccountDto;
 import com.buddy.api.domains.account.entities.AccountEntity;
 import com.buddy.api.domains.account.mappers.AccountMapper;
 import com.buddy.api.domains.account.repositories.AccountRepository;
 import com.buddy.api.domains.account.services.FindAccount;
+import com.buddy.api.domains.account.services.impl.LastLoginWriteBehind;
 import com.buddy.api.domains.account.services.impl.UpdateAccountImpl;
 import com.buddy.api.units.UnitTestAbstract;
 import java.time.LocalDateTime;
 import java.util.UUID;
-import java.util.function.BiConsumer;
-import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
 import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -36,95 +36,71 @@ class UpdateAccountTest extends UnitTestAbstract {
     @Mock
     private FindAccount findAccount;
 
+    @Mock
+    private AccountStatusCache accountStatusCache;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private LastLoginWriteBehind lastLoginWriteBehind;
+
     @Spy
     private AccountMapper accountMapper = Mappers.getMapper(AccountMapper.class);
 
     @InjectMocks
     private UpdateAccountImpl updateAccount;
 
-    @DisplayName("Should update account properties successfully")
-    @ParameterizedTest(name = "Test case: {0}")
-    @MethodSource("updateAccountArgumentsProvider")
-    void should_update_account_properties_successfully(
-        final String testCaseName,
-        final BiConsumer<UpdateAccountImpl, String> action,
-        final LocalDateTime lastLogin,
-        final Boolean isVerified
-    ) {
+    @DisplayName("Should update isVerified status successfully")
+    @Test
+    void should_update_is_verified_successfully() {
         final AccountDto accountDto = AccountBuilder.validAccountDto().build();
         final String email = accountDto.email().value();
         final UUID accountId = accountDto.accountId();
 
         when(findAccount.findByEmail(email)).thenReturn(accountDto);
+        when(accountRepository.updateIsVerified(accountId, true)).thenReturn(1);
 
-        if (testCaseName.contains("last login")) {
-            when(accountRepository.updateLastLogin(accountId, lastLogin)).thenReturn(1);
-        } else {
-            when(accountRepository.updateIsVerified(accountId, isVerified)).thenReturn(1);
-        }
-
-        action.accept(updateAccount, email);
+        updateAccount.updateIsVerified(email, true);
 
         verify(findAccount, times(1)).findByEmail(email);
 
         verify(accountMapper, times(1))
             .toAccountEntityForUpdate(accountDto);
 
-        if (testCaseName.contains("last login")) {
-            verify(accountRepository, times(1))
-                .updateLastLogin(accountId, lastLogin);
-            verify(accountRepository, times(0))
-                .updateIsVerified(any(UUID.class), any(Boolean.class));
-        } else {
-            verify(accountRepository, times(1))
-                .updateIsVerified(accountId, isVerified);
-            verify(accountRepository, times(0))
-                .updateLastLogin(any(UUID.class), any(LocalDateTime.class));
-        }
+        verify(accountRepository, times(1))
+            .updateIsVerified(accountId, true);
+        verify(accountStatusCache, times(1)).evictAfterCommit(email);
+        verify(userDetailsCache, times(1)).evictAfterCommit(email);
 
         verify(accountRepository, times(0))
             .save(any(AccountEntity.class));
     }
 
-    private static Stream<Arguments> updateAccountArgumentsProvider() {
+    @DisplayName("Should hand last login to the write-behind buffer without touching the database")
+    @Test
+    void should_record_last_login_in_write_behind_buffer() {
+        final UUID accountId = UUID.randomUUID();
         final LocalDateTime lastLogin = LocalDateTime.now();
-        final boolean isVerified = true;
-
-        return Stream.of(
-            Arguments.of(
-                "Update last login",
-                (BiConsumer<UpdateAccountImpl, String>) (
-                    service,
-                    email
-                ) -> service.updateLastLogin(email, lastLogin),
-                lastLogin,
-                null
-            ),
-            Arguments.of(
-                "Update isVerified status",
-                (BiConsumer<UpdateAccountImpl, String>) (
-                    service,
-                    email
-                ) -> service.updateIsVerified(email, isVerified),
-                null,
-                isVerified
-            )
-        );
+
+        updateAccount.recordLastLogin(accountId, lastLogin);
+
+        verify(lastLoginWriteBehind, times(1)).record(accountId, lastLogin);
+        verifyNoInteractions(accountRepository, findAccount);
     }
 
     @DisplayName("Should throw AccountUnavailableException "
-        + "when account is not valid for updateLastLogin")
+        + "when account is not valid for updateIsVerified")
     @Test
-    void should_throw_account_unavailable_exception_for_update_last_login() {
+    void should_throw_account_unavailable_exception_for_update_is_verified() {
         final AccountDto accountDto = AccountBuilder.validAccountDto().build();
         final String email = accountDto.email().value();
         final UUID accountId = accountDto.accountId();
-        final LocalDateTime now = LocalDateTime.now();
 
         when(findAccount.findByEmail(email)).thenReturn(accountDto);
-        when(accountRepository.updateLastLogin(accountId, now)).thenReturn(0);
+        when(accountRepository.updateIsVerified(accountId, true)).thenReturn(0);
 
-        assertThatThrownBy(() -> updateAccount.updateLastLogin(email, now))
+        assertThatThrownBy(() -> updateAccount.updateIsVerified(email, true))
             .isInstanceOf(AccountUnavailableException.class)
             .hasMessageContaining("Account is not available");
 
@@ -134,30 +110,26 @@ class UpdateAccountTest extends UnitTestAbstract {
             .toAccountEntityForUpdate(accountDto);
 
         verify(accountRepository, times(1))
-            .updateLastLogin(accountId, now);
+            .updateIsVerified(accountId, true);
+
+        verify(accountStatusCache, never()).evictAfterCommit(any());
+        verifyNoInteractions(userDetailsCache);
     }
 
-    @DisplayName("Should throw AccountUnavailableException "
-        + "when account is not valid for updateIsVerified")
+    @DisplayName("Should bump the token epoch and evict the cached status when revoking tokens")
     @Test
-    void should_throw_account_unavailable_exception_for_update_is_verified() {
+    void should_increment_token_epoch_when_revoking_tokens() {
         final AccountDto accountDto = AccountBuilder.validAccountDto().build();
         final String email = accountDto.email().value();
         final UUID accountId = accountDto.accountId();
 
-        when(findAccount.findByEmail(email)).thenReturn(accountDto);
-        when(accountRepository.updateIsVerified(accountId, true)).thenReturn(0);
+        when(findAccount.findAccountForAuthentication(email)).thenReturn(accountDto);
+        when(accountRepository.incrementTokenEpoch(accountId)).thenReturn(1);
 
-        assertThatThrownBy(() -> updateAccount.updateIsVerified(email, true))
-            .isInstanceOf(AccountUnavailableException.class)
-            .hasMessageContaining("Account is not available");
-
-        verify(findAccount, times(1)).findByEmail(email);
-
-        verify(accountMapper, times(1))
-            .toAccountEntityForUpdate(accountDto);
+        updateAccount.revokeTokens(email);
 
-        verify(accountRepository, times(1))
-            .updateIsVerified(accountId, true);
+        verify(accountRepository, times(1)).incrementTokenEpoch(accountId);
+        verify(accountStatusCache, times(1)).evictAfterCommit(email);
+        verify(userDetailsCache, times(1)).evictAfterCommit(email);
     }
-}
\ No newline at end of file
+}